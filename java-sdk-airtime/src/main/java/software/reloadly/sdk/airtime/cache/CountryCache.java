@@ -0,0 +1,250 @@
+package software.reloadly.sdk.airtime.cache;
+
+import com.neovisionaries.i18n.CountryCode;
+import lombok.Builder;
+import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.airtime.dto.response.Operator;
+import software.reloadly.sdk.airtime.operation.CountryOperations;
+import software.reloadly.sdk.airtime.operation.OperatorOperations;
+import software.reloadly.sdk.core.cache.RefreshedTable;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.ObjectMapperUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Holds the countries, and optionally the country of every operator, so that this near static reference data is
+ * looked up locally.
+ * <p>
+ * The data is retrieved from the API on first use, unless a snapshot saved with
+ * {@link #saveSnapshot(OutputStream)} was loaded beforehand with {@link #loadSnapshot(InputStream)}, in which case
+ * lookups are served from the snapshot right away while it is revalidated in the background. The data is then
+ * retrieved again every {@link #DEFAULT_REFRESH_INTERVAL} by default, the previous data being kept if it fails.
+ */
+public class CountryCache extends RefreshedTable {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(24);
+
+    private final OperationsProvider<CountryOperations> countryOperationsProvider;
+    private final OperationsProvider<OperatorOperations> operatorOperationsProvider;
+    private volatile CountrySnapshot snapshot;
+
+    /**
+     * @param countryOperationsProvider  - Provides the country operations to retrieve the countries with,
+     *                                   e.g. {@code airtimeAPI::countries}
+     * @param operatorOperationsProvider - Provides the operator operations to retrieve the country of every
+     *                                   operator with, e.g. {@code airtimeAPI::operators}, may be null if the
+     *                                   operators aren't needed
+     * @param refreshInterval            - Interval between two background refreshes, zero to disable them
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public CountryCache(OperationsProvider<CountryOperations> countryOperationsProvider,
+                        OperationsProvider<OperatorOperations> operatorOperationsProvider,
+                        Duration refreshInterval) {
+
+        super(refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval, "reloadly-country-cache-refresh");
+        Asserter.assertNotNull(countryOperationsProvider, "Country operations provider");
+        this.countryOperationsProvider = countryOperationsProvider;
+        this.operatorOperationsProvider = operatorOperationsProvider;
+    }
+
+    public List<Country> list() throws ReloadlyException {
+        return getSnapshot().getCountries();
+    }
+
+    /**
+     * @param countryCode - The code of the country
+     * @return the country, or null if it isn't supported
+     * @throws ReloadlyException if the countries weren't retrieved yet and the request failed
+     */
+    public Country getByCode(CountryCode countryCode) throws ReloadlyException {
+        Asserter.assertNotNull(countryCode, "Country code");
+        return getSnapshot().getCountry(countryCode.getAlpha2());
+    }
+
+    /**
+     * @param countryCode - The code of the country
+     * @return the ids of the operators of the country, empty if the operators aren't cached
+     * @throws ReloadlyException if the data wasn't retrieved yet and the request failed
+     */
+    public Set<Long> getOperatorIds(CountryCode countryCode) throws ReloadlyException {
+        Asserter.assertNotNull(countryCode, "Country code");
+        return getSnapshot().getOperatorIds(countryCode.getAlpha2());
+    }
+
+    /**
+     * @param operatorId - The id of the operator
+     * @return the country of the operator, or null if the operator is unknown or the operators aren't cached
+     * @throws ReloadlyException if the data wasn't retrieved yet and the request failed
+     */
+    public Country getCountryOfOperator(Long operatorId) throws ReloadlyException {
+        Asserter.assertNotNull(operatorId, "Operator id");
+        CountrySnapshot snapshot = getSnapshot();
+        String countryCode = snapshot.getOperatorCountries().get(operatorId);
+        return countryCode == null ? null : snapshot.getCountry(countryCode);
+    }
+
+    /**
+     * Retrieves the country of an operator from the API, e.g. for an operator added since the cached data was
+     * retrieved, without changing the cached data.
+     *
+     * @param operatorId - The id of the operator
+     * @return the country of the operator, or null if the operator has no supported country
+     * @throws ReloadlyException if a request failed
+     */
+    public Country fetchCountryOfOperator(Long operatorId) throws ReloadlyException {
+        Asserter.assertNotNull(operatorId, "Operator id");
+        if (operatorOperationsProvider == null) {
+            throw new IllegalStateException("Operator operations are required to retrieve the country of operators");
+        }
+        Operator operator = operatorOperationsProvider.get().getById(operatorId).execute();
+        return operator.getCountry() == null ? null : getSnapshot().getCountry(operator.getCountry().getIsoName());
+    }
+
+    /**
+     * Retrieves the country of several operators from the API, the requests running concurrently, without changing
+     * the cached data.
+     *
+     * @param operatorIds - The ids of the operators
+     * @return the country of each operator the API knows, null if it has no supported country, the operators the API
+     * doesn't know being left out
+     * @throws ReloadlyException if a request failed for another reason than an unknown operator
+     */
+    public Map<Long, Country> fetchCountriesOfOperators(Collection<Long> operatorIds) throws ReloadlyException {
+        Asserter.assertNotNull(operatorIds, "Operator ids");
+        if (operatorOperationsProvider == null) {
+            throw new IllegalStateException("Operator operations are required to retrieve the country of operators");
+        }
+        CountrySnapshot snapshot = getSnapshot();
+        OperatorOperations operations = operatorOperationsProvider.get();
+        Map<Long, CompletableFuture<Operator>> operators = new HashMap<>();
+        for (Long operatorId : operatorIds) {
+            Asserter.assertNotNull(operatorId, "Operator id");
+            operators.computeIfAbsent(operatorId, key -> operations.getById(key).executeAsync());
+        }
+
+        Map<Long, Country> countries = new HashMap<>();
+        try {
+            for (Map.Entry<Long, CompletableFuture<Operator>> entry : operators.entrySet()) {
+                Operator operator = await(entry.getValue());
+                if (operator != null) {
+                    countries.put(entry.getKey(), operator.getCountry() == null ? null
+                            : snapshot.getCountry(operator.getCountry().getIsoName()));
+                }
+            }
+        } finally {
+            // Only the requests still running after a failure are cancelled
+            operators.values().forEach(future -> future.cancel(true));
+        }
+        return countries;
+    }
+
+    /**
+     * @return whether the country of every operator is cached, that is whether the cache was built with operator
+     * operations
+     */
+    public boolean isTrackingOperators() {
+        return operatorOperationsProvider != null;
+    }
+
+    /**
+     * Replaces the cached data with a snapshot written by {@link #saveSnapshot(OutputStream)}, and revalidates it
+     * in the background unless background refreshes are disabled.
+     *
+     * @param input - The snapshot, closed once read
+     * @throws IOException if the snapshot could not be read
+     */
+    public void loadSnapshot(InputStream input) throws IOException {
+        Asserter.assertNotNull(input, "Input");
+        snapshot = ObjectMapperUtil.readerFor(CountrySnapshot.class).readValue(input);
+        refreshInBackground();
+    }
+
+    /**
+     * Writes the cached data as JSON, retrieving it first if needed.
+     *
+     * @param output - Where to write the snapshot, closed once written
+     * @throws IOException       if the snapshot could not be written
+     * @throws ReloadlyException if the data wasn't retrieved yet and the request failed
+     */
+    public void saveSnapshot(OutputStream output) throws IOException, ReloadlyException {
+        Asserter.assertNotNull(output, "Output");
+        ObjectMapperUtil.writerFor(CountrySnapshot.class).writeValue(output, getSnapshot());
+    }
+
+    /**
+     * @return the time the cached data was retrieved from the API, or null if there is none yet
+     */
+    public Instant getRetrievedAt() {
+        CountrySnapshot snapshot = this.snapshot;
+        return snapshot == null ? null : Instant.ofEpochMilli(snapshot.getRetrievedAt());
+    }
+
+    /**
+     * Retrieves the data from the API and replaces the cached data with it.
+     *
+     * @return the number of countries retrieved
+     */
+    @Override
+    protected int load() throws ReloadlyException {
+        List<Country> countries = countryOperationsProvider.get().list().execute();
+        Map<Long, String> operatorCountries = new HashMap<>();
+        if (operatorOperationsProvider != null) {
+            List<Operator> operators = operatorOperationsProvider.get().listAll(null).fetchAll(CATALOG_PARALLELISM);
+            for (Operator operator : operators) {
+                if (operator.getId() != null && operator.getCountry() != null) {
+                    operatorCountries.put(operator.getId(), operator.getCountry().getIsoName());
+                }
+            }
+        }
+        snapshot = new CountrySnapshot(System.currentTimeMillis(), countries, operatorCountries);
+        return countries.size();
+    }
+
+    @Override
+    protected boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    private CountrySnapshot getSnapshot() throws ReloadlyException {
+        ensureLoaded();
+        return snapshot;
+    }
+
+    /**
+     * @return the operator, or null if the API doesn't know it
+     */
+    private static Operator await(CompletableFuture<Operator> future) throws ReloadlyException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReloadlyException("Interrupted while retrieving an operator", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof APIException && ((APIException) cause).getHttpStatusCode() == 404) {
+                return null;
+            } else if (cause instanceof ReloadlyException) {
+                throw (ReloadlyException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ReloadlyException("Failed to retrieve an operator", cause);
+        }
+    }
+}
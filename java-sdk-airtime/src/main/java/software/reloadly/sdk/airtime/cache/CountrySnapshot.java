@@ -0,0 +1,66 @@
+package software.reloadly.sdk.airtime.cache;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import software.reloadly.sdk.airtime.dto.response.Country;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The reference data held by a {@link CountryCache}, as written to and read from a JSON snapshot.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CountrySnapshot {
+
+    /**
+     * The time the data was retrieved from the API, in milliseconds since the epoch.
+     */
+    @Getter
+    private final long retrievedAt;
+
+    @Getter
+    private final List<Country> countries;
+
+    /**
+     * The ISO code of the country of each operator, by operator id. Empty when the operators aren't cached.
+     */
+    @Getter
+    private final Map<Long, String> operatorCountries;
+
+    @JsonIgnore
+    private final Map<String, Country> countriesByCode = new HashMap<>();
+
+    @JsonIgnore
+    private final Map<String, Set<Long>> operatorIdsByCountry = new HashMap<>();
+
+    @JsonCreator
+    public CountrySnapshot(@JsonProperty("retrievedAt") long retrievedAt,
+                           @JsonProperty("countries") List<Country> countries,
+                           @JsonProperty("operatorCountries") Map<Long, String> operatorCountries) {
+
+        this.retrievedAt = retrievedAt;
+        this.countries = countries == null ? Collections.emptyList() : Collections.unmodifiableList(countries);
+        this.operatorCountries = operatorCountries == null ? Collections.emptyMap() :
+                Collections.unmodifiableMap(operatorCountries);
+
+        this.countries.forEach(country -> countriesByCode.put(country.getIsoName(), country));
+        this.operatorCountries.forEach((operatorId, countryCode) ->
+                operatorIdsByCountry.computeIfAbsent(countryCode, key -> new HashSet<>()).add(operatorId));
+    }
+
+    Country getCountry(String countryCode) {
+        return countriesByCode.get(countryCode);
+    }
+
+    Set<Long> getOperatorIds(String countryCode) {
+        return Collections.unmodifiableSet(operatorIdsByCountry.getOrDefault(countryCode, Collections.emptySet()));
+    }
+}
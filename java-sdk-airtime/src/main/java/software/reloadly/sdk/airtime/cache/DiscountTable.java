@@ -0,0 +1,87 @@
+package software.reloadly.sdk.airtime.cache;
+
+import lombok.Builder;
+import software.reloadly.sdk.airtime.dto.response.Discount;
+import software.reloadly.sdk.airtime.operation.DiscountOperations;
+import software.reloadly.sdk.core.cache.SyncedRefreshedTable;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Holds the discount of every operator in memory, so that commissions are looked up locally on every transaction.
+ * <p>
+ * The discounts are retrieved from the API on first use, then again every {@link #DEFAULT_REFRESH_INTERVAL} by
+ * default. The API can't list only the discounts updated since a given time, so a refresh walks every page, but only
+ * the discounts whose {@link Discount#getUpdatedAt()} advanced replace the cached ones. The previous discounts are
+ * kept if a refresh fails.
+ */
+public class DiscountTable extends SyncedRefreshedTable<Discount> {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(1);
+
+    private final OperationsProvider<DiscountOperations> operationsProvider;
+
+    /**
+     * @param operationsProvider - Provides the discount operations to retrieve the discounts with,
+     *                           e.g. {@code airtimeAPI::discounts}
+     * @param refreshInterval    - Interval between two background refreshes, zero to disable them
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public DiscountTable(OperationsProvider<DiscountOperations> operationsProvider, Duration refreshInterval) {
+        super(refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval, "reloadly-discount-table-refresh",
+                "Operator id", DiscountTable::getOperatorId, DiscountTable::isNewer);
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        this.operationsProvider = operationsProvider;
+    }
+
+    /**
+     * @param operatorId - The id of the operator
+     * @return the discount of the operator, or null if it has none
+     * @throws ReloadlyException if the discounts weren't retrieved yet and the request failed
+     */
+    public Discount getByOperatorId(Long operatorId) throws ReloadlyException {
+        return getEntry(operatorId);
+    }
+
+    /**
+     * Retrieves the discount of a single operator from the API, e.g. once told it changed, and merges it into the
+     * table.
+     *
+     * @param operatorId - The id of the operator
+     * @return the discount of the operator
+     * @throws ReloadlyException if the request failed
+     */
+    public Discount refreshOperator(Long operatorId) throws ReloadlyException {
+        return refreshEntry(operatorId);
+    }
+
+    @Override
+    protected List<Discount> fetchAll() throws ReloadlyException {
+        return operationsProvider.get().listAll(null).fetchAll(CATALOG_PARALLELISM);
+    }
+
+    @Override
+    protected Discount fetch(Long operatorId) throws ReloadlyException {
+        return operationsProvider.get().getByOperatorId(operatorId).execute();
+    }
+
+    private static Long getOperatorId(Discount discount) {
+        return discount.getOperator() == null ? null : discount.getOperator().getId();
+    }
+
+    private static boolean isNewer(Discount discount, Discount cached) {
+        Date updatedAt = discount.getUpdatedAt();
+        Date cachedUpdatedAt = cached.getUpdatedAt();
+        if (updatedAt != null && cachedUpdatedAt != null && !updatedAt.equals(cachedUpdatedAt)) {
+            return updatedAt.after(cachedUpdatedAt);
+        }
+        // Same or unknown update time, only replaced if it differs anyway
+        return !discount.equals(cached);
+    }
+}
@@ -0,0 +1,208 @@
+package software.reloadly.sdk.airtime.cache;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import software.reloadly.sdk.airtime.dto.response.OperatorFxRate;
+import software.reloadly.sdk.airtime.operation.OperatorOperations;
+import software.reloadly.sdk.core.cache.CacheMetrics;
+import software.reloadly.sdk.core.cache.CacheOptions;
+import software.reloadly.sdk.core.cache.LoadingCache;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the quotes of {@link OperatorOperations#calculateFxRate(Long, Double)} for a short time, since pricing
+ * pages ask for many amounts of the same operator within seconds.
+ * <p>
+ * Each quote is cached for {@link #DEFAULT_TTL} by default, and concurrent requests for the same quote share a
+ * single call. Once {@link #MIN_AGREEING_QUOTES} quotes of different amounts of an operator agree on the rate, within
+ * {@link #LINEARITY_TOLERANCE}, the rate is considered linear and the quotes of the amounts between the smallest and
+ * the largest agreeing amounts are computed locally until it expires, rounded to the digits of the currency. Two
+ * agreeing quotes are not enough, since tiers or fees may agree at both ends of a range and differ in between.
+ * Quotes of amounts outside of that range are requested, and widen it when they agree too.
+ */
+public class FxQuoteCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    /**
+     * Maximum relative difference between the rates of two quotes for them to agree, absorbing the rounding of the
+     * quoted amounts.
+     */
+    public static final BigDecimal LINEARITY_TOLERANCE = new BigDecimal("0.0005");
+
+    /**
+     * Number of quotes of different amounts which must agree on the rate before quotes are computed locally.
+     */
+    public static final int MIN_AGREEING_QUOTES = 3;
+
+    private static final int DEFAULT_FRACTION_DIGITS = 2;
+
+    private final OperationsProvider<OperatorOperations> operationsProvider;
+    private final Duration ttl;
+    private final LoadingCache<QuoteKey, OperatorFxRate> quotes;
+    private final ConcurrentMap<Long, UnitRate> unitRates = new ConcurrentHashMap<>();
+    private final LongAdder computedQuoteCount = new LongAdder();
+
+    /**
+     * @param operationsProvider - Provides the operator operations to request the quotes with,
+     *                           e.g. {@code airtimeAPI::operators}
+     * @param ttl                - How long a quote, and the rate derived from it, is used
+     * @param maxSize            - Maximum number of quotes cached
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public FxQuoteCache(OperationsProvider<OperatorOperations> operationsProvider, Duration ttl, Integer maxSize) {
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        this.operationsProvider = operationsProvider;
+        this.ttl = ttl == null ? DEFAULT_TTL : ttl;
+        quotes = new LoadingCache<>(this::requestQuote, CacheOptions.builder().ttl(this.ttl).staleTtl(Duration.ZERO)
+                .maxSize(maxSize == null ? DEFAULT_MAX_SIZE : maxSize).build());
+    }
+
+    /**
+     * @param operatorId - The id of the operator
+     * @param amount     - The amount to convert
+     * @return the quote, cached, computed from a linear rate or requested
+     * @throws ReloadlyException if the quote had to be requested and the request failed
+     */
+    public OperatorFxRate calculateFxRate(Long operatorId, Double amount) throws ReloadlyException {
+        Asserter.assertNotNull(operatorId, "Operator id");
+        Asserter.assertGreaterThanZero(operatorId, "Operator id");
+        Asserter.assertNotNull(amount, "Amount");
+        Asserter.assertGreaterThanZero(amount, "Amount");
+
+        BigDecimal exactAmount = BigDecimal.valueOf(amount).stripTrailingZeros();
+        UnitRate unitRate = unitRates.get(operatorId);
+        if (unitRate != null && unitRate.linear && !unitRate.isExpired(System.nanoTime())
+                && unitRate.covers(exactAmount)) {
+            computedQuoteCount.increment();
+            return new OperatorFxRate(operatorId, unitRate.operatorName, unitRate.convert(exactAmount).floatValue(),
+                    unitRate.currencyCode);
+        }
+        return quotes.get(new QuoteKey(operatorId, exactAmount));
+    }
+
+    /**
+     * @param operatorId - The id of the operator
+     * @return whether some quotes of the operator are currently computed locally
+     */
+    public boolean isLinear(Long operatorId) {
+        UnitRate unitRate = unitRates.get(operatorId);
+        return unitRate != null && unitRate.linear && !unitRate.isExpired(System.nanoTime());
+    }
+
+    public void invalidateAll() {
+        quotes.invalidateAll();
+        unitRates.clear();
+    }
+
+    /**
+     * @return the metrics of the quotes cached as requested
+     */
+    public CacheMetrics getQuoteMetrics() {
+        return quotes.getMetrics();
+    }
+
+    /**
+     * @return the number of quotes computed locally from a linear rate
+     */
+    public long getComputedQuoteCount() {
+        return computedQuoteCount.sum();
+    }
+
+    private OperatorFxRate requestQuote(QuoteKey key) throws ReloadlyException {
+        OperatorFxRate quote = operationsProvider.get().calculateFxRate(key.operatorId, key.amount.doubleValue())
+                .execute();
+        long now = System.nanoTime();
+        unitRates.compute(key.operatorId, (operatorId, current) -> UnitRate.next(current, key.amount, quote,
+                now, now + ttl.toNanos()));
+        return quote;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class QuoteKey {
+        private final Long operatorId;
+        private final BigDecimal amount;
+    }
+
+    /**
+     * The rate of an operator, derived from quoted amounts.
+     */
+    @RequiredArgsConstructor
+    private static class UnitRate {
+
+        private final BigDecimal rate;
+        // The smallest and largest quoted amounts which agree on the rate
+        private final BigDecimal minAmount;
+        private final BigDecimal maxAmount;
+        private final String operatorName;
+        private final String currencyCode;
+        private final int fractionDigits;
+        // Number of quotes of different amounts which agree on the rate
+        private final int agreeingQuotes;
+        private final boolean linear;
+        private final long expiresAtNanos;
+
+        private UnitRate(BigDecimal rate, BigDecimal minAmount, BigDecimal maxAmount, OperatorFxRate quote,
+                         int agreeingQuotes, long expiresAtNanos) {
+            this(rate, minAmount, maxAmount, quote.getOperatorName(), quote.getCurrencyCode(),
+                    getFractionDigits(quote.getCurrencyCode()), agreeingQuotes,
+                    agreeingQuotes >= MIN_AGREEING_QUOTES, expiresAtNanos);
+        }
+
+        private static UnitRate next(UnitRate current, BigDecimal amount, OperatorFxRate quote, long now,
+                                     long expiresAtNanos) {
+
+            // The float of the response is converted through its shortest representation, as it was sent
+            BigDecimal rate = new BigDecimal(Float.toString(quote.getFxRate())).divide(amount, MathContext.DECIMAL64);
+            if (current != null && !current.isExpired(now) && current.agrees(rate)) {
+                // A quote of an amount already agreeing, requested again, doesn't confirm the rate any further
+                boolean newAmount = amount.compareTo(current.minAmount) != 0
+                        && amount.compareTo(current.maxAmount) != 0;
+                return new UnitRate(current.rate, current.minAmount.min(amount), current.maxAmount.max(amount), quote,
+                        newAmount ? current.agreeingQuotes + 1 : current.agreeingQuotes, expiresAtNanos);
+            }
+            return new UnitRate(rate, amount, amount, quote, 1, expiresAtNanos);
+        }
+
+        private boolean agrees(BigDecimal rate) {
+            return rate.subtract(this.rate).abs().compareTo(LINEARITY_TOLERANCE.multiply(this.rate.abs())) <= 0;
+        }
+
+        private boolean covers(BigDecimal amount) {
+            return amount.compareTo(minAmount) >= 0 && amount.compareTo(maxAmount) <= 0;
+        }
+
+        private BigDecimal convert(BigDecimal amount) {
+            return amount.multiply(rate).setScale(fractionDigits, RoundingMode.HALF_UP);
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        private static int getFractionDigits(String currencyCode) {
+            try {
+                int fractionDigits = currencyCode == null ? -1 :
+                        Currency.getInstance(currencyCode).getDefaultFractionDigits();
+                return fractionDigits < 0 ? DEFAULT_FRACTION_DIGITS : fractionDigits;
+            } catch (IllegalArgumentException e) {
+                return DEFAULT_FRACTION_DIGITS;
+            }
+        }
+    }
+}
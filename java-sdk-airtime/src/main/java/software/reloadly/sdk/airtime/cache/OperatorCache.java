@@ -0,0 +1,278 @@
+package software.reloadly.sdk.airtime.cache;
+
+import com.neovisionaries.i18n.CountryCode;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import software.reloadly.sdk.airtime.dto.response.Operator;
+import software.reloadly.sdk.airtime.filter.OperatorFilter;
+import software.reloadly.sdk.airtime.operation.OperatorOperations;
+import software.reloadly.sdk.core.cache.CacheLoader;
+import software.reloadly.sdk.core.cache.CacheMetrics;
+import software.reloadly.sdk.core.cache.CacheOptions;
+import software.reloadly.sdk.core.cache.LoadingCache;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caches the operators looked up by id and by country, so that repeated lookups don't go to the network.
+ * <p>
+ * The operators returned by the API depend on the flags of the {@link OperatorFilter} (bundles, data, pin based
+ * operators, suggested amounts...), so each distinct combination of flags is cached separately. The page and size
+ * of the filters are ignored.
+ * <p>
+ * Missing entries are loaded with a single request. Once stale, entries keep being served while they are fetched
+ * again in the background: a single operator with a single request, and a country with the whole catalog of its
+ * filter from the paged list endpoint, refreshing every cached operator and country of that filter at once. See
+ * {@link CacheOptions} for the lifecycle of the entries.
+ */
+public class OperatorCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    public static final Duration DEFAULT_STALE_TTL = Duration.ofHours(23);
+
+    static final int CATALOG_PARALLELISM = 4;
+
+    private static final String QUERY_PARAMETER_PAGE = "page";
+    private static final String QUERY_PARAMETER_PAGE_SIZE = "size";
+
+    private final OperationsProvider<OperatorOperations> operationsProvider;
+    private final LoadingCache<OperatorKey, Operator> operators;
+    private final LoadingCache<CountryKey, List<Operator>> countries;
+    private final ConcurrentMap<View, CompletableFuture<Catalog>> catalogsInFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param operationsProvider - Provides the operator operations to load the operators with,
+     *                           e.g. {@code airtimeAPI::operators}
+     * @param options            - Lifecycle of the entries, by default fresh for {@link #DEFAULT_TTL} and then
+     *                           served stale for {@link #DEFAULT_STALE_TTL}
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public OperatorCache(OperationsProvider<OperatorOperations> operationsProvider, CacheOptions options) {
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        this.operationsProvider = operationsProvider;
+        if (options == null) {
+            options = CacheOptions.builder().ttl(DEFAULT_TTL).staleTtl(DEFAULT_STALE_TTL).build();
+        }
+        operators = new LoadingCache<>(new CacheLoader<OperatorKey, Operator>() {
+            @Override
+            public Operator load(OperatorKey key) throws ReloadlyException {
+                return loadOperator(key);
+            }
+
+        }, options);
+        countries = new LoadingCache<>(new CacheLoader<CountryKey, List<Operator>>() {
+            @Override
+            public List<Operator> load(CountryKey key) throws ReloadlyException {
+                return loadCountry(key);
+            }
+
+            @Override
+            public List<Operator> reload(CountryKey key, List<Operator> oldValue) throws ReloadlyException {
+                return refreshCatalog(key.view).operatorsByCountry.getOrDefault(key.countryCode,
+                        Collections.emptyList());
+            }
+        }, options);
+    }
+
+    public Operator getById(Long operatorId) throws ReloadlyException {
+        return getById(operatorId, null);
+    }
+
+    /**
+     * @param operatorId - The id of the operator
+     * @param filter     - The filter the operator is looked up with, may be null
+     * @return the operator, as returned by {@link OperatorOperations#getById(Long, OperatorFilter)}
+     * @throws ReloadlyException if the operator wasn't cached and could not be retrieved
+     */
+    public Operator getById(Long operatorId, OperatorFilter filter) throws ReloadlyException {
+        Asserter.assertNotNull(operatorId, "Operator id");
+        Asserter.assertGreaterThanZero(operatorId, "Operator id");
+        return operators.get(new OperatorKey(operatorId, View.of(filter)));
+    }
+
+    public List<Operator> listByCountryCode(CountryCode countryCode) throws ReloadlyException {
+        return listByCountryCode(countryCode, null);
+    }
+
+    /**
+     * @param countryCode - The country to list the operators of
+     * @param filter      - The filter the operators are looked up with, may be null
+     * @return the operators of the country, as returned by
+     * {@link OperatorOperations#listByCountryCode(CountryCode, OperatorFilter)}
+     * @throws ReloadlyException if the operators weren't cached and could not be retrieved
+     */
+    public List<Operator> listByCountryCode(CountryCode countryCode, OperatorFilter filter)
+            throws ReloadlyException {
+
+        Asserter.assertNotNull(countryCode, "Country code");
+        return countries.get(new CountryKey(countryCode.getAlpha2(), View.of(filter)));
+    }
+
+    /**
+     * Fetches the whole catalog of the given filter from the paged list endpoint and caches every operator and
+     * country it contains, e.g. to warm the cache up at startup.
+     *
+     * @param filter - The filter to fetch the catalog with, may be null
+     * @return the operators of the catalog
+     * @throws ReloadlyException if the catalog could not be retrieved
+     */
+    public List<Operator> preload(OperatorFilter filter) throws ReloadlyException {
+        return new ArrayList<>(refreshCatalog(View.of(filter)).operatorsById.values());
+    }
+
+    public void invalidateAll() {
+        operators.invalidateAll();
+        countries.invalidateAll();
+    }
+
+    /**
+     * @return the metrics of the lookups by operator id
+     */
+    public CacheMetrics getOperatorMetrics() {
+        return operators.getMetrics();
+    }
+
+    /**
+     * @return the metrics of the lookups by country
+     */
+    public CacheMetrics getCountryMetrics() {
+        return countries.getMetrics();
+    }
+
+    private Operator loadOperator(OperatorKey key) throws ReloadlyException {
+        OperatorOperations operations = operationsProvider.get();
+        OperatorFilter filter = key.view.toFilter();
+        return (filter == null ? operations.getById(key.operatorId) : operations.getById(key.operatorId, filter))
+                .execute();
+    }
+
+    private List<Operator> loadCountry(CountryKey key) throws ReloadlyException {
+        OperatorOperations operations = operationsProvider.get();
+        OperatorFilter filter = key.view.toFilter();
+        CountryCode countryCode = CountryCode.getByAlpha2Code(key.countryCode);
+        List<Operator> operators = (filter == null ? operations.listByCountryCode(countryCode) :
+                operations.listByCountryCode(countryCode, filter)).execute();
+        return Collections.unmodifiableList(operators);
+    }
+
+    /**
+     * Fetches the catalog of the given view unless it is already being fetched, in which case the in-flight fetch
+     * is awaited, and caches its content.
+     */
+    private Catalog refreshCatalog(View view) throws ReloadlyException {
+        CompletableFuture<Catalog> future = new CompletableFuture<>();
+        CompletableFuture<Catalog> current = catalogsInFlight.putIfAbsent(view, future);
+        if (current != null) {
+            return await(current);
+        }
+
+        try {
+            Catalog catalog = new Catalog(operationsProvider.get().listAll(view.toFilter())
+                    .fetchAll(CATALOG_PARALLELISM));
+            catalog.operatorsById.forEach((operatorId, operator) ->
+                    operators.put(new OperatorKey(operatorId, view), operator));
+            catalog.operatorsByCountry.forEach((countryCode, countryOperators) ->
+                    countries.put(new CountryKey(countryCode, view), countryOperators));
+            future.complete(catalog);
+            return catalog;
+        } catch (ReloadlyException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            catalogsInFlight.remove(view, future);
+        }
+    }
+
+    private Catalog await(CompletableFuture<Catalog> future) throws ReloadlyException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReloadlyException("Interrupted while fetching the operators", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ReloadlyException) {
+                throw (ReloadlyException) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    /**
+     * The query parameters of a filter which affect the operators returned.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class View {
+
+        // Null when no filter is used, the API then applies its own defaults
+        private final Map<String, Object> parameters;
+
+        private static View of(OperatorFilter filter) {
+            if (filter == null) {
+                return new View(null);
+            }
+            Map<String, Object> parameters = new HashMap<>(filter.getParameters());
+            parameters.remove(QUERY_PARAMETER_PAGE);
+            parameters.remove(QUERY_PARAMETER_PAGE_SIZE);
+            return new View(Collections.unmodifiableMap(parameters));
+        }
+
+        private OperatorFilter toFilter() {
+            if (parameters == null) {
+                return null;
+            }
+            OperatorFilter filter = new OperatorFilter();
+            filter.getParameters().clear();
+            filter.getParameters().putAll(parameters);
+            return filter;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class OperatorKey {
+        private final Long operatorId;
+        private final View view;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class CountryKey {
+        private final String countryCode;
+        private final View view;
+    }
+
+    private static class Catalog {
+
+        private final Map<Long, Operator> operatorsById = new HashMap<>();
+        private final Map<String, List<Operator>> operatorsByCountry = new HashMap<>();
+
+        private Catalog(List<Operator> operators) {
+            Map<String, List<Operator>> operatorsByCountry = new HashMap<>();
+            for (Operator operator : operators) {
+                operatorsById.put(operator.getId(), operator);
+                if (operator.getCountry() != null && operator.getCountry().getIsoName() != null) {
+                    operatorsByCountry.computeIfAbsent(operator.getCountry().getIsoName(), key -> new ArrayList<>())
+                            .add(operator);
+                }
+            }
+            operatorsByCountry.forEach((countryCode, countryOperators) ->
+                    this.operatorsByCountry.put(countryCode, Collections.unmodifiableList(countryOperators)));
+        }
+    }
+}
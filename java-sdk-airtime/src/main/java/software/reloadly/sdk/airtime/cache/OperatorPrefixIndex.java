@@ -0,0 +1,348 @@
+package software.reloadly.sdk.airtime.cache;
+
+import com.neovisionaries.i18n.CountryCode;
+import lombok.Builder;
+import software.reloadly.sdk.airtime.dto.response.Operator;
+import software.reloadly.sdk.airtime.filter.OperatorFilter;
+import software.reloadly.sdk.airtime.operation.OperatorOperations;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answers {@link OperatorOperations#autoDetect(String, CountryCode, OperatorFilter)} locally when the operator of a
+ * phone number can be told from previous detections, and calls the API otherwise.
+ * <p>
+ * Every detection is recorded in a per country trie of phone number prefixes. By default, a number is answered
+ * locally only when it was detected before. A country served by a single operator according to the catalog (see
+ * {@link #addCatalog(CountryCode, List)}) is answered locally for every number.
+ * <p>
+ * Numbers are ported between operators and prefixes are shared by several operators in many markets, so inferring
+ * the operator of a new number from its prefix is opt-in. With {@code inferFromPrefixes}, a new number is also
+ * answered locally when one of its prefixes of at least {@link #DEFAULT_MIN_PREFIX_LENGTH} digits, country calling
+ * code included, was seen {@link #DEFAULT_MIN_OBSERVATIONS} times, always with the same operator. One such answer
+ * in {@link #DEFAULT_VERIFICATION_INTERVAL}, starting with the first, is detected by the API instead, and the
+ * prefixes of the number are no longer trusted if the API disagrees.
+ * <p>
+ * Operators are detected with the filter given at construction, use one index per filter. Once the index holds
+ * its maximum number of nodes, new numbers are no longer recorded.
+ * <p>
+ * The trie only holds operator ids. The operators themselves are kept for {@link #DEFAULT_OPERATOR_TTL} by default
+ * after being detected or registered, then the numbers of an expired operator are detected by the API again, which
+ * keeps the operator anew.
+ */
+public class OperatorPrefixIndex {
+
+    public static final int DEFAULT_MIN_PREFIX_LENGTH = 7;
+    public static final int DEFAULT_MIN_OBSERVATIONS = 3;
+    public static final int DEFAULT_VERIFICATION_INTERVAL = 10;
+    public static final int DEFAULT_MAX_NODES_PER_COUNTRY = 100_000;
+    public static final Duration DEFAULT_OPERATOR_TTL = Duration.ofHours(1);
+
+    private final OperationsProvider<OperatorOperations> operationsProvider;
+    private final OperatorFilter filter;
+    private final boolean inferFromPrefixes;
+    private final int minPrefixLength;
+    private final int minObservations;
+    private final int maxNodesPerCountry;
+    private final long operatorTtlNanos;
+    private final int verificationInterval;
+
+    private final Map<String, CountryIndex> countries = new ConcurrentHashMap<>();
+    private final Map<Long, KeptOperator> operators = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final AtomicLong prefixAnswerCount = new AtomicLong();
+    private final LongAdder failedVerificationCount = new LongAdder();
+
+    /**
+     * @param operationsProvider - Provides the operator operations to detect the operators with on a miss,
+     *                           e.g. {@code airtimeAPI::operators}
+     * @param filter               - The filter to detect the operators with, may be null
+     * @param inferFromPrefixes    - Whether new numbers are answered from the trusted prefixes, false by default
+     * @param minPrefixLength      - Minimum number of digits of a prefix to be trusted
+     * @param minObservations      - Number of agreeing detections a prefix needs to be trusted
+     * @param verificationInterval - One answer from a prefix in this many is detected by the API instead, 1 to
+     *                             detect them all
+     * @param maxNodesPerCountry   - Maximum number of trie nodes per country
+     * @param operatorTtl          - How long an operator is kept after being detected or registered
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public OperatorPrefixIndex(OperationsProvider<OperatorOperations> operationsProvider, OperatorFilter filter,
+                               Boolean inferFromPrefixes, Integer minPrefixLength, Integer minObservations,
+                               Integer verificationInterval, Integer maxNodesPerCountry, Duration operatorTtl) {
+
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        this.operationsProvider = operationsProvider;
+        this.filter = filter;
+        this.inferFromPrefixes = inferFromPrefixes != null && inferFromPrefixes;
+        this.minPrefixLength = minPrefixLength == null ? DEFAULT_MIN_PREFIX_LENGTH : minPrefixLength;
+        this.minObservations = minObservations == null ? DEFAULT_MIN_OBSERVATIONS : minObservations;
+        this.verificationInterval = verificationInterval == null ? DEFAULT_VERIFICATION_INTERVAL :
+                verificationInterval;
+        this.maxNodesPerCountry = maxNodesPerCountry == null ? DEFAULT_MAX_NODES_PER_COUNTRY : maxNodesPerCountry;
+        if (operatorTtl == null) {
+            operatorTtl = DEFAULT_OPERATOR_TTL;
+        }
+
+        if (this.minPrefixLength <= 0) {
+            throw new IllegalArgumentException("Min prefix length must be greater than zero");
+        }
+        if (this.minObservations <= 0) {
+            throw new IllegalArgumentException("Min observations must be greater than zero");
+        }
+        if (this.verificationInterval <= 0) {
+            throw new IllegalArgumentException("Verification interval must be greater than zero");
+        }
+        if (this.maxNodesPerCountry <= 1) {
+            throw new IllegalArgumentException("Max nodes per country must be greater than one");
+        }
+        if (operatorTtl.isNegative() || operatorTtl.isZero()) {
+            throw new IllegalArgumentException("Operator TTL must be greater than zero");
+        }
+        this.operatorTtlNanos = operatorTtl.toNanos();
+    }
+
+    /**
+     * Detects the operator of the given phone number, locally if possible.
+     *
+     * @param phone       - The phone number, in international format
+     * @param countryCode - The country of the phone number
+     * @return the operator of the phone number
+     * @throws ReloadlyException if the operator had to be detected by the API and the request failed
+     */
+    public Operator autoDetect(String phone, CountryCode countryCode) throws ReloadlyException {
+        String digits = validatePhoneAndCountryCode(phone, countryCode);
+        CountryIndex index = countries.get(countryCode.getAlpha2());
+        Operator operator = index == null ? null : getOperator(index.lookupNumber(digits));
+        if (operator == null && index != null && inferFromPrefixes) {
+            operator = getOperator(index.lookupPrefix(digits));
+            if (operator != null && (prefixAnswerCount.getAndIncrement() % verificationInterval) == 0) {
+                missCount.increment();
+                Operator detected = detect(phone, countryCode);
+                if (detected == null || !operator.getId().equals(detected.getId())) {
+                    failedVerificationCount.increment();
+                    index.evictPrefixes(digits);
+                }
+                record(phone, countryCode, detected);
+                return detected;
+            }
+        }
+        if (operator != null) {
+            hitCount.increment();
+            return operator;
+        }
+
+        missCount.increment();
+        operator = detect(phone, countryCode);
+        record(phone, countryCode, operator);
+        return operator;
+    }
+
+    /**
+     * Tells the operator of a phone number locally, without verifying the answers inferred from a prefix.
+     *
+     * @param phone       - The phone number, in international format
+     * @param countryCode - The country of the phone number
+     * @return the operator of the phone number if it can be told locally and hasn't expired, else null
+     */
+    public Operator lookup(String phone, CountryCode countryCode) {
+        String digits = validatePhoneAndCountryCode(phone, countryCode);
+        CountryIndex index = countries.get(countryCode.getAlpha2());
+        if (index == null) {
+            return null;
+        }
+        Operator operator = getOperator(index.lookupNumber(digits));
+        if (operator == null && inferFromPrefixes) {
+            operator = getOperator(index.lookupPrefix(digits));
+        }
+        return operator;
+    }
+
+    /**
+     * Records the operator a phone number was detected with, e.g. by a call to the API made elsewhere.
+     *
+     * @param phone       - The phone number, in international format
+     * @param countryCode - The country of the phone number
+     * @param operator    - The operator detected for the phone number
+     */
+    public void record(String phone, CountryCode countryCode, Operator operator) {
+        String digits = validatePhoneAndCountryCode(phone, countryCode);
+        if (operator == null || operator.getId() == null) {
+            return;
+        }
+        if (getCountryIndex(countryCode).record(digits, operator.getId())) {
+            keep(operator);
+        }
+    }
+
+    /**
+     * Registers the operators of a country, as listed with the filter of this index. A country with a single
+     * operator is answered locally for every number, otherwise the operators are only kept to answer lookups.
+     *
+     * @param countryCode - The country of the operators
+     * @param operators   - Every operator of the country
+     */
+    public void addCatalog(CountryCode countryCode, List<Operator> operators) {
+        Asserter.assertNotNull(countryCode, "Country code");
+        Asserter.assertNotNull(operators, "Operators");
+        operators.stream().filter(operator -> operator.getId() != null).forEach(this::keep);
+        getCountryIndex(countryCode).singleOperatorId = operators.size() == 1 && operators.get(0).getId() != null ?
+                operators.get(0).getId() : PrefixTrie.NONE;
+    }
+
+    /**
+     * @return the number of detections answered locally
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of detections which had to call the API
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of answers inferred from a prefix which the API contradicted
+     */
+    public long getFailedVerificationCount() {
+        return failedVerificationCount.sum();
+    }
+
+    /**
+     * @return the ratio of detections answered locally, or 0 if there was none
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long detections = hits + missCount.sum();
+        return detections == 0 ? 0 : (double) hits / detections;
+    }
+
+    private Operator detect(String phone, CountryCode countryCode) throws ReloadlyException {
+        OperatorOperations operations = operationsProvider.get();
+        return (filter == null ? operations.autoDetect(phone, countryCode) :
+                operations.autoDetect(phone, countryCode, filter)).execute();
+    }
+
+    private Operator getOperator(long operatorId) {
+        if (operatorId == PrefixTrie.NONE) {
+            return null;
+        }
+        KeptOperator kept = operators.get(operatorId);
+        if (kept == null || kept.isExpired(System.nanoTime())) {
+            return null;
+        }
+        return kept.operator;
+    }
+
+    private void keep(Operator operator) {
+        long now = System.nanoTime();
+        if (operators.put(operator.getId(), new KeptOperator(operator, now + operatorTtlNanos)) == null) {
+            // Operators no number resolves to anymore are only dropped here, when the set of operators grows
+            operators.values().removeIf(kept -> kept.isExpired(now));
+        }
+    }
+
+    private CountryIndex getCountryIndex(CountryCode countryCode) {
+        return countries.computeIfAbsent(countryCode.getAlpha2(),
+                key -> new CountryIndex(new PrefixTrie(minPrefixLength, maxNodesPerCountry)));
+    }
+
+    private static String toDigits(String phone) {
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private static String validatePhoneAndCountryCode(String phone, CountryCode countryCode) {
+        Asserter.assertNotBlank(phone, "Phone");
+        Asserter.assertNotNull(countryCode, "Country code");
+        String digits = toDigits(phone);
+        if (digits.isEmpty()) {
+            throw new IllegalArgumentException("'Phone' must contain digits!");
+        }
+        return digits;
+    }
+
+    private static class KeptOperator {
+
+        private final Operator operator;
+        private final long expiresAtNanos;
+
+        private KeptOperator(Operator operator, long expiresAtNanos) {
+            this.operator = operator;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    private class CountryIndex {
+
+        private final PrefixTrie trie;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile long singleOperatorId = PrefixTrie.NONE;
+
+        private CountryIndex(PrefixTrie trie) {
+            this.trie = trie;
+        }
+
+        private long lookupNumber(String digits) {
+            long operatorId;
+            lock.readLock().lock();
+            try {
+                operatorId = trie.lookupNumber(digits);
+            } finally {
+                lock.readLock().unlock();
+            }
+            return operatorId == PrefixTrie.NONE ? singleOperatorId : operatorId;
+        }
+
+        private long lookupPrefix(String digits) {
+            lock.readLock().lock();
+            try {
+                return trie.lookupPrefix(digits, minObservations);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void evictPrefixes(String digits) {
+            lock.writeLock().lock();
+            try {
+                trie.evictPrefixes(digits);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private boolean record(String digits, long operatorId) {
+            lock.writeLock().lock();
+            try {
+                return trie.record(digits, operatorId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
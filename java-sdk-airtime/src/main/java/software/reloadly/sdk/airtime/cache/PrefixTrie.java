@@ -0,0 +1,156 @@
+package software.reloadly.sdk.airtime.cache;
+
+import java.util.Arrays;
+
+/**
+ * A trie of decimal digits mapping phone number prefixes to operator ids, stored in primitive arrays so that
+ * hundreds of thousands of nodes stay compact. Not thread safe.
+ * <p>
+ * Every prefix of at least {@code minPrefixLength} digits of a newly recorded number counts an observation of its
+ * operator, or is marked conflicting once two operators have been observed for it. The full number remembers the
+ * operator it was last recorded with.
+ */
+class PrefixTrie {
+
+    static final long NONE = 0;
+    private static final long CONFLICT = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int minPrefixLength;
+    private final int maxNodes;
+
+    // Child of node n for digit d at n * 10 + d, 0 when absent since the root is never a child
+    private int[] children;
+    private long[] prefixOperatorIds;
+    private int[] observations;
+    private long[] numberOperatorIds;
+    private int size = 1;
+
+    PrefixTrie(int minPrefixLength, int maxNodes) {
+        this.minPrefixLength = minPrefixLength;
+        this.maxNodes = maxNodes;
+        int capacity = Math.min(INITIAL_CAPACITY, maxNodes);
+        children = new int[capacity * 10];
+        prefixOperatorIds = new long[capacity];
+        observations = new int[capacity];
+        numberOperatorIds = new long[capacity];
+    }
+
+    /**
+     * @param digits     - The digits of the phone number
+     * @param operatorId - The operator the number belongs to
+     * @return false if the trie is full and the number could not be recorded, the trie is then left unchanged
+     */
+    boolean record(String digits, long operatorId) {
+        // Walk the nodes the number already has, to check the missing ones fit before changing anything
+        int node = 0;
+        int depth = 0;
+        while (depth < digits.length()) {
+            int child = children[node * 10 + (digits.charAt(depth) - '0')];
+            if (child == 0) {
+                break;
+            }
+            node = child;
+            depth++;
+        }
+        if (maxNodes - size < digits.length() - depth) {
+            return false;
+        }
+
+        // Recording a known number again isn't a new observation, or repeating it would get its prefixes trusted
+        if (depth < digits.length() || numberOperatorIds[node] == NONE) {
+            node = 0;
+            for (int i = 0; i < digits.length(); i++) {
+                int slot = node * 10 + (digits.charAt(i) - '0');
+                int child = children[slot];
+                if (child == 0) {
+                    child = newNode();
+                    children[slot] = child;
+                }
+                node = child;
+
+                if (i + 1 >= minPrefixLength) {
+                    long current = prefixOperatorIds[node];
+                    if (current == NONE) {
+                        prefixOperatorIds[node] = operatorId;
+                    } else if (current != operatorId) {
+                        prefixOperatorIds[node] = CONFLICT;
+                    }
+                    observations[node]++;
+                }
+            }
+        }
+        numberOperatorIds[node] = operatorId;
+        return true;
+    }
+
+    /**
+     * @param digits - The digits of the phone number
+     * @return the operator the number was last recorded with, else {@link #NONE}
+     */
+    long lookupNumber(String digits) {
+        int node = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            node = children[node * 10 + (digits.charAt(i) - '0')];
+            if (node == 0) {
+                return NONE;
+            }
+        }
+        return numberOperatorIds[node];
+    }
+
+    /**
+     * @param digits          - The digits of the phone number
+     * @param minObservations - The number of agreeing observations a prefix needs to be trusted
+     * @return the operator of the longest trusted prefix of the number, else {@link #NONE}
+     */
+    long lookupPrefix(String digits, int minObservations) {
+        int node = 0;
+        long operatorId = NONE;
+        for (int i = 0; i < digits.length(); i++) {
+            node = children[node * 10 + (digits.charAt(i) - '0')];
+            if (node == 0) {
+                return operatorId;
+            }
+            // A longer prefix may be unambiguous even though a shorter one is shared by several operators
+            if (i + 1 >= minPrefixLength && prefixOperatorIds[node] != CONFLICT
+                    && observations[node] >= minObservations) {
+                operatorId = prefixOperatorIds[node];
+            }
+        }
+        return operatorId;
+    }
+
+    /**
+     * Marks every prefix of the number the trie holds as conflicting, so that none of them is trusted anymore.
+     *
+     * @param digits - The digits of the phone number
+     */
+    void evictPrefixes(String digits) {
+        int node = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            node = children[node * 10 + (digits.charAt(i) - '0')];
+            if (node == 0) {
+                return;
+            }
+            if (i + 1 >= minPrefixLength) {
+                prefixOperatorIds[node] = CONFLICT;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int newNode() {
+        if (size == prefixOperatorIds.length) {
+            int capacity = Math.min(prefixOperatorIds.length * 2, maxNodes);
+            children = Arrays.copyOf(children, capacity * 10);
+            prefixOperatorIds = Arrays.copyOf(prefixOperatorIds, capacity);
+            observations = Arrays.copyOf(observations, capacity);
+            numberOperatorIds = Arrays.copyOf(numberOperatorIds, capacity);
+        }
+        return size++;
+    }
+}
@@ -0,0 +1,215 @@
+package software.reloadly.sdk.airtime.cache;
+
+import com.neovisionaries.i18n.CountryCode;
+import lombok.Builder;
+import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.airtime.dto.response.Promotion;
+import software.reloadly.sdk.airtime.operation.PromotionOperations;
+import software.reloadly.sdk.core.cache.RefreshedTable;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Indexes the promotions by operator and by country, so that they are looked up locally instead of with
+ * {@link PromotionOperations#getByOperatorId(Long)} and {@link PromotionOperations#getByCountryCode(CountryCode)}.
+ * <p>
+ * Every promotion is retrieved from the API on first use, then again every {@link #DEFAULT_REFRESH_INTERVAL} by
+ * default, the previous promotions being kept if it fails. A promotion is served until its end date, upcoming
+ * promotions included, and is evicted from the index by the first lookup after it ended.
+ * <p>
+ * Promotions only reference their operator, so indexing them by country requires a {@link CountryCache} holding the
+ * country of every operator. The countries of the operators it doesn't know yet, e.g. ones added since it was
+ * refreshed, are retrieved from the API concurrently on each refresh of the promotions. Operators the API doesn't
+ * know either aren't requested again until the country cache is refreshed.
+ */
+public class PromotionIndex extends RefreshedTable {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(1);
+
+    private final OperationsProvider<PromotionOperations> operationsProvider;
+    private final CountryCache countryCache;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // Guarded by the refresh lock, the operators the API didn't know as of the country cache retrieved at that time
+    private final Set<Long> missingOperatorIds = new HashSet<>();
+    private Instant missingOperatorsRetrievedAt;
+
+    /**
+     * @param operationsProvider - Provides the promotion operations to retrieve the promotions with,
+     *                           e.g. {@code airtimeAPI::promotions}
+     * @param countryCache       - Tells the country of the operators, must track the operators, may be null if
+     *                           promotions aren't looked up by country
+     * @param refreshInterval    - Interval between two background refreshes, zero to disable them
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public PromotionIndex(OperationsProvider<PromotionOperations> operationsProvider, CountryCache countryCache,
+                          Duration refreshInterval) {
+
+        super(refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval, "reloadly-promotion-index-refresh");
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        if (countryCache != null && !countryCache.isTrackingOperators()) {
+            throw new IllegalArgumentException("Country cache must be built with operator operations");
+        }
+        this.operationsProvider = operationsProvider;
+        this.countryCache = countryCache;
+    }
+
+    /**
+     * @param operatorId - The id of the operator
+     * @return the promotions of the operator which haven't ended, ordered by end date
+     * @throws ReloadlyException if the promotions weren't retrieved yet and a request failed
+     */
+    public List<Promotion> getByOperatorId(Long operatorId) throws ReloadlyException {
+        Asserter.assertNotNull(operatorId, "Operator id");
+        return getSnapshot().byOperator.getOrDefault(operatorId, Collections.emptyList());
+    }
+
+    /**
+     * @param countryCode - The code of the country
+     * @return the promotions of the operators of the country which haven't ended, ordered by end date
+     * @throws ReloadlyException if the promotions weren't retrieved yet and a request failed
+     */
+    public List<Promotion> getByCountryCode(CountryCode countryCode) throws ReloadlyException {
+        Asserter.assertNotNull(countryCode, "Country code");
+        if (countryCache == null) {
+            throw new IllegalStateException("A country cache is required to look up promotions by country");
+        }
+        return getSnapshot().byCountry.getOrDefault(countryCode.getAlpha2(), Collections.emptyList());
+    }
+
+    /**
+     * @return the time the indexed promotions were retrieved from the API, or null if there are none yet
+     */
+    public Instant getRefreshedAt() {
+        Snapshot snapshot = this.snapshot.get();
+        return snapshot == null ? null : snapshot.refreshedAt;
+    }
+
+    /**
+     * Retrieves every promotion from the API and replaces the indexed promotions with them.
+     *
+     * @return the number of promotions retrieved
+     */
+    @Override
+    protected int load() throws ReloadlyException {
+        List<Promotion> promotions = operationsProvider.get().listAll(null).fetchAll(CATALOG_PARALLELISM);
+        Map<Long, String> operatorCountries = countryCache == null ? new HashMap<>() : getOperatorCountries(promotions);
+        snapshot.set(new Snapshot(Instant.now(), promotions, operatorCountries, System.currentTimeMillis()));
+        return promotions.size();
+    }
+
+    @Override
+    protected boolean isLoaded() {
+        return snapshot.get() != null;
+    }
+
+    private Snapshot getSnapshot() throws ReloadlyException {
+        ensureLoaded();
+        Snapshot current = snapshot.get();
+        long now = System.currentTimeMillis();
+        while (now >= current.nextEndTime) {
+            // A concurrent refresh or eviction wins, its snapshot is checked in turn
+            Snapshot evicted = current.evict(now);
+            current = snapshot.compareAndSet(current, evicted) ? evicted : snapshot.get();
+        }
+        return current;
+    }
+
+    private Map<Long, String> getOperatorCountries(List<Promotion> promotions) throws ReloadlyException {
+        Map<Long, String> operatorCountries = new HashMap<>();
+        Set<Long> unknownOperatorIds = new HashSet<>();
+        for (Promotion promotion : promotions) {
+            Long operatorId = promotion.getOperatorId();
+            if (operatorId != null && !operatorCountries.containsKey(operatorId)) {
+                Country country = countryCache.getCountryOfOperator(operatorId);
+                operatorCountries.put(operatorId, country == null ? null : country.getIsoName());
+                if (country == null) {
+                    unknownOperatorIds.add(operatorId);
+                }
+            }
+        }
+
+        Instant countriesRetrievedAt = countryCache.getRetrievedAt();
+        if (!Objects.equals(countriesRetrievedAt, missingOperatorsRetrievedAt)) {
+            missingOperatorIds.clear();
+            missingOperatorsRetrievedAt = countriesRetrievedAt;
+        }
+        unknownOperatorIds.removeAll(missingOperatorIds);
+        if (unknownOperatorIds.isEmpty()) {
+            return operatorCountries;
+        }
+        Map<Long, Country> countries = countryCache.fetchCountriesOfOperators(unknownOperatorIds);
+        for (Long operatorId : unknownOperatorIds) {
+            if (!countries.containsKey(operatorId)) {
+                // An operator the API doesn't know anymore, its promotions are only looked up by operator
+                missingOperatorIds.add(operatorId);
+            } else if (countries.get(operatorId) != null) {
+                operatorCountries.put(operatorId, countries.get(operatorId).getIsoName());
+            }
+        }
+        return operatorCountries;
+    }
+
+    /**
+     * The promotions which hadn't ended at a given time, indexed once and never modified.
+     */
+    private static class Snapshot {
+
+        private final Instant refreshedAt;
+        private final Map<Long, String> operatorCountries;
+        private final List<Promotion> promotions = new ArrayList<>();
+        private final Map<Long, List<Promotion>> byOperator = new HashMap<>();
+        private final Map<String, List<Promotion>> byCountry = new HashMap<>();
+        // The earliest end date of the promotions, when the snapshot has to be evicted
+        private long nextEndTime = Long.MAX_VALUE;
+
+        private Snapshot(Instant refreshedAt, List<Promotion> promotions, Map<Long, String> operatorCountries,
+                         long now) {
+
+            this.refreshedAt = refreshedAt;
+            this.operatorCountries = operatorCountries;
+            for (Promotion promotion : promotions) {
+                long endTime = getEndTime(promotion);
+                if (endTime > now) {
+                    this.promotions.add(promotion);
+                    nextEndTime = Math.min(nextEndTime, endTime);
+                }
+            }
+            this.promotions.sort((first, second) -> Long.compare(getEndTime(first), getEndTime(second)));
+
+            for (Promotion promotion : this.promotions) {
+                if (promotion.getOperatorId() == null) {
+                    continue;
+                }
+                byOperator.computeIfAbsent(promotion.getOperatorId(), key -> new ArrayList<>()).add(promotion);
+                String countryCode = operatorCountries.get(promotion.getOperatorId());
+                if (countryCode != null) {
+                    byCountry.computeIfAbsent(countryCode, key -> new ArrayList<>()).add(promotion);
+                }
+            }
+            byOperator.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            byCountry.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        }
+
+        private Snapshot evict(long now) {
+            return new Snapshot(refreshedAt, promotions, operatorCountries, now);
+        }
+
+        private static long getEndTime(Promotion promotion) {
+            return promotion.getEndDate() == null ? Long.MAX_VALUE : promotion.getEndDate().getTime();
+        }
+    }
+}
@@ -2,10 +2,10 @@ package software.reloadly.sdk.airtime.client;
 
 import lombok.Builder;
 import okhttp3.HttpUrl;
-import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import software.reloadly.sdk.airtime.dto.request.TopupRequest;
 import software.reloadly.sdk.airtime.operation.*;
 import software.reloadly.sdk.authentication.client.AuthenticationAPI;
+import software.reloadly.sdk.authentication.dto.response.TokenHolder;
 import software.reloadly.sdk.core.enums.Environment;
 import software.reloadly.sdk.core.enums.Service;
 import software.reloadly.sdk.core.exception.ReloadlyException;
@@ -14,22 +14,29 @@ import software.reloadly.sdk.core.internal.dto.request.CustomizableRequest;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.enums.Version;
 import software.reloadly.sdk.core.internal.net.ServiceAPI;
+import software.reloadly.sdk.core.internal.token.AccessToken;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.VersionUtil;
 import software.reloadly.sdk.core.net.HttpOptions;
 
-import java.io.FileReader;
 import java.util.List;
+import java.util.stream.Stream;
 
-import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.removeStart;
 import static software.reloadly.sdk.core.enums.Environment.LIVE;
 import static software.reloadly.sdk.core.enums.Service.AIRTIME;
 import static software.reloadly.sdk.core.enums.Service.AIRTIME_SANDBOX;
 
 public class AirtimeAPI extends ServiceAPI {
 
+    private static final String SDK_VERSION = VersionUtil.getVersion(AirtimeAPI.class);
+
     private final HttpUrl baseUrl;
     private final Environment environment;
+    private final List<String> redactHeaders;
+    private volatile AuthenticationAPI authenticationAPI;
+    private volatile TopupStatusPoller topupStatusPoller;
 
     @Builder
     @SuppressWarnings("unused")
@@ -38,15 +45,16 @@ public class AirtimeAPI extends ServiceAPI {
                       List<String> redactHeaders, HttpOptions options, Boolean enableTelemetry) {
 
         super(clientId, clientSecret, accessToken, enableLogging,
-                redactHeaders, options, enableTelemetry, getSDKVersion(), Version.AIRTIME_V1.getValue());
+                redactHeaders, options, enableTelemetry, SDK_VERSION, Version.AIRTIME_V1.getValue());
 
         validateCredentials();
         this.environment = environment;
+        this.redactHeaders = redactHeaders;
         baseUrl = createBaseUrl(environment);
     }
 
     public OperatorOperations operators() throws ReloadlyException {
-        return new OperatorOperations(client, baseUrl, retrieveAccessToken());
+        return new OperatorOperations(client, baseUrl, retrieveAccessToken(), this::retrieveAccessToken);
     }
 
     public CountryOperations countries() throws ReloadlyException {
@@ -58,11 +66,11 @@ public class AirtimeAPI extends ServiceAPI {
     }
 
     public DiscountOperations discounts() throws ReloadlyException {
-        return new DiscountOperations(client, baseUrl, retrieveAccessToken());
+        return new DiscountOperations(client, baseUrl, retrieveAccessToken(), this::retrieveAccessToken);
     }
 
     public PromotionOperations promotions() throws ReloadlyException {
-        return new PromotionOperations(client, baseUrl, retrieveAccessToken());
+        return new PromotionOperations(client, baseUrl, retrieveAccessToken(), this::retrieveAccessToken);
     }
 
     public TopupOperations topups() throws ReloadlyException {
@@ -70,7 +78,61 @@ public class AirtimeAPI extends ServiceAPI {
     }
 
     public ReportOperations reports() throws ReloadlyException {
-        return new ReportOperations(client, baseUrl, retrieveAccessToken());
+        return new ReportOperations(client, baseUrl, retrieveAccessToken(), this::retrieveAccessToken);
+    }
+
+    /**
+     * Prepares a batch sending the given topups with a bounded number of requests in flight, see {@link TopupBatch}.
+     *
+     * @param requests - The topups to send, each with a custom identifier unique within the batch
+     * @return the batch, sent once executed
+     */
+    public TopupBatch sendTopupBatch(Iterable<? extends TopupRequest> requests) {
+        return new TopupBatch(this::topups, requests);
+    }
+
+    /**
+     * Prepares a batch sending the given topups with a bounded number of requests in flight, see {@link TopupBatch}.
+     * The stream is consumed lazily when the batch is executed, so the batch can only be executed once.
+     *
+     * @param requests - The topups to send, each with a custom identifier unique within the batch
+     * @return the batch, sent once executed
+     */
+    public TopupBatch sendTopupBatch(Stream<? extends TopupRequest> requests) {
+        return new TopupBatch(this::topups, requests);
+    }
+
+    /**
+     * Returns the status poller shared by the callers of this API, created with the default settings on first use.
+     * Use {@link TopupStatusPoller#builder()} with {@code operationsProvider(airtimeAPI::topups)} for a poller with
+     * different settings.
+     *
+     * @return the shared status poller tracking the async topups
+     */
+    public TopupStatusPoller topupStatusPoller() {
+        TopupStatusPoller topupStatusPoller = this.topupStatusPoller;
+        if (topupStatusPoller == null) {
+            synchronized (this) {
+                topupStatusPoller = this.topupStatusPoller;
+                if (topupStatusPoller == null) {
+                    topupStatusPoller = TopupStatusPoller.builder().operationsProvider(this::topups).build();
+                    this.topupStatusPoller = topupStatusPoller;
+                }
+            }
+        }
+        return topupStatusPoller;
+    }
+
+    /**
+     * Fetches the access token, unless one was provided, and opens the connections to the authentication and
+     * airtime servers, so that the first requests don't pay for the token retrieval and the TLS handshakes.
+     * Meant to be called once at startup.
+     *
+     * @throws ReloadlyException if the access token could not be retrieved or a connection could not be opened
+     */
+    public void warmUp() throws ReloadlyException {
+        retrieveAccessToken();
+        openConnection(baseUrl);
     }
 
     /**
@@ -81,9 +143,13 @@ public class AirtimeAPI extends ServiceAPI {
      */
     @Override
     public void refreshAccessToken(Request<?> request) throws ReloadlyException {
-        this.accessToken = null;
+        Service service = getServiceByEnvironment(environment);
         CustomizableRequest<?> customizableRequest = (CustomizableRequest<?>) request;
-        String newAccessToken = retrieveAccessToken();
+        String rejectedAccessToken = removeStart(
+                customizableRequest.getHeader(HttpHeader.AUTHORIZATION), "Bearer ");
+        String newAccessToken = tokenManager.refreshAccessToken(clientId, service, rejectedAccessToken,
+                () -> doGetAccessToken(service)).getValue();
+        replaceAccessToken(rejectedAccessToken, newAccessToken);
         customizableRequest.addHeader(HttpHeader.AUTHORIZATION, "Bearer " + newAccessToken);
     }
 
@@ -104,40 +170,37 @@ public class AirtimeAPI extends ServiceAPI {
     }
 
     private String retrieveAccessToken() throws ReloadlyException {
-        String accessToken = doGetAccessToken(getServiceByEnvironment(environment));
-        if (cacheAccessToken) {
-            this.accessToken = accessToken;
+        String accessToken = this.accessToken;
+        if (isNotBlank(accessToken)) {
+            return accessToken;
         }
-        return accessToken;
-    }
-
-    private String doGetAccessToken(Service service) throws ReloadlyException {
-        return isNotBlank(accessToken) ? accessToken : AuthenticationAPI.builder().service(service)
-                .clientId(clientId)
-                .clientSecret(clientSecret)
-                .enableLogging(enableLogging)
-                .enableTelemetry(enableTelemetry)
-                .build().clientCredentials().getAccessToken().execute().getToken();
-    }
-
-    private static String getSDKVersion() {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        Model model;
-        try {
-            FileReader fileReader = new FileReader("./java-sdk-airtime/pom.xml");
-            model = reader.read(fileReader);
-        } catch (Exception e) {
-            try {
-                model = reader.read(new FileReader("../java-sdk-airtime/pom.xml"));
-            } catch (Exception ex) {
-                return "MISSING";
-            }
+        Service service = getServiceByEnvironment(environment);
+        return tokenManager.getAccessToken(clientId, service, () -> doGetAccessToken(service)).getValue();
+    }
 
-            if (model == null) {
-                return "MISSING";
+    private AccessToken doGetAccessToken(Service service) throws ReloadlyException {
+        TokenHolder tokenHolder = getAuthenticationAPI(service).clientCredentials().getAccessToken().execute();
+        return AccessToken.of(tokenHolder.getToken(), tokenHolder.getExpiresIn());
+    }
+
+    private AuthenticationAPI getAuthenticationAPI(Service service) {
+        AuthenticationAPI authenticationAPI = this.authenticationAPI;
+        if (authenticationAPI == null) {
+            synchronized (this) {
+                authenticationAPI = this.authenticationAPI;
+                if (authenticationAPI == null) {
+                    authenticationAPI = AuthenticationAPI.builder().service(service)
+                            .clientId(clientId)
+                            .clientSecret(clientSecret)
+                            .enableLogging(enableLogging)
+                            .redactHeaders(redactHeaders)
+                            .options(options)
+                            .enableTelemetry(enableTelemetry)
+                            .build();
+                    this.authenticationAPI = authenticationAPI;
+                }
             }
         }
-
-        return isBlank(model.getVersion()) ? "MISSING" : model.getVersion();
+        return authenticationAPI;
     }
 }
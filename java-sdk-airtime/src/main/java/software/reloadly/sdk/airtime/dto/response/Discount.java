@@ -1,13 +1,17 @@
 package software.reloadly.sdk.airtime.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import software.reloadly.sdk.core.internal.adapter.JackSonDateDeserializer;
+import software.reloadly.sdk.core.internal.util.DateUtil;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Date;
 
 @Getter
@@ -23,4 +27,20 @@ public class Discount implements Serializable {
     @JsonDeserialize(using = JackSonDateDeserializer.class)
     private Date updatedAt;
     private SimplifiedOperator operator;
+
+    /**
+     * @return the time the discount was last updated as an instant, or null if missing
+     */
+    @JsonIgnore
+    public Instant getUpdatedAtAsInstant() {
+        return DateUtil.toInstant(updatedAt);
+    }
+
+    /**
+     * @return the time the discount was last updated in the default time zone of the JVM, or null if missing
+     */
+    @JsonIgnore
+    public LocalDateTime getUpdatedAtAsLocalDateTime() {
+        return DateUtil.toLocalDateTime(updatedAt);
+    }
 }
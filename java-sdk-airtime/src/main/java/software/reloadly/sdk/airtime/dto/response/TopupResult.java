@@ -0,0 +1,121 @@
+package software.reloadly.sdk.airtime.dto.response;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.lang.Nullable;
+import software.reloadly.sdk.airtime.dto.request.TopupRequest;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.RateLimitException;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Outcome of a topup sent as part of a batch, holding either the resulting transaction or the reason of the failure.
+ */
+@Getter
+@ToString
+public class TopupResult {
+
+    private static final int STATUS_CODE_SERVER_ERROR = 500;
+
+    /**
+     * The topup request this is the outcome of, null if a null request was submitted
+     */
+    private final TopupRequest request;
+
+    /**
+     * The resulting transaction, null if the topup failed
+     */
+    private final TopupTransaction transaction;
+
+    /**
+     * Why the topup failed, null if it succeeded
+     */
+    private final Failure failure;
+
+    /**
+     * The error the topup failed with, null if it succeeded
+     */
+    private final Throwable error;
+
+    private TopupResult(@Nullable TopupRequest request, @Nullable TopupTransaction transaction,
+                        @Nullable Failure failure, @Nullable Throwable error) {
+        this.request = request;
+        this.transaction = transaction;
+        this.failure = failure;
+        this.error = error;
+    }
+
+    public static TopupResult succeeded(TopupRequest request, TopupTransaction transaction) {
+        return new TopupResult(request, transaction, null, null);
+    }
+
+    public static TopupResult failed(@Nullable TopupRequest request, Failure failure, Throwable error) {
+        return new TopupResult(request, null, failure, error);
+    }
+
+    /**
+     * @param request - The topup request that failed
+     * @param error   - The error the request failed with
+     * @return the failed result, with the failure type inferred from the error
+     */
+    public static TopupResult failed(TopupRequest request, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        Failure failure;
+        if (cause instanceof RateLimitException) {
+            failure = Failure.RATE_LIMITED;
+        } else if (cause instanceof APIException) {
+            int statusCode = ((APIException) cause).getHttpStatusCode();
+            failure = statusCode >= 400 && statusCode < STATUS_CODE_SERVER_ERROR ? Failure.REJECTED :
+                    Failure.SERVER_ERROR;
+        } else if (cause instanceof IllegalArgumentException) {
+            failure = Failure.INVALID_REQUEST;
+        } else {
+            failure = Failure.CONNECTION_FAILURE;
+        }
+        return new TopupResult(request, null, failure, cause);
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * @return whether the topup may have been processed despite the failure, in which case its status should be
+     * checked, or the request resubmitted with the same custom identifier, rather than sent as a new topup
+     */
+    public boolean isOutcomeUnknown() {
+        return failure == Failure.SERVER_ERROR || failure == Failure.CONNECTION_FAILURE;
+    }
+
+    public enum Failure {
+        /**
+         * The request failed validation and was not sent
+         */
+        INVALID_REQUEST,
+        /**
+         * Another request of the batch has the same custom identifier, the request was not sent
+         */
+        DUPLICATE_CUSTOM_IDENTIFIER,
+        /**
+         * The request could not be sent, e.g. because no access token could be retrieved, it was not processed
+         */
+        NOT_SENT,
+        /**
+         * The Reloadly servers rejected the request with a 4xx error
+         */
+        REJECTED,
+        /**
+         * The rate limit was still exceeded once the retries allowed by the retry policy were exhausted
+         */
+        RATE_LIMITED,
+        /**
+         * The Reloadly servers failed with a 5xx error or an unreadable response, the topup may have been processed
+         */
+        SERVER_ERROR,
+        /**
+         * The request could not be sent or its response could not be received, the topup may have been processed
+         */
+        CONNECTION_FAILURE
+    }
+}
@@ -1,17 +1,21 @@
 package software.reloadly.sdk.airtime.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import software.reloadly.sdk.airtime.enums.AirtimeTransactionStatus;
 import software.reloadly.sdk.core.internal.adapter.JackSonDateDeserializer;
+import software.reloadly.sdk.core.internal.util.DateUtil;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Date;
 
 @Getter
@@ -120,4 +124,20 @@ public class TopupTransaction implements Serializable {
      * The transaction status (PROCESSING, SUCCESSFUL, REFUNDED, FAILED)
      */
     private AirtimeTransactionStatus status;
+
+    /**
+     * @return the time stamp recorded for this transaction as an instant, or null if missing
+     */
+    @JsonIgnore
+    public Instant getDateAsInstant() {
+        return DateUtil.toInstant(date);
+    }
+
+    /**
+     * @return the time stamp recorded for this transaction in the default time zone of the JVM, or null if missing
+     */
+    @JsonIgnore
+    public LocalDateTime getDateAsLocalDateTime() {
+        return DateUtil.toLocalDateTime(date);
+    }
 }
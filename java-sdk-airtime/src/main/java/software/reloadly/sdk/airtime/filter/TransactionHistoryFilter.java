@@ -6,9 +6,9 @@ import lombok.NoArgsConstructor;
 import software.reloadly.sdk.airtime.operation.TopupOperations;
 import software.reloadly.sdk.core.internal.filter.QueryFilter;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DateUtil;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Class used to filter the results received when calling topup transaction history endpoint.
@@ -78,7 +78,7 @@ public class TransactionHistoryFilter extends QueryFilter {
      */
     public TransactionHistoryFilter startDate(LocalDateTime startDate) {
         Asserter.assertNotNull(startDate, "Start date");
-        parameters.put(START_DATE, startDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        parameters.put(START_DATE, startDate.format(DateUtil.DATE_TIME_FORMATTER));
         return this;
     }
 
@@ -88,7 +88,7 @@ public class TransactionHistoryFilter extends QueryFilter {
      */
     public TransactionHistoryFilter endDate(LocalDateTime endDate) {
         Asserter.assertNotNull(endDate, "End date");
-        parameters.put(END_DATE, endDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        parameters.put(END_DATE, endDate.format(DateUtil.DATE_TIME_FORMATTER));
         return this;
     }
 }
@@ -4,19 +4,33 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import software.reloadly.sdk.core.internal.client.BaseOperation;
 import software.reloadly.sdk.core.internal.constant.HttpHeader;
 import software.reloadly.sdk.core.internal.constant.MediaType;
+import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.CustomRequest;
+import software.reloadly.sdk.core.internal.dto.request.StreamingRequest;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
+import software.reloadly.sdk.core.internal.enums.Idempotency;
 import software.reloadly.sdk.core.internal.enums.Version;
 import software.reloadly.sdk.core.internal.filter.QueryFilter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 
+import java.util.function.Consumer;
+
 abstract class BaseAirtimeOperation extends BaseOperation {
 
+    private static final String QUERY_PARAMETER_PAGE = "page";
+    private static final String QUERY_PARAMETER_PAGE_SIZE = "size";
+
     BaseAirtimeOperation(HttpUrl baseUrl, String apiToken, OkHttpClient client) {
         super(baseUrl, apiToken, client);
     }
 
+    BaseAirtimeOperation(HttpUrl baseUrl, String apiToken, AccessTokenSupplier accessTokenSupplier, OkHttpClient client) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     HttpUrl.Builder buildFilters(QueryFilter filter, String endPoint) {
         HttpUrl.Builder builder = getBuilder(endPoint);
 
@@ -28,18 +42,49 @@ abstract class BaseAirtimeOperation extends BaseOperation {
     }
 
     protected <T> Request<T> createGetRequest(String url, TypeReference<T> type) {
+        return createGetRequest(url, type, apiToken);
+    }
+
+    private <T> Request<T> createGetRequest(String url, TypeReference<T> type, String apiToken) {
         CustomRequest<T> request = new CustomRequest<>(client, url, "GET", type);
         request.addHeader(HttpHeader.ACCEPT, Version.AIRTIME_V1.getValue());
         request.addHeader(HttpHeader.AUTHORIZATION, "Bearer " + apiToken);
         return request;
     }
 
+    protected <E> Request<Long> createStreamingGetRequest(String url, Class<E> elementType,
+                                                          Consumer<? super E> consumer) {
+        return new StreamingRequest<>(client, url, "GET", elementType, consumer)
+                .addHeader(HttpHeader.ACCEPT, Version.AIRTIME_V1.getValue())
+                .addHeader(HttpHeader.AUTHORIZATION, "Bearer " + apiToken);
+    }
+
+    /**
+     * @param builder - The url of the paginated endpoint, the page and size query parameters are overridden
+     * @param type    - The type of the pages
+     * @return a paginator walking every page of the endpoint, each page sent with the current access token
+     */
+    protected <T> Paginator<T> createPaginator(HttpUrl.Builder builder, TypeReference<Page<T>> type) {
+        HttpUrl url = builder.build();
+        return new Paginator<>((pageNumber, pageSize) -> createGetRequest(url.newBuilder()
+                .setQueryParameter(QUERY_PARAMETER_PAGE, String.valueOf(pageNumber))
+                .setQueryParameter(QUERY_PARAMETER_PAGE_SIZE, String.valueOf(pageSize))
+                .build().toString(), type, getCurrentAccessToken())
+        );
+    }
+
     protected <T> Request<T> createPostRequest(String url, Object body, TypeReference<T> type) {
+        return createPostRequest(url, body, type, Idempotency.NON_IDEMPOTENT);
+    }
+
+    protected <T> Request<T> createPostRequest(String url, Object body, TypeReference<T> type,
+                                               Idempotency idempotency) {
         return new CustomRequest<>(client, url, "POST", type)
                 .addHeader(HttpHeader.ACCEPT, Version.AIRTIME_V1.getValue())
                 .addHeader(HttpHeader.CONTENT_TYPE, MediaType.APPLICATION_JSON)
                 .addHeader(HttpHeader.AUTHORIZATION, "Bearer " + apiToken)
-                .setBody(body);
+                .setBody(body)
+                .setIdempotency(idempotency);
     }
 
     protected HttpUrl.Builder getBuilder(String endPoint) {
@@ -8,6 +8,8 @@ import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.filter.QueryFilter;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 
 public class DiscountOperations extends BaseAirtimeOperation {
 
@@ -19,6 +21,14 @@ public class DiscountOperations extends BaseAirtimeOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public DiscountOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                              AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public Request<Page<Discount>> list() {
         return createGetRequest(getBuilder(END_POINT).addPathSegments(PATH_SEGMENT_DISCOUNT).build().toString(),
                 new TypeReference<Page<Discount>>() {
@@ -34,6 +44,20 @@ public class DiscountOperations extends BaseAirtimeOperation {
         );
     }
 
+    /**
+     * Walks every page of the operator discounts, fetching the pages lazily as the discounts are consumed. The page and size of
+     * the given filter are ignored, use {@link Paginator#withPageSize(int)} instead.
+     *
+     * @param filter - The filter to apply, may be null
+     * @return a paginator over the operator discounts
+     */
+    public Paginator<Discount> listAll(QueryFilter filter) {
+        return createPaginator(buildFilters(filter, END_POINT).addPathSegments(PATH_SEGMENT_DISCOUNT),
+                new TypeReference<Page<Discount>>() {
+                }
+        );
+    }
+
     public Request<Discount> getByOperatorId(Long operatorId) {
         Asserter.assertNotNull(operatorId, "Operator id");
         Asserter.assertGreaterThanZero(operatorId, "Operator id");
@@ -7,13 +7,17 @@ import software.reloadly.sdk.airtime.dto.response.OperatorFxRate;
 import software.reloadly.sdk.airtime.filter.OperatorFilter;
 import software.reloadly.sdk.airtime.internal.dto.request.FxRateRequest;
 import software.reloadly.sdk.core.dto.response.Page;
+import software.reloadly.sdk.core.internal.enums.Idempotency;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.springframework.lang.Nullable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public class OperatorOperations extends BaseAirtimeOperation {
 
@@ -27,6 +31,14 @@ public class OperatorOperations extends BaseAirtimeOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public OperatorOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                              AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public Request<Page<Operator>> list(OperatorFilter filter) {
         return createGetRequest(buildFilters(filter, END_POINT).build().toString(),
                 new TypeReference<Page<Operator>>() {
@@ -39,6 +51,30 @@ public class OperatorOperations extends BaseAirtimeOperation {
         });
     }
 
+    /**
+     * Streams the operators of the requested page to the given consumer as they are decoded from the response,
+     * without holding the whole page in memory.
+     *
+     * @param filter   - The filter to apply, may be null
+     * @param consumer - Receives each operator of the page
+     * @return a request executing to the number of operators handed to the consumer
+     */
+    public Request<Long> list(OperatorFilter filter, Consumer<? super Operator> consumer) {
+        return createStreamingGetRequest(buildFilters(filter, END_POINT).build().toString(), Operator.class, consumer);
+    }
+
+    /**
+     * Walks every page of the operators, fetching the pages lazily as the operators are consumed. The page and size of
+     * the given filter are ignored, use {@link Paginator#withPageSize(int)} instead.
+     *
+     * @param filter - The filter to apply, may be null
+     * @return a paginator over the operators
+     */
+    public Paginator<Operator> listAll(OperatorFilter filter) {
+        return createPaginator(buildFilters(filter, END_POINT), new TypeReference<Page<Operator>>() {
+        });
+    }
+
     public Request<Operator> getById(Long operatorId, OperatorFilter filter) {
         validateOperatorId(operatorId);
         HttpUrl.Builder builder = buildFilters(filter, END_POINT);
@@ -85,13 +121,31 @@ public class OperatorOperations extends BaseAirtimeOperation {
         );
     }
 
+    /**
+     * Streams the operators of the given country to the given consumer as they are decoded from the response,
+     * without holding the whole list in memory.
+     *
+     * @param countryCode - The country to list the operators of
+     * @param filter      - The filter to apply, may be null
+     * @param consumer    - Receives each operator of the country
+     * @return a request executing to the number of operators handed to the consumer
+     */
+    public Request<Long> listByCountryCode(CountryCode countryCode, OperatorFilter filter,
+                                          Consumer<? super Operator> consumer) {
+        Asserter.assertNotNull(countryCode, "Country code");
+        return createStreamingGetRequest(
+                buildListByCountryCodeRequestUrl(countryCode, buildFilters(filter, END_POINT)), Operator.class, consumer
+        );
+    }
+
     public Request<OperatorFxRate> calculateFxRate(Long operatorId, Double amount) {
         validateOperatorId(operatorId);
         Asserter.assertNotNull(amount, "Amount");
         Asserter.assertGreaterThanZero(amount, "Amount");
+        // Only computes a conversion, safe to retry
         return createPostRequest(buildCalculateFxRateRequestUrl(operatorId), new FxRateRequest(amount),
                 new TypeReference<OperatorFxRate>() {
-                }
+                }, Idempotency.IDEMPOTENT
         );
     }
 
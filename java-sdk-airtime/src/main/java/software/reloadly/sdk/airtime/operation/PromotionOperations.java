@@ -7,6 +7,8 @@ import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.filter.QueryFilter;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 
@@ -22,6 +24,14 @@ public class PromotionOperations extends BaseAirtimeOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public PromotionOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                               AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public Request<Page<Promotion>> list() {
         return createGetRequest(getBuilder(END_POINT).build().toString(), new TypeReference<Page<Promotion>>() {
         });
@@ -34,6 +44,18 @@ public class PromotionOperations extends BaseAirtimeOperation {
         );
     }
 
+    /**
+     * Walks every page of the promotions, fetching the pages lazily as the promotions are consumed. The page and size of
+     * the given filter are ignored, use {@link Paginator#withPageSize(int)} instead.
+     *
+     * @param filter - The filter to apply, may be null
+     * @return a paginator over the promotions
+     */
+    public Paginator<Promotion> listAll(QueryFilter filter) {
+        return createPaginator(buildFilters(filter, END_POINT), new TypeReference<Page<Promotion>>() {
+        });
+    }
+
     public Request<Promotion> getById(Long promotionId) {
         Asserter.assertNotNull(promotionId, "Promotion id");
         Asserter.assertGreaterThanZero(promotionId, "Promotion id");
@@ -2,6 +2,7 @@ package software.reloadly.sdk.airtime.operation;
 
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 
 public class ReportOperations extends BaseAirtimeOperation {
 
@@ -9,7 +10,15 @@ public class ReportOperations extends BaseAirtimeOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public ReportOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                            AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public TransactionHistoryOperations transactionsHistory() {
-        return new TransactionHistoryOperations(client, baseUrl, apiToken);
+        return new TransactionHistoryOperations(client, baseUrl, apiToken, accessTokenSupplier);
     }
 }
@@ -0,0 +1,177 @@
+package software.reloadly.sdk.airtime.operation;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import software.reloadly.sdk.airtime.dto.request.TopupRequest;
+import software.reloadly.sdk.airtime.dto.response.TopupResult;
+import software.reloadly.sdk.airtime.dto.response.TopupTransaction;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Sends a batch of topups with a bounded number of requests in flight, handing the outcome of every topup to a
+ * consumer as soon as it is known. The topups are read lazily, so a batch can be fed from a stream of any size.
+ * <p>
+ * Every topup must carry a custom identifier unique within the batch. The Reloadly servers reject a topup reusing
+ * the identifier of an earlier one, which makes resubmitting the topups whose outcome is unknown safe, see
+ * {@link TopupResult#isOutcomeUnknown()}. The requests go through the rate limiter and the retry policy of the
+ * client, so a batch never exceeds the rate limit shared with the other clients of the same account, and a topup
+ * is only retried when the servers rejected it with a 429.
+ * <p>
+ * The operations are obtained anew for every topup, so that a batch outliving the access token keeps sending its
+ * topups with the current one. The topups in flight are never cancelled: if the batch stops early, they are reported
+ * by the thrown {@link TopupBatchAbortedException}.
+ */
+@Getter
+public class TopupBatch {
+
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private final OperationsProvider<TopupOperations> operationsProvider;
+    private final Iterable<? extends TopupRequest> requests;
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    /**
+     * @param operationsProvider - Provides the topup operations to send each topup with,
+     *                           e.g. {@code airtimeAPI::topups}
+     * @param requests           - The topups to send, each with a custom identifier unique within the batch
+     */
+    public TopupBatch(OperationsProvider<TopupOperations> operationsProvider,
+                      Iterable<? extends TopupRequest> requests) {
+
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        Asserter.assertNotNull(requests, "Topup requests");
+        this.operationsProvider = operationsProvider;
+        this.requests = requests;
+    }
+
+    /**
+     * The stream is consumed lazily when the batch is executed, so the batch can only be executed once.
+     *
+     * @param operationsProvider - Provides the topup operations to send each topup with,
+     *                           e.g. {@code airtimeAPI::topups}
+     * @param requests           - The topups to send, each with a custom identifier unique within the batch
+     */
+    public TopupBatch(OperationsProvider<TopupOperations> operationsProvider, Stream<? extends TopupRequest> requests) {
+        this(operationsProvider, toIterable(requests));
+    }
+
+    /**
+     * @param concurrency - The maximum number of topups in flight at any time
+     * @return this batch
+     */
+    public TopupBatch withConcurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be greater than zero");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sends every topup of the batch, blocking until all of them completed. The consumer is called from the calling
+     * thread, one result at a time, in completion order.
+     *
+     * @param consumer - Receives the outcome of every topup
+     * @throws TopupBatchAbortedException if interrupted, or if the consumer or the requests failed, listing the topups
+     *                                    in flight whose outcome was not handed to the consumer
+     */
+    public void execute(Consumer<? super TopupResult> consumer) throws TopupBatchAbortedException {
+        Asserter.assertNotNull(consumer, "Consumer");
+        BlockingQueue<TopupResult> completed = new LinkedBlockingQueue<>();
+        Map<String, TopupRequest> inFlight = new HashMap<>();
+        Set<String> customIdentifiers = new HashSet<>();
+        Iterator<? extends TopupRequest> iterator = requests.iterator();
+
+        try {
+            while (true) {
+                while (inFlight.size() < concurrency && iterator.hasNext()) {
+                    TopupResult notSent = submit(iterator.next(), customIdentifiers, inFlight, completed);
+                    if (notSent != null) {
+                        consumer.accept(notSent);
+                    }
+                }
+                if (inFlight.isEmpty()) {
+                    return;
+                }
+
+                TopupResult result = completed.take();
+                inFlight.remove(result.getRequest().getCustomIdentifier());
+                consumer.accept(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TopupBatchAbortedException("Interrupted while sending the topups", e,
+                    new ArrayList<>(inFlight.values()));
+        } catch (RuntimeException e) {
+            // Cancelling would not abort the requests already sent, the caller has to check their outcome
+            throw new TopupBatchAbortedException("Stopped sending the topups after a failure", e,
+                    new ArrayList<>(inFlight.values()));
+        }
+    }
+
+    /**
+     * Sends every topup of the batch, blocking until all of them completed.
+     *
+     * @return the outcome of every topup, in completion order
+     * @throws TopupBatchAbortedException if interrupted or if the requests failed, listing the topups in flight whose
+     *                                    outcome is unknown
+     */
+    public List<TopupResult> execute() throws TopupBatchAbortedException {
+        List<TopupResult> results = new ArrayList<>();
+        execute(results::add);
+        return results;
+    }
+
+    /**
+     * @return the result of the topup if it was not sent, null if it is now in flight
+     */
+    private TopupResult submit(TopupRequest request, Set<String> customIdentifiers,
+                               Map<String, TopupRequest> inFlight,
+                               BlockingQueue<TopupResult> completed) {
+
+        if (request == null || StringUtils.isBlank(request.getCustomIdentifier())) {
+            String name = request == null ? "Topup request" : "Custom identifier";
+            return TopupResult.failed(request, TopupResult.Failure.INVALID_REQUEST,
+                    new IllegalArgumentException("'" + name + "' cannot be null or empty!"));
+        }
+        String customIdentifier = request.getCustomIdentifier();
+        if (!customIdentifiers.add(customIdentifier)) {
+            return TopupResult.failed(request, TopupResult.Failure.DUPLICATE_CUSTOM_IDENTIFIER,
+                    new IllegalArgumentException("Duplicate custom identifier '" + customIdentifier + "'"));
+        }
+
+        CompletableFuture<TopupTransaction> future;
+        try {
+            future = operationsProvider.get().send(request).executeAsync();
+        } catch (IllegalArgumentException e) {
+            return TopupResult.failed(request, TopupResult.Failure.INVALID_REQUEST, e);
+        } catch (ReloadlyException e) {
+            return TopupResult.failed(request, TopupResult.Failure.NOT_SENT, e);
+        }
+        inFlight.put(customIdentifier, request);
+        future.whenComplete((transaction, error) -> completed.add(error == null ?
+                TopupResult.succeeded(request, transaction) : TopupResult.failed(request, error)));
+        return null;
+    }
+
+    private static Iterable<TopupRequest> toIterable(Stream<? extends TopupRequest> requests) {
+        Asserter.assertNotNull(requests, "Topup requests");
+        Iterator<TopupRequest> iterator = requests.<TopupRequest>map(request -> request).iterator();
+        return () -> iterator;
+    }
+}
@@ -0,0 +1,28 @@
+package software.reloadly.sdk.airtime.operation;
+
+import lombok.Getter;
+import software.reloadly.sdk.airtime.dto.request.TopupRequest;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a {@link TopupBatch} stops before the outcome of every topup sent was handed to the consumer, e.g.
+ * because the calling thread was interrupted or the consumer failed.
+ */
+public class TopupBatchAbortedException extends ReloadlyException {
+
+    /**
+     * The topups which were sent but whose outcome was not handed to the consumer. They may have been processed,
+     * their status should be checked, or the requests resubmitted with the same custom identifier, rather than sent
+     * as new topups.
+     */
+    @Getter
+    private final List<TopupRequest> unreportedRequests;
+
+    public TopupBatchAbortedException(String message, Throwable cause, List<TopupRequest> unreportedRequests) {
+        super(message, cause);
+        this.unreportedRequests = Collections.unmodifiableList(unreportedRequests);
+    }
+}
@@ -0,0 +1,291 @@
+package software.reloadly.sdk.airtime.operation;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.reloadly.sdk.airtime.dto.request.TopupRequest;
+import software.reloadly.sdk.airtime.dto.response.AirtimeTransactionStatusResponse;
+import software.reloadly.sdk.airtime.dto.response.TopupTransaction;
+import software.reloadly.sdk.airtime.enums.AirtimeTransactionStatus;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.RateLimitException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DaemonThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tracks async topups until they leave the {@link AirtimeTransactionStatus#PROCESSING} status, completing a future
+ * per transaction.
+ * <p>
+ * Every tracked transaction is driven by a single scheduler thread. The delay between two status checks of a
+ * transaction grows exponentially from {@link #getInitialDelay()} up to {@link #getMaxDelay()}, so that the
+ * transactions completing quickly are noticed early while the slow ones cost few requests. At most
+ * {@link #getMaxConcurrentPolls()} status requests are in flight at once, the transactions due in the meantime wait
+ * for their turn.
+ * <p>
+ * A transaction which isn't completed after {@link #getTimeout()} fails with a {@link TimeoutException}. Status
+ * requests rejected with a {@link RateLimitException} are retried once the rate limit resets, as are server and
+ * connection errors, while client errors (e.g. an unknown transaction) fail the transaction. Cancelling a returned
+ * future stops tracking its transaction.
+ */
+public class TopupStatusPoller implements AutoCloseable {
+
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final int DEFAULT_MAX_CONCURRENT_POLLS = 8;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(10);
+
+    // Spreads the status checks of transactions sent together
+    private static final double JITTER = 0.2;
+
+    @Getter
+    private final Duration initialDelay;
+    @Getter
+    private final Duration maxDelay;
+    @Getter
+    private final double multiplier;
+    @Getter
+    private final int maxConcurrentPolls;
+    /**
+     * Maximum time a transaction is tracked, counted from the moment tracking starts.
+     */
+    @Getter
+    private final Duration timeout;
+
+    private final OperationsProvider<TopupOperations> operationsProvider;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("reloadly-topup-status-poller"));
+    private final Set<TrackedTransaction> tracked = ConcurrentHashMap.newKeySet();
+
+    // Only accessed from the scheduler thread
+    private final Deque<TrackedTransaction> due = new ArrayDeque<>();
+    private int pollsInFlight;
+
+    private volatile boolean closed;
+
+    /**
+     * @param operationsProvider - Provides the topup operations to check the statuses with, called before each
+     *                           check so that a refreshed access token is used
+     * @param initialDelay       - Delay before the first status check of a transaction
+     * @param maxDelay           - Maximum delay between two status checks of a transaction
+     * @param multiplier         - Factor by which the delay grows after each status check
+     * @param maxConcurrentPolls - Maximum number of status requests in flight
+     * @param timeout            - Maximum time a transaction is tracked
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public TopupStatusPoller(OperationsProvider<TopupOperations> operationsProvider, Duration initialDelay,
+                             Duration maxDelay, Double multiplier, Integer maxConcurrentPolls, Duration timeout) {
+
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        this.operationsProvider = operationsProvider;
+        this.initialDelay = initialDelay == null ? DEFAULT_INITIAL_DELAY : initialDelay;
+        this.maxDelay = maxDelay == null ? DEFAULT_MAX_DELAY : maxDelay;
+        this.multiplier = multiplier == null ? DEFAULT_MULTIPLIER : multiplier;
+        this.maxConcurrentPolls = maxConcurrentPolls == null ? DEFAULT_MAX_CONCURRENT_POLLS : maxConcurrentPolls;
+        this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
+
+        if (this.multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be greater than or equal to one");
+        }
+        if (this.maxConcurrentPolls <= 0) {
+            throw new IllegalArgumentException("Max concurrent polls must be greater than zero");
+        }
+    }
+
+    /**
+     * Sends the given topup asynchronously and tracks the resulting transaction.
+     *
+     * @param request - The topup to send
+     * @return a future completed with the transaction once it is no longer processing
+     * @throws ReloadlyException if the access token could not be retrieved
+     */
+    public CompletableFuture<TopupTransaction> send(TopupRequest request) throws ReloadlyException {
+        CompletableFuture<TopupTransaction> result = new CompletableFuture<>();
+        operationsProvider.get().sendAsync(request).executeAsync().whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+                return;
+            }
+            CompletableFuture<TopupTransaction> transaction = track(response.getTransactionId());
+            result.whenComplete((value, resultError) -> transaction.cancel(false));
+            transaction.whenComplete((value, transactionError) -> {
+                if (transactionError != null) {
+                    result.completeExceptionally(unwrap(transactionError));
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Tracks a transaction sent with {@link TopupOperations#sendAsync(TopupRequest)}.
+     *
+     * @param transactionId - The id of the transaction
+     * @return a future completed with the transaction once it is no longer processing
+     */
+    public CompletableFuture<TopupTransaction> track(Long transactionId) {
+        Asserter.assertNotNull(transactionId, "Transaction id");
+        Asserter.assertGreaterThanZero(transactionId, "Transaction id");
+
+        TrackedTransaction transaction = new TrackedTransaction(transactionId, System.nanoTime() + timeout.toNanos());
+        tracked.add(transaction);
+        transaction.future.whenComplete((value, error) -> tracked.remove(transaction));
+        if (closed) {
+            transaction.future.completeExceptionally(new IllegalStateException("The status poller is closed"));
+        } else {
+            schedule(transaction, jitter(initialDelay.toNanos()));
+        }
+        return transaction.future;
+    }
+
+    /**
+     * @return the number of transactions currently tracked
+     */
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+
+    /**
+     * Stops the scheduler, failing the futures of the transactions still tracked.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        IllegalStateException exception = new IllegalStateException("The status poller is closed");
+        tracked.forEach(transaction -> transaction.future.completeExceptionally(exception));
+    }
+
+    private void schedule(TrackedTransaction transaction, long delayNanos) {
+        try {
+            scheduler.schedule(() -> {
+                due.add(transaction);
+                pollDue();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            transaction.future.completeExceptionally(new IllegalStateException("The status poller is closed"));
+        }
+    }
+
+    private void pollDue() {
+        while (pollsInFlight < maxConcurrentPolls && !due.isEmpty()) {
+            TrackedTransaction transaction = due.poll();
+            if (!transaction.future.isDone()) {
+                poll(transaction);
+            }
+        }
+    }
+
+    private void poll(TrackedTransaction transaction) {
+        CompletableFuture<AirtimeTransactionStatusResponse> status;
+        try {
+            status = operationsProvider.get().getStatus(transaction.transactionId).executeAsync();
+        } catch (ReloadlyException e) {
+            status = new CompletableFuture<>();
+            status.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            // Not a failed request but a broken provider, which polling again won't fix
+            transaction.future.completeExceptionally(e);
+            return;
+        }
+
+        pollsInFlight++;
+        transaction.polls++;
+        status.whenComplete((response, error) -> {
+            try {
+                scheduler.execute(() -> {
+                    pollsInFlight--;
+                    handle(transaction, response, unwrap(error));
+                    pollDue();
+                });
+            } catch (RejectedExecutionException e) {
+                // Closed in the meantime, the future has already been failed
+            }
+        });
+    }
+
+    private void handle(TrackedTransaction transaction, AirtimeTransactionStatusResponse response, Throwable error) {
+        if (transaction.future.isDone()) {
+            return;
+        }
+
+        if (error instanceof RateLimitException) {
+            long resetNanos = ((RateLimitException) error).getDelayUntilReset().toNanos();
+            reschedule(transaction, Math.max(nextDelayNanos(transaction), resetNanos));
+        } else if (isClientError(error)) {
+            transaction.future.completeExceptionally(error);
+        } else if (error != null) {
+            reschedule(transaction, nextDelayNanos(transaction));
+        } else if (response.getStatus() == null || response.getStatus() == AirtimeTransactionStatus.PROCESSING) {
+            reschedule(transaction, nextDelayNanos(transaction));
+        } else if (response.getTransaction() != null) {
+            transaction.future.complete(response.getTransaction());
+        } else {
+            String message = "Transaction " + transaction.transactionId + " ended with status " + response.getStatus();
+            if (response.getErrorMessage() != null) {
+                message += ": " + response.getErrorMessage();
+            }
+            transaction.future.completeExceptionally(new ReloadlyException(message));
+        }
+    }
+
+    private void reschedule(TrackedTransaction transaction, long delayNanos) {
+        if (transaction.deadlineNanos - System.nanoTime() < delayNanos) {
+            transaction.future.completeExceptionally(new TimeoutException("Transaction " +
+                    transaction.transactionId + " was still processing after " + timeout));
+            return;
+        }
+        schedule(transaction, delayNanos);
+    }
+
+    private long nextDelayNanos(TrackedTransaction transaction) {
+        double delay = initialDelay.toNanos() * Math.pow(multiplier, transaction.polls);
+        return jitter((long) Math.min(delay, maxDelay.toNanos()));
+    }
+
+    private static long jitter(long delayNanos) {
+        return (long) (delayNanos * (1 - ThreadLocalRandom.current().nextDouble() * JITTER));
+    }
+
+    private static boolean isClientError(Throwable error) {
+        if (!(error instanceof APIException)) {
+            return false;
+        }
+        int httpStatusCode = ((APIException) error).getHttpStatusCode();
+        return httpStatusCode >= 400 && httpStatusCode < 500;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static class TrackedTransaction {
+        private final Long transactionId;
+        private final long deadlineNanos;
+        private final CompletableFuture<TopupTransaction> future = new CompletableFuture<>();
+        private int polls;
+
+        private TrackedTransaction(Long transactionId, long deadlineNanos) {
+            this.transactionId = transactionId;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
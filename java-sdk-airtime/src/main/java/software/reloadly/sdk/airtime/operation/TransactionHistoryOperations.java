@@ -9,9 +9,11 @@ import software.reloadly.sdk.airtime.filter.TransactionHistoryFilter;
 import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DateUtil;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 public class TransactionHistoryOperations extends BaseAirtimeOperation {
 
@@ -21,6 +23,14 @@ public class TransactionHistoryOperations extends BaseAirtimeOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public TransactionHistoryOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                                        AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public Request<Page<TopupTransaction>> list() {
         return createGetRequest(getBuilder(TOPUP_TRANSACTION_HISTORY_END_POINT).build().toString(),
                 new TypeReference<Page<TopupTransaction>>() {
@@ -36,6 +46,23 @@ public class TransactionHistoryOperations extends BaseAirtimeOperation {
         );
     }
 
+    /**
+     * Walks every page of the topup transactions, fetching the pages lazily as the transactions are consumed. The page and size of
+     * the given filter are ignored, use {@link Paginator#withPageSize(int)} instead.
+     *
+     * @param filter - The filter to apply, may be null
+     * @return a paginator over the topup transactions
+     */
+    public Paginator<TopupTransaction> listAll(TransactionHistoryFilter filter) {
+        if (filter != null) {
+            validateStartAndEndDate(filter);
+        }
+        return createPaginator(buildFilters(filter, TOPUP_TRANSACTION_HISTORY_END_POINT),
+                new TypeReference<Page<TopupTransaction>>() {
+                }
+        );
+    }
+
     public Request<TopupTransaction> getById(Long transactionId) {
         Asserter.assertNotNull(transactionId, "Transaction id");
         Asserter.assertGreaterThanZero(transactionId, "Transaction id");
@@ -52,16 +79,15 @@ public class TransactionHistoryOperations extends BaseAirtimeOperation {
         LocalDateTime startDate = null;
         final String END_DATE = "endDate";
         final String START_DATE = "startDate";
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
         String endDateStr = (String) filter.getParameters().getOrDefault(END_DATE, null);
         String startDateStr = (String) filter.getParameters().getOrDefault(START_DATE, null);
 
         if (StringUtils.isNotBlank(endDateStr)) {
-            endDate = LocalDateTime.parse(endDateStr, dateFormatter);
+            endDate = DateUtil.parseDateTime(endDateStr);
         }
 
         if (StringUtils.isNotBlank(startDateStr)) {
-            startDate = LocalDateTime.parse(startDateStr, dateFormatter);
+            startDate = DateUtil.parseDateTime(startDateStr);
         }
 
         if ((startDate == null && endDate != null) || (startDate != null && endDate == null)) {
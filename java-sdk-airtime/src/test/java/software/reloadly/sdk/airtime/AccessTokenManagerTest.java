@@ -0,0 +1,196 @@
+package software.reloadly.sdk.airtime;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.core.enums.Service;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.token.AccessToken;
+import software.reloadly.sdk.core.internal.token.AccessTokenManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AccessTokenManagerTest {
+
+    @Test
+    public void testTokenIsCachedPerClientIdAndService() throws Exception {
+        AccessTokenManager manager = new AccessTokenManager();
+        AtomicInteger fetches = new AtomicInteger();
+        String token = createToken(Instant.now().plusSeconds(3600));
+
+        for (int i = 0; i < 5; i++) {
+            AccessToken accessToken = manager.getAccessToken("client-id", Service.AIRTIME, () -> {
+                fetches.incrementAndGet();
+                return AccessToken.of(token, 3600);
+            });
+            assertThat(accessToken.getValue(), is(token));
+        }
+        assertThat(fetches.get(), equalTo(1));
+
+        manager.getAccessToken("client-id", Service.GIFTCARD, () -> {
+            fetches.incrementAndGet();
+            return AccessToken.of(token, 3600);
+        });
+        manager.getAccessToken("other-client-id", Service.AIRTIME, () -> {
+            fetches.incrementAndGet();
+            return AccessToken.of(token, 3600);
+        });
+        assertThat(fetches.get(), equalTo(3));
+    }
+
+    @Test
+    public void testTokenAboutToExpireIsRenewedInTheBackground() throws Exception {
+        AccessTokenManager manager = new AccessTokenManager(Runnable::run);
+        AtomicInteger fetches = new AtomicInteger();
+        String token = createToken(Instant.now().plusSeconds(60));
+
+        for (int i = 0; i < 3; i++) {
+            AccessToken accessToken = manager.getAccessToken("client-id", Service.AIRTIME, () -> {
+                fetches.incrementAndGet();
+                return AccessToken.of(token, 3600);
+            });
+            assertThat(accessToken.getValue(), is(token));
+        }
+        assertThat(fetches.get(), equalTo(3));
+        assertThat(manager.getMetrics().getRefreshCount(), equalTo(3L));
+        assertThat(manager.getMetrics().getBackgroundRefreshCount(), equalTo(2L));
+    }
+
+    @Test
+    public void testConcurrentCallersShareASingleTokenRequest() throws Exception {
+        AccessTokenManager manager = new AccessTokenManager();
+        AtomicInteger fetches = new AtomicInteger();
+        String token = createToken(Instant.now().plusSeconds(3600));
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<AccessToken>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> manager.getAccessToken("client-id", Service.AIRTIME, () -> {
+                    fetches.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new ReloadlyException("Interrupted", e);
+                    }
+                    return AccessToken.of(token, 3600);
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<AccessToken> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getValue(), is(token));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(fetches.get(), equalTo(1));
+        assertThat(manager.getMetrics().getRefreshCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testRefreshAccessTokenReplacesCachedToken() throws Exception {
+        AccessTokenManager manager = new AccessTokenManager();
+        String firstToken = createToken(Instant.now().plusSeconds(3600));
+        String secondToken = createToken(Instant.now().plusSeconds(7200));
+
+        manager.getAccessToken("client-id", Service.AIRTIME, () -> AccessToken.of(firstToken, 3600));
+        AccessToken refreshed = manager.refreshAccessToken("client-id", Service.AIRTIME,
+                () -> AccessToken.of(secondToken, 7200));
+        assertThat(refreshed.getValue(), is(secondToken));
+
+        AccessToken cached = manager.getAccessToken("client-id", Service.AIRTIME,
+                () -> AccessToken.of(firstToken, 3600));
+        assertThat(cached.getValue(), is(secondToken));
+    }
+
+    @Test
+    public void testRefreshOfAlreadyReplacedTokenReusesCachedToken() throws Exception {
+        AccessTokenManager manager = new AccessTokenManager();
+        AtomicInteger fetches = new AtomicInteger();
+        String firstToken = createToken(Instant.now().plusSeconds(3600));
+        String secondToken = createToken(Instant.now().plusSeconds(7200));
+        manager.getAccessToken("client-id", Service.AIRTIME, () -> AccessToken.of(firstToken, 3600));
+
+        for (int i = 0; i < 3; i++) {
+            // Every request rejected with the first token, the first refresh replaces it for the others
+            AccessToken refreshed = manager.refreshAccessToken("client-id", Service.AIRTIME, firstToken, () -> {
+                fetches.incrementAndGet();
+                return AccessToken.of(secondToken, 7200);
+            });
+            assertThat(refreshed.getValue(), is(secondToken));
+        }
+
+        assertThat(fetches.get(), equalTo(1));
+    }
+
+    @Test
+    public void testFailedRefreshIsPropagatedToCaller() {
+        AccessTokenManager manager = new AccessTokenManager();
+        Throwable exception = assertThrows(ReloadlyException.class,
+                () -> manager.getAccessToken("client-id", Service.AIRTIME, () -> {
+                    throw new ReloadlyException("Access Denied");
+                }));
+        Assertions.assertEquals("Access Denied", exception.getMessage());
+        assertThat(manager.getMetrics().getFailedRefreshCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testInvalidateRemovesCachedToken() throws Exception {
+        AccessTokenManager manager = new AccessTokenManager();
+        AtomicInteger fetches = new AtomicInteger();
+        String token = createToken(Instant.now().plusSeconds(3600));
+
+        manager.getAccessToken("client-id", Service.AIRTIME, () -> {
+            fetches.incrementAndGet();
+            return AccessToken.of(token, 3600);
+        });
+        manager.invalidate("client-id", Service.AIRTIME);
+        manager.getAccessToken("client-id", Service.AIRTIME, () -> {
+            fetches.incrementAndGet();
+            return AccessToken.of(token, 3600);
+        });
+        assertThat(fetches.get(), equalTo(2));
+    }
+
+    @Test
+    public void testExpirationUsesEarliestOfJwtClaimAndExpiresIn() {
+        Instant jwtExpiration = Instant.now().plusSeconds(600);
+        AccessToken accessToken = AccessToken.of(createToken(jwtExpiration), 3600);
+        assertThat(accessToken.getExpiresAt().getEpochSecond(), equalTo(jwtExpiration.getEpochSecond()));
+
+        AccessToken opaqueToken = AccessToken.of("some-opaque-token", 3600);
+        Assertions.assertTrue(opaqueToken.getExpiresAt().isAfter(Instant.now().plusSeconds(3500)));
+    }
+
+    @Test
+    public void testGetAccessTokenThrowsExceptionWhenClientIdIsBlank() {
+        AccessTokenManager manager = new AccessTokenManager();
+        Throwable exception = assertThrows(IllegalArgumentException.class,
+                () -> manager.getAccessToken(" ", Service.AIRTIME, () -> AccessToken.of("token", 3600)));
+        Assertions.assertEquals("'Client id' cannot be null or empty!", exception.getMessage());
+    }
+
+    private String createToken(Instant expiresAt) {
+        return JWT.create().withIssuer("reloadly").withExpiresAt(Date.from(expiresAt))
+                .sign(Algorithm.HMAC256("some-secret"));
+    }
+}
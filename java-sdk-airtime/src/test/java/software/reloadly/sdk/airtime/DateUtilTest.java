@@ -0,0 +1,66 @@
+package software.reloadly.sdk.airtime;
+
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.dto.response.TopupTransaction;
+import software.reloadly.sdk.core.internal.util.DateUtil;
+import software.reloadly.sdk.core.internal.util.ObjectMapperUtil;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DateUtilTest {
+
+    @Test
+    public void testParseDateTime() {
+        assertThat(DateUtil.parseDateTime("2021-05-27 14:03:09"), equalTo(LocalDateTime.of(2021, 5, 27, 14, 3, 9)));
+        assertThat(DateUtil.parseDateTime("2021-05-27T14:03:09Z"), equalTo(LocalDateTime.of(2021, 5, 27, 14, 3, 9)));
+    }
+
+    @Test
+    public void testParseDateReadsUtcDatesInUtc() {
+        assertThat(DateUtil.parseDate("2021-05-27T14:03:09Z").toInstant(),
+                equalTo(Instant.parse("2021-05-27T14:03:09Z")));
+        assertThat(DateUtil.parseDate("2021-05-27 14:03:09").toInstant(),
+                equalTo(LocalDateTime.of(2021, 5, 27, 14, 3, 9).atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    @Test
+    public void testParseDateTimeThrowsExceptionWhenDateIsInvalid() {
+        assertThrows(DateTimeParseException.class, () -> DateUtil.parseDateTime("2021-13-27 14:03:09"));
+        assertThrows(DateTimeParseException.class, () -> DateUtil.parseDateTime("2021-05-27 14:03"));
+        assertThrows(DateTimeParseException.class, () -> DateUtil.parseDateTime("2021-05-27 1a:03:09"));
+        assertThrows(DateTimeParseException.class, () -> DateUtil.parseDateTime(""));
+    }
+
+    @Test
+    public void testConcurrentDeserializationOfTransactionDates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = IntStream.range(0, 2000).mapToObj(i -> executor.submit(() -> {
+                LocalDateTime expected = LocalDateTime.of(2021, 1 + i % 12, 1 + i % 28, 8 + i % 12, i % 60, i % 60);
+                String json = "{\"transactionId\":" + i + ",\"transactionDate\":\""
+                        + expected.format(DateUtil.DATE_TIME_FORMATTER) + "\"}";
+                TopupTransaction transaction = ObjectMapperUtil.readerFor(TopupTransaction.class).readValue(json);
+                return expected.equals(transaction.getDateAsLocalDateTime());
+            })).collect(Collectors.toList());
+
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(), equalTo(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
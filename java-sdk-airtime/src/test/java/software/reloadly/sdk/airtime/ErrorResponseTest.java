@@ -0,0 +1,82 @@
+package software.reloadly.sdk.airtime;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.oauth.OAuthException;
+import software.reloadly.sdk.core.internal.util.DateUtil;
+import software.reloadly.sdk.core.net.HttpOptions;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Instant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ErrorResponseTest {
+
+    private static final String OPERATOR_NOT_FOUND = "src/test/resources/error/operator_not_found.json";
+    private static final String INVALID_TOKEN = "src/test/resources/error/invalid_token.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(HttpOptions.builder().retryPolicy(RetryPolicy.none()).build()).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    public void testErrorBodyIsMappedToAPIException() throws Exception {
+        server.jsonResponse(OPERATOR_NOT_FOUND, 404);
+
+        APIException exception = assertThrows(APIException.class, () -> airtimeAPI.operators().getById(1L).execute());
+
+        assertThat(exception, not(instanceOf(OAuthException.class)));
+        assertThat(exception.getHttpStatusCode(), equalTo(404));
+        assertThat(exception.getMessage(), equalTo("Operator not found for parameters : id=1"));
+        assertThat(exception.getPath(), equalTo("/operators/1"));
+        assertThat(exception.getErrorCode(), equalTo("OPERATOR_NOT_FOUND"));
+        assertThat(exception.getDetails(), is(empty()));
+        assertThat(exception.getTimeStamp(), equalTo(DateUtil.parseDate("2021-05-27 14:03:09")));
+    }
+
+    @Test
+    public void testAuthenticationErrorIsMappedToOAuthException() throws Exception {
+        server.jsonResponse(INVALID_TOKEN, 401);
+
+        APIException exception = assertThrows(APIException.class, () -> airtimeAPI.countries().list().execute());
+
+        assertThat(exception, instanceOf(OAuthException.class));
+        assertThat(exception.getErrorCode(), equalTo("INVALID_TOKEN"));
+        assertThat(exception.getTimeStamp().toInstant(), equalTo(Instant.ofEpochMilli(1622124189000L)));
+    }
+
+    @Test
+    public void testUndecodableErrorBodyIsReportedWithTheStatusCode() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(502).setBody("<html>Bad gateway</html>"));
+
+        APIException exception = assertThrows(APIException.class, () -> airtimeAPI.countries().list().execute());
+
+        assertThat(exception.getHttpStatusCode(), equalTo(502));
+        assertThat(exception.getCause(), is(notNullValue()));
+    }
+}
@@ -0,0 +1,101 @@
+package software.reloadly.sdk.airtime;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.authentication.client.AuthenticationAPI;
+import software.reloadly.sdk.core.enums.Service;
+import software.reloadly.sdk.core.internal.net.API;
+import software.reloadly.sdk.core.internal.net.HttpTransport;
+import software.reloadly.sdk.core.net.HttpOptions;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class HttpTransportTest {
+
+    private static final String COUNTRY_LIST = "src/test/resources/country/country_list.json";
+
+    @Test
+    public void testClientsShareConnectionPoolAndDispatcher() throws Exception {
+        OkHttpClient airtimeClient = getClient(AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .build());
+        OkHttpClient otherAirtimeClient = getClient(AirtimeAPI.builder()
+                .accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).enableLogging(true).build());
+        OkHttpClient authenticationClient = getClient(AuthenticationAPI.builder().clientId("client-id")
+                .clientSecret("client-secret").service(Service.AIRTIME_SANDBOX).build());
+
+        assertThat(airtimeClient, not(sameInstance(otherAirtimeClient)));
+        assertThat(airtimeClient.connectionPool(), sameInstance(otherAirtimeClient.connectionPool()));
+        assertThat(airtimeClient.connectionPool(), sameInstance(authenticationClient.connectionPool()));
+        assertThat(airtimeClient.dispatcher(), sameInstance(HttpTransport.getDispatcher()));
+        assertThat(authenticationClient.dispatcher(), sameInstance(HttpTransport.getDispatcher()));
+        assertThat(airtimeClient.sslSocketFactory(), sameInstance(authenticationClient.sslSocketFactory()));
+    }
+
+    @Test
+    public void testConnectionPoolIsSharedPerPoolSettings() {
+        HttpOptions options = HttpOptions.builder().maxIdleConnections(10)
+                .keepAliveDuration(Duration.ofMinutes(1)).build();
+        HttpOptions sameOptions = HttpOptions.builder().maxIdleConnections(10)
+                .keepAliveDuration(Duration.ofSeconds(60)).build();
+        HttpOptions otherOptions = HttpOptions.builder().maxIdleConnections(20)
+                .keepAliveDuration(Duration.ofMinutes(1)).build();
+
+        OkHttpClient client = HttpTransport.newClientBuilder(options).build();
+        assertThat(client.connectionPool(), sameInstance(HttpTransport.newClientBuilder(sameOptions).build()
+                .connectionPool()));
+        assertThat(client.connectionPool(), not(sameInstance(HttpTransport.newClientBuilder(otherOptions).build()
+                .connectionPool())));
+    }
+
+    @Test
+    public void testHttp2IsNegotiatedUnlessDisabled() throws Exception {
+        OkHttpClient client = getClient(AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build());
+        OkHttpClient http1Client = getClient(AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(HttpOptions.builder().enableHttp2(false).build()).build());
+
+        assertThat(client.protocols(), contains(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        assertThat(http1Client.protocols(), contains(Protocol.HTTP_1_1));
+    }
+
+    @Test
+    public void testWarmUpOpensAConnectionReusedByTheFirstRequest() throws Exception {
+        AirtimeAPIMockServer server = new AirtimeAPIMockServer();
+        try {
+            AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+            Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+            baseUrlField.setAccessible(true);
+            baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+            server.enqueue(new MockResponse().setResponseCode(404));
+            server.jsonResponse(COUNTRY_LIST, 200);
+
+            airtimeAPI.warmUp();
+            airtimeAPI.countries().list().execute();
+
+            RecordedRequest warmUpRequest = server.takeRequest();
+            RecordedRequest firstRequest = server.takeRequest();
+            assertThat(warmUpRequest.getMethod(), equalTo("HEAD"));
+            assertThat(firstRequest.getSequenceNumber(), equalTo(warmUpRequest.getSequenceNumber() + 1));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private OkHttpClient getClient(API api) throws Exception {
+        Field clientField = API.class.getDeclaredField("client");
+        clientField.setAccessible(true);
+        return (OkHttpClient) clientField.get(api);
+    }
+}
@@ -0,0 +1,172 @@
+package software.reloadly.sdk.airtime;
+
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.core.cache.CacheLoader;
+import software.reloadly.sdk.core.cache.CacheOptions;
+import software.reloadly.sdk.core.cache.LoadingCache;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadingCacheTest {
+
+    @Test
+    public void testValuesAreLoadedOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<Integer, String> cache = new LoadingCache<>(key -> {
+            loads.incrementAndGet();
+            return "value-" + key;
+        }, new CacheOptions());
+
+        assertThat(cache.get(1), equalTo("value-1"));
+        assertThat(cache.get(1), equalTo("value-1"));
+        assertThat(cache.get(2), equalTo("value-2"));
+
+        assertThat(loads.get(), equalTo(2));
+        assertThat(cache.getMetrics().getHitCount(), equalTo(1L));
+        assertThat(cache.getMetrics().getMissCount(), equalTo(2L));
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        LoadingCache<Integer, String> cache = new LoadingCache<>(key -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new ReloadlyException("Interrupted", e);
+            }
+            return "value";
+        }, new CacheOptions());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(1)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), equalTo("value"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get(), equalTo(1));
+    }
+
+    @Test
+    public void testStaleValueIsServedWhileReloading() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<Integer, Integer> cache = new LoadingCache<>(key -> loads.incrementAndGet(),
+                CacheOptions.builder().ttl(Duration.ofMillis(50)).staleTtl(Duration.ofMinutes(1)).build(),
+                Runnable::run);
+
+        assertThat(cache.get(1), equalTo(1));
+        Thread.sleep(100);
+
+        // The stale value is returned, the reload runs on the given executor
+        assertThat(cache.get(1), equalTo(1));
+        assertThat(cache.get(1), equalTo(2));
+        assertThat(cache.getMetrics().getStaleHitCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testFailedReloadKeepsTheStaleValue() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<Integer, String> cache = new LoadingCache<>(new CacheLoader<Integer, String>() {
+            @Override
+            public String load(Integer key) {
+                loads.incrementAndGet();
+                return "value";
+            }
+
+            @Override
+            public String reload(Integer key, String oldValue) throws ReloadlyException {
+                throw new ReloadlyException("Unavailable");
+            }
+        }, CacheOptions.builder().ttl(Duration.ofMillis(50)).staleTtl(Duration.ofMinutes(1)).build(), Runnable::run);
+
+        cache.get(1);
+        Thread.sleep(100);
+
+        assertThat(cache.get(1), equalTo("value"));
+        assertThat(cache.getIfPresent(1), equalTo("value"));
+        assertThat(cache.getMetrics().getFailedLoadCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testExpiredValueIsLoadedAgain() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<Integer, Integer> cache = new LoadingCache<>(key -> loads.incrementAndGet(),
+                CacheOptions.builder().ttl(Duration.ofMillis(20)).staleTtl(Duration.ZERO).build());
+
+        assertThat(cache.get(1), equalTo(1));
+        Thread.sleep(50);
+
+        assertThat(cache.getIfPresent(1), nullValue());
+        assertThat(cache.get(1), equalTo(2));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+        LoadingCache<Integer, String> cache = new LoadingCache<>(String::valueOf,
+                CacheOptions.builder().maxSize(2).build());
+
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3);
+
+        assertThat(cache.keys(), contains(1, 3));
+        assertThat(cache.getMetrics().getEvictionCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testNullValuesAreNotCached() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LoadingCache<Integer, String> cache = new LoadingCache<>(key -> {
+            loads.incrementAndGet();
+            return null;
+        }, new CacheOptions());
+
+        assertThat(cache.get(1), nullValue());
+        assertThat(cache.get(1), nullValue());
+        assertThat(loads.get(), equalTo(2));
+        assertThat(cache.size(), equalTo(0));
+    }
+
+    @Test
+    public void testLoadFailureIsRethrown() {
+        LoadingCache<Integer, String> cache = new LoadingCache<>(key -> {
+            throw new ReloadlyException("Unavailable");
+        }, new CacheOptions());
+
+        ReloadlyException exception = assertThrows(ReloadlyException.class, () -> cache.get(1));
+        assertThat(exception.getMessage(), equalTo("Unavailable"));
+    }
+
+    @Test
+    public void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> CacheOptions.builder().ttl(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> CacheOptions.builder().staleTtl(Duration.ofSeconds(-1)).build());
+        assertThrows(IllegalArgumentException.class, () -> CacheOptions.builder().maxSize(0).build());
+    }
+}
@@ -0,0 +1,50 @@
+package software.reloadly.sdk.airtime;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.core.internal.util.ObjectMapperUtil;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ObjectMapperUtilTest {
+
+    @Test
+    public void testReadersAreCachedPerType() throws Exception {
+        ObjectReader reader = ObjectMapperUtil.readerFor(new TypeReference<List<Country>>() {
+        });
+        ObjectReader sameReader = ObjectMapperUtil.readerFor(new TypeReference<List<Country>>() {
+        });
+        ObjectReader otherReader = ObjectMapperUtil.readerFor(new TypeReference<Country>() {
+        });
+
+        assertThat(reader, sameInstance(sameReader));
+        assertThat(reader, not(sameInstance(otherReader)));
+        assertThat(otherReader, sameInstance(ObjectMapperUtil.readerFor(Country.class)));
+
+        String payload = new String(Files.readAllBytes(Paths.get("src/test/resources/country/country_list.json")));
+        List<Country> countries = reader.readValue(payload);
+        assertThat(countries, is(not(empty())));
+        assertThat(countries.get(0), is(instanceOf(Country.class)));
+    }
+
+    @Test
+    public void testWritersAreCachedPerClass() {
+        assertThat(ObjectMapperUtil.writerFor(Country.class), sameInstance(ObjectMapperUtil.writerFor(Country.class)));
+    }
+
+    @Test
+    public void testReaderForThrowsExceptionWhenTypeIsNull() {
+        Throwable exception = assertThrows(IllegalArgumentException.class,
+                () -> ObjectMapperUtil.readerFor((Class<?>) null));
+        Assertions.assertEquals("'Type' cannot be null!", exception.getMessage());
+    }
+}
@@ -0,0 +1,209 @@
+package software.reloadly.sdk.airtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import software.reloadly.sdk.core.dto.response.Page;
+import software.reloadly.sdk.core.exception.RateLimitException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PaginatorTest {
+
+    @Test
+    public void testIteratesOverEveryPageInOrder() {
+        List<Integer> requestedPages = new ArrayList<>();
+        Paginator<Integer> paginator = new Paginator<>((pageNumber, pageSize) -> {
+            requestedPages.add(pageNumber);
+            return completedRequest(createPage(pageNumber, pageSize, 10));
+        }, 3, 0);
+
+        List<Integer> elements = new ArrayList<>();
+        paginator.forEach(elements::add);
+
+        assertThat(elements, equalTo(IntStream.range(0, 10).boxed().collect(Collectors.toList())));
+        assertThat(requestedPages, contains(1, 2, 3, 4));
+    }
+
+    @Test
+    public void testPagesAreRequestedAheadOfConsumption() {
+        List<Integer> requestedPages = new ArrayList<>();
+        Paginator<Integer> paginator = new Paginator<Integer>((pageNumber, pageSize) -> {
+            requestedPages.add(pageNumber);
+            return completedRequest(createPage(pageNumber, pageSize, 50));
+        }).withPageSize(5).withPrefetch(3);
+
+        Iterator<Integer> iterator = paginator.iterator();
+        assertThat(iterator.next(), is(0));
+        assertThat(requestedPages, contains(1, 2, 3, 4));
+
+        for (int i = 0; i < 5; i++) {
+            iterator.next();
+        }
+        assertThat(requestedPages, contains(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void testIterationStopsAtFirstEmptyPage() {
+        Paginator<Integer> paginator = new Paginator<>((pageNumber, pageSize) ->
+                completedRequest(pageNumber == 1 ? createPage(pageNumber, pageSize, 100) :
+                        new Page<>(Collections.emptyList())), 10, 2);
+
+        try (Stream<Integer> stream = paginator.stream()) {
+            assertThat(stream.count(), equalTo(10L));
+        }
+    }
+
+    @Test
+    public void testFailedPageIsRethrownAsUncheckedException() {
+        Paginator<Integer> paginator = new Paginator<>((pageNumber, pageSize) -> {
+            if (pageNumber == 2) {
+                CompletableFuture<Page<Integer>> future = new CompletableFuture<>();
+                future.completeExceptionally(new ReloadlyException("Page not available"));
+                return futureRequest(future);
+            }
+            return completedRequest(createPage(pageNumber, pageSize, 10));
+        }, 5, 1);
+
+        Iterator<Integer> iterator = paginator.iterator();
+        for (int i = 0; i < 5; i++) {
+            iterator.next();
+        }
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class, iterator::next);
+        Assertions.assertEquals("Page not available", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void testFetchAllReassemblesConcurrentPagesInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger concurrentRequests = new AtomicInteger();
+        AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        try {
+            Paginator<Integer> paginator = new Paginator<>((pageNumber, pageSize) ->
+                    futureRequest(CompletableFuture.supplyAsync(() -> {
+                        maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(ThreadLocalRandom.current().nextInt(20));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        concurrentRequests.decrementAndGet();
+                        return createPage(pageNumber, pageSize, 500);
+                    }, executor)), 10, 0);
+
+            List<Integer> elements = paginator.fetchAll(4);
+
+            assertThat(elements, equalTo(IntStream.range(0, 500).boxed().collect(Collectors.toList())));
+            Assertions.assertTrue(maxConcurrentRequests.get() <= 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFetchAllUnorderedEmitsEveryPage() throws Exception {
+        Paginator<Integer> paginator = new Paginator<>((pageNumber, pageSize) ->
+                completedRequest(createPage(pageNumber, pageSize, 95)), 10, 0);
+
+        Set<Integer> pageNumbers = new HashSet<>();
+        paginator.fetchAll(3, false, page -> pageNumbers.add(page.getNumber()));
+
+        assertThat(pageNumbers, equalTo(IntStream.range(0, 10).boxed().collect(Collectors.toSet())));
+    }
+
+    @Test
+    public void testFetchAllRetriesRateLimitedPages() throws Exception {
+        AtomicInteger rateLimitedRequests = new AtomicInteger();
+        Paginator<Integer> paginator = new Paginator<>((pageNumber, pageSize) -> {
+            if (pageNumber == 3 && rateLimitedRequests.getAndIncrement() == 0) {
+                RateLimitException exception = new RateLimitException("Too many requests", "/", 429, null);
+                exception.setExpectedResetTimestamp(Instant.now().getEpochSecond() - 1);
+                CompletableFuture<Page<Integer>> future = new CompletableFuture<>();
+                future.completeExceptionally(exception);
+                return futureRequest(future);
+            }
+            return completedRequest(createPage(pageNumber, pageSize, 50));
+        }, 10, 0);
+
+        assertThat(paginator.fetchAll(2), equalTo(IntStream.range(0, 50).boxed().collect(Collectors.toList())));
+        assertThat(rateLimitedRequests.get(), equalTo(2));
+    }
+
+    @Test
+    public void testFetchAllRethrowsFailedPage() {
+        Paginator<Integer> paginator = new Paginator<>((pageNumber, pageSize) -> {
+            if (pageNumber == 4) {
+                CompletableFuture<Page<Integer>> future = new CompletableFuture<>();
+                future.completeExceptionally(new ReloadlyException("Page not available"));
+                return futureRequest(future);
+            }
+            return completedRequest(createPage(pageNumber, pageSize, 100));
+        }, 10, 0);
+
+        Throwable exception = assertThrows(ReloadlyException.class, () -> paginator.fetchAll(3));
+        Assertions.assertEquals("Page not available", exception.getMessage());
+    }
+
+    @Test
+    public void testPaginatorThrowsExceptionWhenPageSizeIsNotPositive() {
+        Throwable exception = assertThrows(IllegalArgumentException.class,
+                () -> new Paginator<Integer>((pageNumber, pageSize) -> null, 0, 1));
+        Assertions.assertEquals("Page size must be greater than zero", exception.getMessage());
+    }
+
+    private Page<Integer> createPage(int pageNumber, int pageSize, int totalElements) {
+        int from = (pageNumber - 1) * pageSize;
+        List<Integer> content = IntStream.range(from, Math.min(from + pageSize, totalElements)).boxed()
+                .collect(Collectors.toList());
+        return new Page<>(content, PageRequest.of(pageNumber - 1, pageSize),
+                totalElements);
+    }
+
+    private Request<Page<Integer>> completedRequest(Page<Integer> page) {
+        return futureRequest(CompletableFuture.completedFuture(page));
+    }
+
+    private Request<Page<Integer>> futureRequest(CompletableFuture<Page<Integer>> future) {
+        return new Request<Page<Integer>>() {
+            @Override
+            public Page<Integer> execute() {
+                return future.join();
+            }
+
+            @Override
+            public CompletableFuture<Page<Integer>> executeAsync() {
+                return future;
+            }
+
+            @Override
+            public Request<Page<Integer>> setTimeout(Duration timeout) {
+                return this;
+            }
+        };
+    }
+}
@@ -0,0 +1,161 @@
+package software.reloadly.sdk.airtime;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.internal.ratelimit.RateLimiter;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class RateLimiterTest {
+
+    private static final String COUNTRY_LIST = "src/test/resources/country/country_list.json";
+
+    @Test
+    public void testRequestsAreNotDelayedUntilTheRateLimitIsKnown() throws Exception {
+        RateLimiter rateLimiter = new RateLimiter();
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire();
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(500L));
+        assertThat(rateLimiter.getThrottledRequestCount(), equalTo(0L));
+    }
+
+    @Test
+    public void testRemainingRequestsAreSharedAcrossThreads() throws Exception {
+        RateLimiter rateLimiter = new RateLimiter();
+        rateLimiter.update(10, 3, Instant.now().getEpochSecond() + 60);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire();
+        }
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                rateLimiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        thread.start();
+        Assertions.assertFalse(acquired.await(300, TimeUnit.MILLISECONDS));
+        thread.interrupt();
+        thread.join(1000);
+        assertThat(rateLimiter.getThrottledRequestCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testRequestsWaitForTheRateLimitToReset() throws Exception {
+        RateLimiter rateLimiter = new RateLimiter();
+        rateLimiter.update(10, 0, Instant.now().getEpochSecond() + 2);
+
+        long start = System.nanoTime();
+        rateLimiter.acquire();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(900L));
+        assertThat(rateLimiter.getThrottledRequestCount(), equalTo(1L));
+
+        start = System.nanoTime();
+        for (int i = 0; i < 9; i++) {
+            rateLimiter.acquire();
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(500L));
+    }
+
+    @Test
+    public void testTryAcquireGivesUpWhenTheResetComesAfterTheTimeout() throws Exception {
+        RateLimiter rateLimiter = new RateLimiter();
+        rateLimiter.update(10, 0, Instant.now().getEpochSecond() + 60);
+
+        long start = System.nanoTime();
+        Assertions.assertFalse(rateLimiter.tryAcquire(1, TimeUnit.SECONDS));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(500L));
+    }
+
+    @Test
+    public void testTryAcquireNowReturnsTheDelayUntilTheReset() {
+        RateLimiter rateLimiter = new RateLimiter();
+        rateLimiter.update(10, 1, Instant.now().getEpochSecond() + 60);
+
+        assertThat(rateLimiter.tryAcquireNow(0), equalTo(Duration.ZERO));
+        assertThat(rateLimiter.tryAcquireNow(0), greaterThan(Duration.ofSeconds(58)));
+        assertThat(rateLimiter.tryAcquireNow(System.nanoTime()), greaterThan(Duration.ofSeconds(58)));
+        assertThat(rateLimiter.getThrottledRequestCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testSharedInstanceIsPerClientIdAndHost() {
+        assertThat(RateLimiter.getSharedInstance("client-id", "topups.reloadly.com"),
+                sameInstance(RateLimiter.getSharedInstance("client-id", "topups.reloadly.com")));
+        Assertions.assertNotSame(RateLimiter.getSharedInstance("client-id", "topups.reloadly.com"),
+                RateLimiter.getSharedInstance("client-id", "giftcards.reloadly.com"));
+    }
+
+    @Test
+    public void testRateLimitHeadersOfResponsesThrottleNextRequests() throws Exception {
+        AirtimeAPIMockServer server = new AirtimeAPIMockServer();
+        try {
+            AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+            Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+            baseUrlField.setAccessible(true);
+            baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+
+            server.jsonResponse(COUNTRY_LIST, 200, 100, 0, Instant.now().getEpochSecond() + 2);
+            server.jsonResponse(COUNTRY_LIST, 200);
+            airtimeAPI.countries().list().execute();
+
+            long start = System.nanoTime();
+            airtimeAPI.countries().list().execute();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(900L));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncRequestsWaitForTheResetOffTheDispatcher() throws Exception {
+        AirtimeAPIMockServer server = new AirtimeAPIMockServer();
+        try {
+            AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+            Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+            baseUrlField.setAccessible(true);
+            baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+            Field clientField = airtimeAPI.getClass().getSuperclass().getSuperclass().getDeclaredField("client");
+            clientField.setAccessible(true);
+            OkHttpClient client = (OkHttpClient) clientField.get(airtimeAPI);
+
+            server.jsonResponse(COUNTRY_LIST, 200, 100, 0, Instant.now().getEpochSecond() + 2);
+            server.jsonResponse(COUNTRY_LIST, 200);
+            airtimeAPI.countries().list().execute();
+
+            long start = System.nanoTime();
+            CompletableFuture<List<Country>> future = airtimeAPI.countries().list().executeAsync();
+            Thread.sleep(300);
+            Assertions.assertFalse(future.isDone());
+            assertThat(client.dispatcher().runningCallsCount(), equalTo(0));
+
+            future.get(5, TimeUnit.SECONDS);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(900L));
+            assertThat(server.getRequestCount(), equalTo(2));
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package software.reloadly.sdk.airtime;
+
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.core.cache.RefreshedTable;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RefreshedTableTest {
+
+    @Test
+    public void testConcurrentFirstUsesLoadOnce() throws Exception {
+        CountingTable table = new CountingTable(Duration.ZERO);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return table.get();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS), equalTo(1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(table.loads.get(), equalTo(1));
+    }
+
+    @Test
+    public void testBackgroundRefreshesStartWithTheFirstRefresh() throws Exception {
+        CountingTable table = new CountingTable(Duration.ofMillis(20));
+        Thread.sleep(100);
+        assertThat(table.loads.get(), equalTo(0));
+
+        table.get();
+        Thread.sleep(200);
+        table.close();
+        Thread.sleep(50);
+        int loads = table.loads.get();
+        Thread.sleep(100);
+
+        assertThat(loads, greaterThan(1));
+        assertThat(table.loads.get(), equalTo(loads));
+    }
+
+    @Test
+    public void testFailedBackgroundRefreshesAreCounted() throws Exception {
+        CountingTable table = new CountingTable(Duration.ofMillis(20));
+        table.get();
+        table.failing = true;
+        Thread.sleep(200);
+        table.close();
+
+        assertThat(table.getFailedRefreshCount(), greaterThan(0L));
+        assertThat(table.get(), equalTo(1));
+        assertThrows(ReloadlyException.class, table::refresh);
+    }
+
+    @Test
+    public void testNegativeRefreshInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingTable(Duration.ofSeconds(-1)));
+    }
+
+    private static class CountingTable extends RefreshedTable {
+
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile Integer value;
+        private volatile boolean failing;
+
+        private CountingTable(Duration refreshInterval) {
+            super(refreshInterval, "reloadly-test-refresh");
+        }
+
+        private Integer get() throws ReloadlyException {
+            ensureLoaded();
+            return value;
+        }
+
+        @Override
+        protected int load() throws ReloadlyException {
+            if (failing) {
+                throw new ReloadlyException("Refresh failed");
+            }
+            int loaded = loads.incrementAndGet();
+            if (value == null) {
+                value = loaded;
+            }
+            return 1;
+        }
+
+        @Override
+        protected boolean isLoaded() {
+            return value != null;
+        }
+    }
+}
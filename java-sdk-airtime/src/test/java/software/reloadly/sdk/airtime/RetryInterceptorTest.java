@@ -0,0 +1,183 @@
+package software.reloadly.sdk.airtime;
+
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.Phone;
+import software.reloadly.sdk.airtime.dto.request.PhoneTopupRequest;
+import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.airtime.dto.response.TopupTransaction;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.RateLimitException;
+import software.reloadly.sdk.core.net.HttpOptions;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RetryInterceptorTest {
+
+    private static final String COUNTRY_LIST = "src/test/resources/country/country_list.json";
+    private static final String PHONE_TOPUP = "src/test/resources/topup/phone_topup_transaction.json";
+    private static final String SERVICE_UNAVAILABLE = "src/test/resources/error/service_unavailable.json";
+    private static final String TOO_MANY_REQUESTS = "src/test/resources/error/too_many_requests.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        RetryPolicy retryPolicy = RetryPolicy.builder().maxAttempts(3).initialBackoff(Duration.ofMillis(10))
+                .maxBackoff(Duration.ofSeconds(5)).build();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(HttpOptions.builder().retryPolicy(retryPolicy).build()).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    public void testServerErrorsAreRetriedForIdempotentRequests() throws Exception {
+        server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+        server.jsonResponse(SERVICE_UNAVAILABLE, 502);
+        server.jsonResponse(COUNTRY_LIST, 200);
+
+        List<Country> countries = airtimeAPI.countries().list().execute();
+
+        assertThat(countries, is(not(empty())));
+        assertThat(server.getRequestCount(), equalTo(3));
+    }
+
+    @Test
+    public void testConnectionFailuresAreRetriedForIdempotentRequests() throws Exception {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        server.jsonResponse(COUNTRY_LIST, 200);
+
+        List<Country> countries = airtimeAPI.countries().list().execute();
+
+        assertThat(countries, is(not(empty())));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testFailureIsReportedOnceMaxAttemptsAreReached() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+        }
+
+        APIException exception = assertThrows(APIException.class, () -> airtimeAPI.countries().list().execute());
+        assertThat(exception.getHttpStatusCode(), equalTo(503));
+        assertThat(server.getRequestCount(), equalTo(3));
+    }
+
+    @Test
+    public void testAsyncRequestsWaitForTheNextAttemptOffTheDispatcher() throws Exception {
+        RetryPolicy retryPolicy = RetryPolicy.builder().maxAttempts(3).initialBackoff(Duration.ofMillis(500))
+                .jitter(0.0).build();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(HttpOptions.builder().retryPolicy(retryPolicy).build()).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        Field clientField = airtimeAPI.getClass().getSuperclass().getSuperclass().getDeclaredField("client");
+        clientField.setAccessible(true);
+        OkHttpClient client = (OkHttpClient) clientField.get(airtimeAPI);
+        for (int i = 0; i < 3; i++) {
+            server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+        }
+
+        CompletableFuture<List<Country>> future = airtimeAPI.countries().list().executeAsync();
+        Thread.sleep(200);
+        Assertions.assertFalse(future.isDone());
+        assertThat(client.dispatcher().runningCallsCount(), equalTo(0));
+
+        Throwable cause = assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS)).getCause();
+        assertThat(cause, isA(APIException.class));
+        assertThat(((APIException) cause).getHttpStatusCode(), equalTo(503));
+        assertThat(server.getRequestCount(), equalTo(3));
+    }
+
+    @Test
+    public void testServerErrorsAreNotRetriedForTopups() throws Exception {
+        server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+
+        APIException exception = assertThrows(APIException.class,
+                () -> airtimeAPI.topups().send(createTopupRequest()).execute());
+        assertThat(exception.getHttpStatusCode(), equalTo(503));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testRateLimitedTopupsAreRetried() throws Exception {
+        server.rateLimitResponse(TOO_MANY_REQUESTS, 100, 0, Instant.now().getEpochSecond() - 1);
+        server.jsonResponse(PHONE_TOPUP, 200);
+
+        TopupTransaction transaction = airtimeAPI.topups().send(createTopupRequest()).execute();
+
+        assertThat(transaction, is(notNullValue()));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testRateLimitResettingAfterMaxBackoffIsReported() throws Exception {
+        server.rateLimitResponse(TOO_MANY_REQUESTS, 100, 0, Instant.now().getEpochSecond() - 1 + 3600);
+
+        assertThrows(RateLimitException.class, () -> airtimeAPI.countries().list().execute());
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testBackoffGrowsExponentiallyUpToMaxBackoff() {
+        RetryPolicy retryPolicy = RetryPolicy.builder().initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(1000)).multiplier(2.0).jitter(0.0).build();
+
+        assertThat(retryPolicy.getBackoff(1), equalTo(Duration.ofMillis(100)));
+        assertThat(retryPolicy.getBackoff(3), equalTo(Duration.ofMillis(400)));
+        assertThat(retryPolicy.getBackoff(10), equalTo(Duration.ofMillis(1000)));
+
+        RetryPolicy jitteredPolicy = RetryPolicy.builder().initialBackoff(Duration.ofMillis(100)).jitter(0.5).build();
+        for (int i = 0; i < 100; i++) {
+            assertThat(jitteredPolicy.getBackoff(1).toMillis(), is(both(greaterThanOrEqualTo(50L))
+                    .and(lessThanOrEqualTo(100L))));
+        }
+    }
+
+    @Test
+    public void testRetryPolicyThrowsExceptionWhenJitterIsOutOfRange() {
+        Throwable exception = assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicy.builder().jitter(1.5).build());
+        Assertions.assertEquals("Jitter must be between 0 and 1", exception.getMessage());
+    }
+
+    private PhoneTopupRequest createTopupRequest() {
+        return PhoneTopupRequest.builder()
+                .recipientPhone(new Phone("+50936377111", CountryCode.HT))
+                .customIdentifier(UUID.randomUUID().toString())
+                .amount(15.00)
+                .operatorId(173L).build();
+    }
+}
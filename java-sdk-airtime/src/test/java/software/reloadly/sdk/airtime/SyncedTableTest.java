@@ -0,0 +1,62 @@
+package software.reloadly.sdk.airtime;
+
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.core.cache.SyncedTable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SyncedTableTest {
+
+    @Test
+    public void testOnlyChangedEntriesAreReplaced() {
+        SyncedTable<String, String> table = new SyncedTable<>(value -> value.substring(0, 1), null);
+        String apple = new String("apple");
+
+        assertThat(table.sync(Arrays.asList(apple, "banana"), true), equalTo(2));
+        Map<String, String> before = table.asMap();
+        assertThat(table.sync(Arrays.asList(new String("apple"), "banana"), true), equalTo(0));
+        assertThat(table.asMap(), sameInstance(before));
+        assertThat(table.get("a"), sameInstance(apple));
+
+        assertThat(table.sync(Arrays.asList("avocado", "banana"), true), equalTo(1));
+        assertThat(table.get("a"), equalTo("avocado"));
+        assertThat(before.get("a"), sameInstance(apple));
+    }
+
+    @Test
+    public void testVersionsDecideWhetherEntriesAreReplaced() {
+        SyncedTable<Integer, int[]> table = new SyncedTable<>(value -> value[0], (value, cached) -> value[1] > cached[1]);
+        table.sync(Collections.singletonList(new int[]{1, 5}), true);
+
+        assertThat(table.put(new int[]{1, 4}), is(false));
+        assertThat(table.put(new int[]{1, 5}), is(false));
+        assertThat(table.put(new int[]{1, 6}), is(true));
+        assertThat(table.get(1)[1], equalTo(6));
+    }
+
+    @Test
+    public void testCompleteSyncsRemoveUnlistedEntries() {
+        SyncedTable<String, String> table = new SyncedTable<>(value -> value.substring(0, 1), null);
+        assertThat(table.isSynced(), is(false));
+        table.sync(Arrays.asList("apple", "banana", "cherry"), true);
+
+        assertThat(table.sync(Collections.singletonList("date"), false), equalTo(1));
+        assertThat(table.size(), equalTo(4));
+        assertThat(table.sync(Arrays.asList("apple", "cherry"), true), equalTo(2));
+        assertThat(table.asMap().keySet(), containsInAnyOrder("a", "c"));
+        assertThat(table.isSynced(), is(true));
+
+        assertThat(table.remove("c"), is(true));
+        assertThat(table.remove("c"), is(false));
+        assertThat(table.asMap().keySet(), contains("a"));
+
+        table.clear();
+        assertThat(table.size(), equalTo(0));
+        assertThat(table.isSynced(), is(false));
+    }
+}
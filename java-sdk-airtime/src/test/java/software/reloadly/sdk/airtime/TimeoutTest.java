@@ -0,0 +1,134 @@
+package software.reloadly.sdk.airtime;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.net.HttpOptions;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TimeoutTest {
+
+    private static final String COUNTRY_LIST = "src/test/resources/country/country_list.json";
+    private static final String SERVICE_UNAVAILABLE = "src/test/resources/error/service_unavailable.json";
+
+    private AirtimeAPIMockServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    public void testReadTimeoutIsNotTakenFromConnectTimeout() throws Exception {
+        AirtimeAPI airtimeAPI = createAirtimeAPI(HttpOptions.builder().connectTimeout(Duration.ofSeconds(10))
+                .readTimeout(Duration.ofMillis(200)).retryPolicy(RetryPolicy.none()).build());
+        server.enqueue(delayedResponse(COUNTRY_LIST, 200, Duration.ofSeconds(2)));
+
+        long start = System.nanoTime();
+        ReloadlyException exception = assertThrows(ReloadlyException.class,
+                () -> airtimeAPI.countries().list().execute());
+        assertThat(exception.getCause(), is(instanceOf(InterruptedIOException.class)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1500L));
+    }
+
+    @Test
+    public void testRequestTimeoutCutsSlowResponses() throws Exception {
+        AirtimeAPI airtimeAPI = createAirtimeAPI(HttpOptions.builder().retryPolicy(RetryPolicy.none()).build());
+        server.enqueue(delayedResponse(COUNTRY_LIST, 200, Duration.ofSeconds(2)));
+
+        long start = System.nanoTime();
+        ReloadlyException exception = assertThrows(ReloadlyException.class,
+                () -> airtimeAPI.countries().list().setTimeout(Duration.ofMillis(200)).execute());
+        assertThat(exception.getCause(), is(instanceOf(InterruptedIOException.class)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1500L));
+    }
+
+    @Test
+    public void testRequestTimeoutOverridesCallTimeout() throws Exception {
+        AirtimeAPI airtimeAPI = createAirtimeAPI(HttpOptions.builder().callTimeout(Duration.ofMillis(100))
+                .retryPolicy(RetryPolicy.none()).build());
+        server.enqueue(delayedResponse(COUNTRY_LIST, 200, Duration.ofMillis(500)));
+
+        List<Country> countries = airtimeAPI.countries().list().setTimeout(Duration.ofSeconds(5)).execute();
+        assertThat(countries, is(not(empty())));
+    }
+
+    @Test
+    public void testRetriesDoNotOutlastTheCallTimeout() throws Exception {
+        RetryPolicy retryPolicy = RetryPolicy.builder().initialBackoff(Duration.ofSeconds(2)).jitter(0.0).build();
+        AirtimeAPI airtimeAPI = createAirtimeAPI(HttpOptions.builder().callTimeout(Duration.ofMillis(500))
+                .retryPolicy(retryPolicy).build());
+        server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+
+        long start = System.nanoTime();
+        APIException exception = assertThrows(APIException.class, () -> airtimeAPI.countries().list().execute());
+        assertThat(exception.getHttpStatusCode(), equalTo(503));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1500L));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testThrottledRequestFailsWhenTheRateLimitResetsAfterTheTimeout() throws Exception {
+        AirtimeAPI airtimeAPI = createAirtimeAPI(HttpOptions.builder().retryPolicy(RetryPolicy.none()).build());
+        server.jsonResponse(COUNTRY_LIST, 200, 100, 0, Instant.now().getEpochSecond() + 60);
+        airtimeAPI.countries().list().execute();
+
+        long start = System.nanoTime();
+        ReloadlyException exception = assertThrows(ReloadlyException.class,
+                () -> airtimeAPI.countries().list().setTimeout(Duration.ofSeconds(1)).execute());
+        assertThat(exception.getCause(), is(instanceOf(InterruptedIOException.class)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(500L));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testSetTimeoutThrowsExceptionWhenTimeoutIsNull() throws Exception {
+        AirtimeAPI airtimeAPI = createAirtimeAPI(new HttpOptions());
+        Throwable exception = assertThrows(IllegalArgumentException.class,
+                () -> airtimeAPI.countries().list().setTimeout(null));
+        Assertions.assertEquals("'Timeout' cannot be null!", exception.getMessage());
+    }
+
+    private AirtimeAPI createAirtimeAPI(HttpOptions options) throws Exception {
+        AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(options).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        return airtimeAPI;
+    }
+
+    private MockResponse delayedResponse(String path, int status, Duration delay) throws IOException {
+        return new MockResponse().setResponseCode(status)
+                .addHeader("Content-Type", "application/json")
+                .setBody(new String(Files.readAllBytes(Paths.get(path))))
+                .setHeadersDelay(delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,24 @@
+package software.reloadly.sdk.airtime;
+
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.authentication.client.AuthenticationAPI;
+import software.reloadly.sdk.core.internal.util.VersionUtil;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.matchesPattern;
+
+public class VersionUtilTest {
+
+    @Test
+    public void testModuleVersionsAreFilledInByTheBuild() {
+        assertThat(VersionUtil.getVersion(AirtimeAPI.class), matchesPattern("\\d+\\.\\d+\\.\\d+.*"));
+        assertThat(VersionUtil.getVersion(AuthenticationAPI.class), matchesPattern("\\d+\\.\\d+\\.\\d+.*"));
+    }
+
+    @Test
+    public void testVersionIsMissingWithoutVersionResource() {
+        assertThat(VersionUtil.getVersion(VersionUtilTest.class), equalTo(VersionUtil.MISSING_VERSION));
+    }
+}
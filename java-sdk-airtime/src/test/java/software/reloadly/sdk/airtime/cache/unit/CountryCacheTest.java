@@ -0,0 +1,149 @@
+package software.reloadly.sdk.airtime.cache.unit;
+
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.cache.CountryCache;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CountryCacheTest {
+
+    private static final String COUNTRY_LIST = "src/test/resources/country/country_list.json";
+    private static final String OPERATORS_PAGE = "src/test/resources/operator/operators_paged_unfiltered_response.json";
+    private static final String SERVICE_UNAVAILABLE = "src/test/resources/error/service_unavailable.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+    private CountryCache cache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (cache != null) {
+            cache.close();
+        }
+        server.stop();
+    }
+
+    @Test
+    public void testCountriesAreRetrievedOnce() throws Exception {
+        server.jsonResponse(COUNTRY_LIST, 200);
+        cache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries).build();
+
+        assertThat(cache.getRetrievedAt(), nullValue());
+        assertThat(cache.list(), hasSize(144));
+        Country haiti = cache.getByCode(CountryCode.HT);
+
+        assertThat(haiti.getName(), equalTo("Haiti"));
+        assertThat(cache.getByCode(CountryCode.AQ), nullValue());
+        assertThat(cache.getRetrievedAt(), notNullValue());
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testOperatorCountriesAreCached() throws Exception {
+        server.jsonResponse(COUNTRY_LIST, 200);
+        enqueueSinglePageCatalog();
+        cache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .operatorOperationsProvider(airtimeAPI::operators).build();
+
+        assertThat(cache.getOperatorIds(CountryCode.NG), containsInAnyOrder(340L, 645L));
+        assertThat(cache.getCountryOfOperator(729L).getIsoName(), equalTo("TH"));
+        assertThat(cache.getCountryOfOperator(1000L), nullValue());
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testSnapshotIsServedBeforeAnyRequest() throws Exception {
+        server.jsonResponse(COUNTRY_LIST, 200);
+        enqueueSinglePageCatalog();
+        cache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .operatorOperationsProvider(airtimeAPI::operators).refreshInterval(Duration.ZERO).build();
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        cache.saveSnapshot(snapshot);
+
+        CountryCache restored = CountryCache.builder().countryOperationsProvider(() -> {
+            throw new IllegalStateException("No request expected");
+        }).refreshInterval(Duration.ZERO).build();
+        restored.loadSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        assertThat(restored.list(), equalTo(cache.list()));
+        assertThat(restored.getByCode(CountryCode.HT), equalTo(cache.getByCode(CountryCode.HT)));
+        assertThat(restored.getOperatorIds(CountryCode.NG), containsInAnyOrder(340L, 645L));
+        assertThat(restored.getRetrievedAt(), equalTo(cache.getRetrievedAt()));
+    }
+
+    @Test
+    public void testSnapshotIsRevalidatedInTheBackground() throws Exception {
+        server.jsonResponse(COUNTRY_LIST, 200);
+        cache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .refreshInterval(Duration.ZERO).build();
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        cache.saveSnapshot(snapshot);
+        cache.close();
+
+        server.jsonResponse(COUNTRY_LIST, 200);
+        cache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .refreshInterval(Duration.ofHours(1)).build();
+        cache.loadSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getRequestCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(cache.getByCode(CountryCode.HT).getName(), equalTo("Haiti"));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testFailedRefreshKeepsTheCachedData() throws Exception {
+        server.jsonResponse(COUNTRY_LIST, 200);
+        // Also retried since listing the countries is idempotent
+        for (int attempt = 0; attempt < RetryPolicy.DEFAULT_MAX_ATTEMPTS; attempt++) {
+            server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+        }
+        cache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .refreshInterval(Duration.ZERO).build();
+        cache.list();
+
+        assertThrows(APIException.class, () -> cache.refresh());
+        assertThat(cache.list(), hasSize(144));
+    }
+
+    private void enqueueSinglePageCatalog() throws IOException {
+        String body = new String(Files.readAllBytes(Paths.get(OPERATORS_PAGE)))
+                .replace("\"totalElements\": 656", "\"totalElements\": 5")
+                .replace("\"totalPages\": 132", "\"totalPages\": 1");
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body));
+    }
+}
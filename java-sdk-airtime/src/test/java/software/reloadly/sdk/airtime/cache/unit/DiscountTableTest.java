@@ -0,0 +1,129 @@
+package software.reloadly.sdk.airtime.cache.unit;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.cache.DiscountTable;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.Discount;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DiscountTableTest {
+
+    private static final String DISCOUNT = "src/test/resources/discount/discount.json";
+    private static final String DISCOUNT_PAGE = "src/test/resources/discount/discount_page.json";
+    private static final String SERVICE_UNAVAILABLE = "src/test/resources/error/service_unavailable.json";
+    private static final String NATCOM_DISCOUNT = natcomDiscount("13.0", "2020-12-26 06:57:09");
+
+    private AirtimeAPIMockServer server;
+    private DiscountTable table;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        table = DiscountTable.builder().operationsProvider(airtimeAPI::discounts).refreshInterval(Duration.ZERO)
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        table.close();
+        server.stop();
+    }
+
+    @Test
+    public void testDiscountsAreRetrievedOnce() throws Exception {
+        enqueueSinglePage(NATCOM_DISCOUNT);
+
+        Discount discount = table.getByOperatorId(174L);
+
+        assertThat(discount.getPercentage(), equalTo(13.0));
+        assertThat(table.getByOperatorId(706L).getPercentage(), equalTo(10.0));
+        assertThat(table.getByOperatorId(100000L), nullValue());
+        assertThat(table.list(), hasSize(300));
+        assertThat(table.getRefreshedAt(), notNullValue());
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testOnlyUpdatedDiscountsAreReplaced() throws Exception {
+        enqueueSinglePage(NATCOM_DISCOUNT);
+        enqueueSinglePage(natcomDiscount("12.0", "2021-01-05 10:00:00"));
+        Discount unchanged = table.getByOperatorId(706L);
+
+        assertThat(table.refresh(), equalTo(1));
+        assertThat(table.getByOperatorId(174L).getPercentage(), equalTo(12.0));
+        assertThat(table.getByOperatorId(706L), sameInstance(unchanged));
+    }
+
+    @Test
+    public void testSingleOperatorIsRefreshed() throws Exception {
+        enqueueSinglePage(NATCOM_DISCOUNT);
+        table.getByOperatorId(174L);
+        server.jsonResponse(DISCOUNT, 200);
+
+        Discount discount = table.refreshOperator(174L);
+
+        assertThat(table.getByOperatorId(174L), equalTo(discount));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testRefreshOperatorRejectsInvalidIds() {
+        assertThrows(IllegalArgumentException.class, () -> table.refreshOperator(null));
+        assertThrows(IllegalArgumentException.class, () -> table.refreshOperator(0L));
+        assertThrows(IllegalArgumentException.class, () -> table.refreshOperator(-1L));
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    @Test
+    public void testFailedRefreshKeepsTheCachedDiscounts() throws Exception {
+        enqueueSinglePage(NATCOM_DISCOUNT);
+        // Also retried since listing the discounts is idempotent
+        for (int attempt = 0; attempt < RetryPolicy.DEFAULT_MAX_ATTEMPTS; attempt++) {
+            server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+        }
+        table.list();
+
+        assertThrows(APIException.class, () -> table.refresh());
+        assertThat(table.getByOperatorId(174L).getPercentage(), equalTo(13.0));
+    }
+
+    private void enqueueSinglePage(String natcomDiscount) throws IOException {
+        String body = new String(Files.readAllBytes(Paths.get(DISCOUNT_PAGE)))
+                .replace("\"totalElements\": 656", "\"totalElements\": 300")
+                .replace("\"totalPages\": 3", "\"totalPages\": 1")
+                .replace(NATCOM_DISCOUNT, natcomDiscount);
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body));
+    }
+
+    private static String natcomDiscount(String percentage, String updatedAt) {
+        return "\"percentage\": " + percentage + ",\n"
+                + "      \"internationalPercentage\": " + percentage + ",\n"
+                + "      \"localPercentage\": 0.0,\n"
+                + "      \"updatedAt\": \"" + updatedAt + "\",\n"
+                + "      \"operator\": {\n"
+                + "        \"id\": 174,";
+    }
+}
@@ -0,0 +1,188 @@
+package software.reloadly.sdk.airtime.cache.unit;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.cache.FxQuoteCache;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.OperatorFxRate;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FxQuoteCacheTest {
+
+    private static final String FX_RATE = "src/test/resources/operator/operator_fx_rate.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+    private FxQuoteCache cache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        cache = FxQuoteCache.builder().operationsProvider(airtimeAPI::operators).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    public void testQuotesAreCached() throws Exception {
+        server.jsonResponse(FX_RATE, 200);
+
+        OperatorFxRate quote = cache.calculateFxRate(174L, 10.0);
+
+        assertThat(quote.getFxRate(), equalTo(335.6f));
+        assertThat(cache.calculateFxRate(174L, 10.00), sameInstance(quote));
+        assertThat(server.getRequestCount(), equalTo(1));
+        assertThat(cache.getQuoteMetrics().getHitCount(), equalTo(1L));
+        assertThat(cache.isLinear(174L), is(false));
+    }
+
+    @Test
+    public void testExpiredQuotesAreRequestedAgain() throws Exception {
+        cache = FxQuoteCache.builder().operationsProvider(airtimeAPI::operators).ttl(Duration.ofMillis(50)).build();
+        server.jsonResponse(FX_RATE, 200);
+        server.jsonResponse(FX_RATE, 200);
+
+        cache.calculateFxRate(174L, 10.0);
+        Thread.sleep(100);
+        cache.calculateFxRate(174L, 10.0);
+
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testConcurrentIdenticalQuotesShareOneRequest() throws Exception {
+        server.enqueue(fxRateResponse(335.6).setBodyDelay(200, TimeUnit.MILLISECONDS));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OperatorFxRate>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.calculateFxRate(174L, 10.0)));
+            }
+            for (Future<OperatorFxRate> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getFxRate(), equalTo(335.6f));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testLinearRatesAreComputedLocally() throws Exception {
+        enqueueAgreeingQuotes();
+
+        OperatorFxRate quote = cache.calculateFxRate(174L, 15.0);
+
+        assertThat(cache.isLinear(174L), is(true));
+        assertThat((double) quote.getFxRate(), closeTo(503.4, 0.001));
+        assertThat(quote.getOperatorId(), equalTo(174L));
+        assertThat(quote.getCurrencyCode(), equalTo("HTG"));
+        assertThat(server.getRequestCount(), equalTo(3));
+        assertThat(cache.getComputedQuoteCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testTwoAgreeingQuotesAreNotEnough() throws Exception {
+        server.enqueue(fxRateResponse(335.6));
+        server.enqueue(fxRateResponse(1006.8));
+        server.enqueue(fxRateResponse(600.0));
+
+        cache.calculateFxRate(174L, 10.0);
+        cache.calculateFxRate(174L, 30.0);
+        OperatorFxRate quote = cache.calculateFxRate(174L, 20.0);
+
+        assertThat(cache.isLinear(174L), is(false));
+        assertThat(quote.getFxRate(), equalTo(600.0f));
+        assertThat(cache.getComputedQuoteCount(), equalTo(0L));
+    }
+
+    @Test
+    public void testOnlyAmountsBetweenAgreeingQuotesAreComputed() throws Exception {
+        enqueueAgreeingQuotes();
+        server.enqueue(fxRateResponse(1174.6));
+
+        OperatorFxRate requested = cache.calculateFxRate(174L, 35.0);
+        OperatorFxRate computed = cache.calculateFxRate(174L, 22.0);
+
+        assertThat(requested.getFxRate(), equalTo(1174.6f));
+        assertThat((double) computed.getFxRate(), closeTo(738.32, 0.001));
+        assertThat(server.getRequestCount(), equalTo(4));
+        assertThat(cache.getComputedQuoteCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testComputedQuotesAreRoundedToTheCurrency() throws Exception {
+        enqueueAgreeingQuotes();
+
+        OperatorFxRate quote = cache.calculateFxRate(174L, 12.345);
+
+        assertThat(quote.getFxRate(), equalTo(414.3f));
+        assertThat(cache.getComputedQuoteCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testNonLinearRatesAreRequested() throws Exception {
+        server.enqueue(fxRateResponse(335.6));
+        server.enqueue(fxRateResponse(700.0));
+        server.enqueue(fxRateResponse(510.0));
+
+        cache.calculateFxRate(174L, 10.0);
+        cache.calculateFxRate(174L, 20.0);
+        OperatorFxRate quote = cache.calculateFxRate(174L, 15.0);
+
+        assertThat(cache.isLinear(174L), is(false));
+        assertThat(quote.getFxRate(), equalTo(510.0f));
+        assertThat(server.getRequestCount(), equalTo(3));
+        assertThat(cache.getComputedQuoteCount(), equalTo(0L));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> cache.calculateFxRate(null, 10.0));
+        assertThrows(IllegalArgumentException.class, () -> cache.calculateFxRate(174L, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> FxQuoteCache.builder().build());
+    }
+
+    private void enqueueAgreeingQuotes() throws Exception {
+        server.enqueue(fxRateResponse(335.6));
+        server.enqueue(fxRateResponse(671.2));
+        server.enqueue(fxRateResponse(1006.8));
+        cache.calculateFxRate(174L, 10.0);
+        cache.calculateFxRate(174L, 20.0);
+        cache.calculateFxRate(174L, 30.0);
+    }
+
+    private static MockResponse fxRateResponse(double fxRate) {
+        return new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue())
+                .setBody("{\"id\": 174, \"name\": \"Natcom Haiti\", \"fxRate\": " + fxRate
+                        + ", \"currencyCode\": \"HTG\"}");
+    }
+}
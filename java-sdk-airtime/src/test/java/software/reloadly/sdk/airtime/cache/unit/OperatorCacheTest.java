@@ -0,0 +1,167 @@
+package software.reloadly.sdk.airtime.cache.unit;
+
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.cache.OperatorCache;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.Operator;
+import software.reloadly.sdk.airtime.filter.OperatorFilter;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.cache.CacheOptions;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class OperatorCacheTest {
+
+    private static final String OPERATOR = "src/test/resources/operator/operator_unfiltered_response.json";
+    private static final String OPERATORS_BY_COUNTRY =
+            "src/test/resources/operator/operators_by_country_code_unfiltered.json";
+    private static final String OPERATORS_PAGE = "src/test/resources/operator/operators_paged_unfiltered_response.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    public void testGetByIdIsCached() throws Exception {
+        server.jsonResponse(OPERATOR, 200);
+        OperatorCache cache = OperatorCache.builder().operationsProvider(airtimeAPI::operators).build();
+
+        Operator operator = cache.getById(174L);
+
+        assertThat(operator.getId(), equalTo(174L));
+        assertThat(cache.getById(174L), sameInstance(operator));
+        assertThat(server.getRequestCount(), equalTo(1));
+        assertThat(server.takeRequest().getPath(), equalTo("/operators/174"));
+    }
+
+    @Test
+    public void testFiltersAreCachedSeparately() throws Exception {
+        server.jsonResponse(OPERATOR, 200);
+        server.jsonResponse(OPERATOR, 200);
+        OperatorCache cache = OperatorCache.builder().operationsProvider(airtimeAPI::operators).build();
+
+        cache.getById(174L, new OperatorFilter().includeBundles(false));
+        cache.getById(174L, new OperatorFilter().includeBundles(false).withPage(2, 10));
+        cache.getById(174L, new OperatorFilter().includeBundles(true));
+
+        assertThat(server.getRequestCount(), equalTo(2));
+        assertThat(server.takeRequest().getRequestUrl().queryParameter("includeBundles"), equalTo("false"));
+        assertThat(server.takeRequest().getRequestUrl().queryParameter("includeBundles"), equalTo("true"));
+    }
+
+    @Test
+    public void testListByCountryCodeIsCached() throws Exception {
+        server.jsonResponse(OPERATORS_BY_COUNTRY, 200);
+        OperatorCache cache = OperatorCache.builder().operationsProvider(airtimeAPI::operators).build();
+
+        List<Operator> operators = cache.listByCountryCode(CountryCode.HT);
+
+        assertThat(operators, hasSize(4));
+        assertThat(cache.listByCountryCode(CountryCode.HT), sameInstance(operators));
+        assertThat(server.getRequestCount(), equalTo(1));
+        assertThat(server.takeRequest().getPath(), equalTo("/operators/countries/HT"));
+    }
+
+    @Test
+    public void testPreloadCachesTheCatalog() throws Exception {
+        enqueueSinglePageCatalog();
+        OperatorCache cache = OperatorCache.builder().operationsProvider(airtimeAPI::operators).build();
+
+        List<Operator> catalog = cache.preload(null);
+
+        assertThat(catalog, hasSize(5));
+        assertThat(cache.getById(729L).getName(), notNullValue());
+        List<Long> nigerianOperators = cache.listByCountryCode(CountryCode.NG).stream().map(Operator::getId)
+                .collect(Collectors.toList());
+        assertThat(nigerianOperators, containsInAnyOrder(340L, 645L));
+        assertThat(server.getRequestCount(), equalTo(1));
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getRequestUrl().encodedPath(), equalTo("/operators"));
+    }
+
+    @Test
+    public void testStaleEntriesAreRefreshedFromTheCatalog() throws Exception {
+        server.jsonResponse(OPERATORS_BY_COUNTRY, 200);
+        enqueueSinglePageCatalog();
+        OperatorCache cache = OperatorCache.builder().operationsProvider(airtimeAPI::operators)
+                .options(CacheOptions.builder().ttl(Duration.ofMillis(50)).staleTtl(Duration.ofMinutes(1)).build())
+                .build();
+
+        List<Operator> operators = cache.listByCountryCode(CountryCode.NG);
+        Thread.sleep(100);
+
+        // The stale list is served while the catalog is fetched in the background
+        assertThat(cache.listByCountryCode(CountryCode.NG), sameInstance(operators));
+        server.takeRequest();
+        assertThat(server.takeRequest().getRequestUrl().encodedPath(), equalTo("/operators"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.listByCountryCode(CountryCode.NG) == operators && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(cache.listByCountryCode(CountryCode.NG), hasSize(2));
+        assertThat(cache.getById(340L).getId(), equalTo(340L));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testStaleOperatorIsRefreshedAlone() throws Exception {
+        server.jsonResponse(OPERATOR, 200);
+        server.jsonResponse(OPERATOR, 200);
+        OperatorCache cache = OperatorCache.builder().operationsProvider(airtimeAPI::operators)
+                .options(CacheOptions.builder().ttl(Duration.ofMillis(50)).staleTtl(Duration.ofMinutes(1)).build())
+                .build();
+
+        Operator operator = cache.getById(174L);
+        Thread.sleep(100);
+
+        assertThat(cache.getById(174L), sameInstance(operator));
+        server.takeRequest();
+        assertThat(server.takeRequest().getPath(), equalTo("/operators/174"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.getById(174L) == operator && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(cache.getById(174L), not(sameInstance(operator)));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    private void enqueueSinglePageCatalog() throws IOException {
+        String body = new String(Files.readAllBytes(Paths.get(OPERATORS_PAGE)))
+                .replace("\"totalElements\": 656", "\"totalElements\": 5")
+                .replace("\"totalPages\": 132", "\"totalPages\": 1");
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body));
+    }
+}
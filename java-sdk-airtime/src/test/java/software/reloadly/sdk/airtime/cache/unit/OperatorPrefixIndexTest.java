@@ -0,0 +1,246 @@
+package software.reloadly.sdk.airtime.cache.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.cache.OperatorPrefixIndex;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.Operator;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OperatorPrefixIndexTest {
+
+    private static final String AUTO_DETECT = "src/test/resources/operator/operator_auto_detect_unfiltered.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+    private OperatorPrefixIndex index;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        index = OperatorPrefixIndex.builder().operationsProvider(airtimeAPI::operators).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    public void testDetectedNumbersAreAnsweredLocally() throws Exception {
+        server.jsonResponse(AUTO_DETECT, 200);
+
+        Operator operator = index.autoDetect("+50936377111", CountryCode.HT);
+
+        assertThat(operator.getId(), equalTo(173L));
+        assertThat(index.autoDetect("509 3637 7111", CountryCode.HT), sameInstance(operator));
+        assertThat(server.getRequestCount(), equalTo(1));
+        assertThat(index.getHitCount(), equalTo(1L));
+        assertThat(index.getMissCount(), equalTo(1L));
+        assertThat(index.getHitRate(), closeTo(0.5, 0.001));
+    }
+
+    @Test
+    public void testUnknownNumbersCallTheAPI() throws Exception {
+        server.jsonResponse(AUTO_DETECT, 200);
+        server.jsonResponse(AUTO_DETECT, 200);
+
+        index.autoDetect("+50936377111", CountryCode.HT);
+        index.autoDetect("+50936377112", CountryCode.HT);
+
+        assertThat(server.getRequestCount(), equalTo(2));
+        assertThat(server.takeRequest().getPath(), equalTo("/operators/auto-detect/phone/+50936377111/countries/HT"));
+    }
+
+    @Test
+    public void testPrefixesAreNotTrustedByDefault() throws Exception {
+        Operator digicel = operator(173);
+        for (String phone : Arrays.asList("+50936377111", "+50936377222", "+50936377333", "+50936377444")) {
+            index.record(phone, CountryCode.HT, digicel);
+        }
+
+        assertThat(index.lookup("+50936377111", CountryCode.HT), sameInstance(digicel));
+        assertThat(index.lookup("+50936377555", CountryCode.HT), nullValue());
+    }
+
+    @Test
+    public void testPrefixesSeenEnoughTimesAreTrusted() throws Exception {
+        index = prefixIndex().build();
+        Operator digicel = operator(173);
+        index.record("+50936377111", CountryCode.HT, digicel);
+        index.record("+50936377222", CountryCode.HT, digicel);
+        assertThat(index.lookup("+50936377333", CountryCode.HT), nullValue());
+
+        index.record("+50936370444", CountryCode.HT, digicel);
+
+        assertThat(index.lookup("+50936377333", CountryCode.HT), sameInstance(digicel));
+        assertThat(index.lookup("+50936499999", CountryCode.HT), sameInstance(digicel));
+        assertThat(index.lookup("+50936377333", CountryCode.NG), nullValue());
+    }
+
+    @Test
+    public void testPrefixAnswersAreVerifiedAndEvictedOnDisagreement() throws Exception {
+        // The auto detected operator is 173
+        server.jsonResponse(AUTO_DETECT, 200);
+        server.jsonResponse(AUTO_DETECT, 200);
+        index = prefixIndex().verificationInterval(2).build();
+        Operator natcom = operator(174);
+        for (String phone : Arrays.asList("+50936377111", "+50936377222", "+50936377333")) {
+            index.record(phone, CountryCode.HT, natcom);
+        }
+
+        // The first answer from a prefix is verified, and the API disagrees
+        assertThat(index.autoDetect("+50936377444", CountryCode.HT).getId(), equalTo(173L));
+        assertThat(index.getFailedVerificationCount(), equalTo(1L));
+        assertThat(index.lookup("+50936377555", CountryCode.HT), nullValue());
+        assertThat(index.autoDetect("+50936377555", CountryCode.HT).getId(), equalTo(173L));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testAgreeingPrefixAnswersAreSampled() throws Exception {
+        server.jsonResponse(AUTO_DETECT, 200);
+        index = prefixIndex().verificationInterval(2).build();
+        Operator digicel = operator(173);
+        for (String phone : Arrays.asList("+50936377111", "+50936377222", "+50936377333")) {
+            index.record(phone, CountryCode.HT, digicel);
+        }
+
+        assertThat(index.autoDetect("+50936377444", CountryCode.HT).getId(), equalTo(173L));
+        assertThat(index.autoDetect("+50936377555", CountryCode.HT).getId(), equalTo(173L));
+        assertThat(server.getRequestCount(), equalTo(1));
+        assertThat(index.getFailedVerificationCount(), equalTo(0L));
+        assertThat(index.getHitCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testRepeatedNumbersAreObservedOnce() throws Exception {
+        index = prefixIndex().build();
+        Operator digicel = operator(173);
+        for (int i = 0; i < 3; i++) {
+            index.record("+50936377111", CountryCode.HT, digicel);
+        }
+
+        assertThat(index.lookup("+50936377111", CountryCode.HT), sameInstance(digicel));
+        assertThat(index.lookup("+50936377333", CountryCode.HT), nullValue());
+    }
+
+    @Test
+    public void testConflictingPrefixesAreNotTrusted() throws Exception {
+        index = prefixIndex().build();
+        Operator digicel = operator(173);
+        Operator natcom = operator(174);
+        for (String phone : Arrays.asList("+50936377111", "+50936377222", "+50936377333")) {
+            index.record(phone, CountryCode.HT, digicel);
+        }
+        for (String phone : Arrays.asList("+50936411111", "+50936422222", "+50936433333")) {
+            index.record(phone, CountryCode.HT, natcom);
+        }
+
+        assertThat(index.lookup("+50936377999", CountryCode.HT), sameInstance(digicel));
+        assertThat(index.lookup("+50936499999", CountryCode.HT), sameInstance(natcom));
+        assertThat(index.lookup("+50936599999", CountryCode.HT), nullValue());
+        // A known number is answered even when its prefixes are shared
+        index.record("+50936599999", CountryCode.HT, natcom);
+        assertThat(index.lookup("+50936599999", CountryCode.HT), sameInstance(natcom));
+    }
+
+    @Test
+    public void testSingleOperatorCountriesAreAnsweredLocally() throws Exception {
+        Operator operator = operator(200);
+        index.addCatalog(CountryCode.AI, Collections.singletonList(operator));
+        index.addCatalog(CountryCode.HT, Arrays.asList(operator(173), operator(174)));
+
+        assertThat(index.autoDetect("+12645551234", CountryCode.AI), sameInstance(operator));
+        assertThat(index.lookup("+50936377111", CountryCode.HT), nullValue());
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    @Test
+    public void testFullIndexStopsRecording() throws Exception {
+        index = OperatorPrefixIndex.builder().operationsProvider(() -> {
+            throw new IllegalStateException();
+        }).maxNodesPerCountry(12).build();
+        Operator operator = operator(173);
+
+        index.record("+50936377111", CountryCode.HT, operator);
+        index.record("+50936499999", CountryCode.HT, operator);
+
+        assertThat(index.lookup("+50936377111", CountryCode.HT), sameInstance(operator));
+        assertThat(index.lookup("+50936499999", CountryCode.HT), nullValue());
+    }
+
+    @Test
+    public void testNumbersNotRecordedInFullIndexAreNotObserved() throws Exception {
+        index = prefixIndex().operationsProvider(() -> {
+            throw new IllegalStateException();
+        }).maxNodesPerCountry(12).build();
+        Operator operator = operator(173);
+
+        index.record("+50936377111", CountryCode.HT, operator);
+        index.record("+50936377222", CountryCode.HT, operator);
+        index.record("+50936377333", CountryCode.HT, operator);
+
+        assertThat(index.lookup("+50936377111", CountryCode.HT), sameInstance(operator));
+        assertThat(index.lookup("+50936377999", CountryCode.HT), nullValue());
+    }
+
+    @Test
+    public void testExpiredOperatorsAreDetectedAgain() throws Exception {
+        server.jsonResponse(AUTO_DETECT, 200);
+        index = OperatorPrefixIndex.builder().operationsProvider(airtimeAPI::operators)
+                .operatorTtl(Duration.ofMillis(50)).build();
+        Operator operator = operator(173);
+        index.record("+50936377111", CountryCode.HT, operator);
+        assertThat(index.lookup("+50936377111", CountryCode.HT), sameInstance(operator));
+
+        Thread.sleep(100);
+
+        assertThat(index.lookup("+50936377111", CountryCode.HT), nullValue());
+        Operator detected = index.autoDetect("+50936377111", CountryCode.HT);
+        assertThat(detected, not(sameInstance(operator)));
+        assertThat(index.lookup("+50936377111", CountryCode.HT), sameInstance(detected));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> index.lookup(" ", CountryCode.HT));
+        assertThrows(IllegalArgumentException.class, () -> index.lookup("+", CountryCode.HT));
+        assertThrows(IllegalArgumentException.class, () -> index.record("+-", CountryCode.HT, operator(173)));
+        assertThrows(IllegalArgumentException.class, () -> index.lookup("+50936377111", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> OperatorPrefixIndex.builder().operationsProvider(() -> null).minObservations(0).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> OperatorPrefixIndex.builder().operationsProvider(() -> null).operatorTtl(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> OperatorPrefixIndex.builder().operationsProvider(() -> null).verificationInterval(0).build());
+    }
+
+    private OperatorPrefixIndex.OperatorPrefixIndexBuilder prefixIndex() {
+        return OperatorPrefixIndex.builder().operationsProvider(airtimeAPI::operators).inferFromPrefixes(true)
+                .minPrefixLength(5);
+    }
+
+    private static Operator operator(long operatorId) throws IOException {
+        return new ObjectMapper().readValue("{\"id\": " + operatorId + "}", Operator.class);
+    }
+}
@@ -0,0 +1,205 @@
+package software.reloadly.sdk.airtime.cache.unit;
+
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.airtime.cache.CountryCache;
+import software.reloadly.sdk.airtime.cache.PromotionIndex;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.response.Promotion;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PromotionIndexTest {
+
+    private static final String COUNTRY_LIST = "src/test/resources/country/country_list.json";
+    private static final String OPERATORS_PAGE = "src/test/resources/operator/operators_paged_unfiltered_response.json";
+    private static final String OPERATOR = "src/test/resources/operator/operator_unfiltered_response.json";
+    private static final String OPERATOR_NOT_FOUND = "src/test/resources/error/operator_not_found.json";
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+    private PromotionIndex index;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        index = PromotionIndex.builder().operationsProvider(airtimeAPI::promotions).refreshInterval(Duration.ZERO)
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        index.close();
+        server.stop();
+    }
+
+    @Test
+    public void testPromotionsAreRetrievedOnce() throws Exception {
+        Instant now = Instant.now();
+        enqueuePromotions(promotion(1, 340, now.minus(1, ChronoUnit.DAYS), now.plus(2, ChronoUnit.DAYS)),
+                promotion(2, 340, now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS)),
+                promotion(3, 729, now.plus(1, ChronoUnit.DAYS), now.plus(3, ChronoUnit.DAYS)));
+
+        assertThat(ids(index.getByOperatorId(340L)), contains(2L, 1L));
+        assertThat(ids(index.getByOperatorId(729L)), contains(3L));
+        assertThat(index.getByOperatorId(645L), empty());
+        assertThat(index.getRefreshedAt(), notNullValue());
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testEndedPromotionsAreEvicted() throws Exception {
+        Instant now = Instant.now();
+        enqueuePromotions(promotion(1, 340, now.minus(1, ChronoUnit.DAYS), now.minus(1, ChronoUnit.HOURS)),
+                promotion(2, 340, now.minus(1, ChronoUnit.DAYS), now.plusSeconds(2)),
+                promotion(3, 340, now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS)));
+
+        assertThat(ids(index.getByOperatorId(340L)), contains(2L, 3L));
+        Thread.sleep(2100);
+
+        assertThat(ids(index.getByOperatorId(340L)), contains(3L));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testPromotionsAreIndexedByCountry() throws Exception {
+        CountryCache countryCache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .operatorOperationsProvider(airtimeAPI::operators).refreshInterval(Duration.ZERO).build();
+        index = PromotionIndex.builder().operationsProvider(airtimeAPI::promotions).countryCache(countryCache)
+                .refreshInterval(Duration.ZERO).build();
+        Instant now = Instant.now();
+        enqueuePromotions(promotion(1, 340, now, now.plus(1, ChronoUnit.DAYS)),
+                promotion(2, 645, now, now.plus(2, ChronoUnit.DAYS)),
+                promotion(3, 729, now, now.plus(1, ChronoUnit.DAYS)),
+                promotion(4, 1000, now, now.plus(1, ChronoUnit.DAYS)));
+        server.jsonResponse(COUNTRY_LIST, 200);
+        enqueueSinglePageCatalog();
+        server.jsonResponse(OPERATOR_NOT_FOUND, 404);
+
+        assertThat(ids(index.getByCountryCode(CountryCode.NG)), contains(1L, 2L));
+        assertThat(ids(index.getByCountryCode(CountryCode.TH)), contains(3L));
+        assertThat(index.getByCountryCode(CountryCode.HT), empty());
+        assertThat(ids(index.getByOperatorId(1000L)), contains(4L));
+        assertThat(server.getRequestCount(), equalTo(4));
+        countryCache.close();
+    }
+
+    @Test
+    public void testOperatorsUnknownToTheCountryCacheAreRetrieved() throws Exception {
+        CountryCache countryCache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .operatorOperationsProvider(airtimeAPI::operators).refreshInterval(Duration.ZERO).build();
+        index = PromotionIndex.builder().operationsProvider(airtimeAPI::promotions).countryCache(countryCache)
+                .refreshInterval(Duration.ZERO).build();
+        Instant now = Instant.now();
+        enqueuePromotions(promotion(1, 174, now, now.plus(1, ChronoUnit.DAYS)));
+        server.jsonResponse(COUNTRY_LIST, 200);
+        enqueueSinglePageCatalog();
+        server.jsonResponse(OPERATOR, 200);
+
+        assertThat(ids(index.getByCountryCode(CountryCode.HT)), contains(1L));
+        assertThat(server.getRequestCount(), equalTo(4));
+        countryCache.close();
+    }
+
+    @Test
+    public void testMissingOperatorsAreRememberedUntilTheCountriesAreRefreshed() throws Exception {
+        CountryCache countryCache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .operatorOperationsProvider(airtimeAPI::operators).refreshInterval(Duration.ZERO).build();
+        index = PromotionIndex.builder().operationsProvider(airtimeAPI::promotions).countryCache(countryCache)
+                .refreshInterval(Duration.ZERO).build();
+        Instant now = Instant.now();
+        String[] promotions = {promotion(1, 1000, now, now.plus(1, ChronoUnit.DAYS)),
+                promotion(2, 1001, now, now.plus(1, ChronoUnit.DAYS))};
+        enqueuePromotions(promotions);
+        server.jsonResponse(COUNTRY_LIST, 200);
+        enqueueSinglePageCatalog();
+        server.jsonResponse(OPERATOR_NOT_FOUND, 404);
+        server.jsonResponse(OPERATOR_NOT_FOUND, 404);
+
+        assertThat(ids(index.getByOperatorId(1000L)), contains(1L));
+        assertThat(server.getRequestCount(), equalTo(5));
+
+        enqueuePromotions(promotions);
+        index.refresh();
+        assertThat(server.getRequestCount(), equalTo(6));
+
+        Thread.sleep(5);
+        server.jsonResponse(COUNTRY_LIST, 200);
+        enqueueSinglePageCatalog();
+        countryCache.refresh();
+        enqueuePromotions(promotions);
+        server.jsonResponse(OPERATOR_NOT_FOUND, 404);
+        server.jsonResponse(OPERATOR_NOT_FOUND, 404);
+        index.refresh();
+        assertThat(ids(index.getByOperatorId(1001L)), contains(2L));
+        assertThat(server.getRequestCount(), equalTo(11));
+        countryCache.close();
+    }
+
+    @Test
+    public void testCountryLookupsRequireACountryCache() {
+        assertThrows(IllegalStateException.class, () -> index.getByCountryCode(CountryCode.NG));
+        assertThrows(IllegalArgumentException.class, () -> index.getByOperatorId(null));
+    }
+
+    @Test
+    public void testCountryCacheMustTrackOperators() {
+        CountryCache countryCache = CountryCache.builder().countryOperationsProvider(airtimeAPI::countries)
+                .refreshInterval(Duration.ZERO).build();
+
+        assertThrows(IllegalArgumentException.class, () -> PromotionIndex.builder()
+                .operationsProvider(airtimeAPI::promotions).countryCache(countryCache).build());
+    }
+
+    private void enqueuePromotions(String... promotions) {
+        String body = "{\"content\": [" + String.join(",", promotions) + "], \"totalElements\": "
+                + promotions.length + ", \"totalPages\": 1, \"size\": 100, \"number\": 0}";
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body));
+    }
+
+    private void enqueueSinglePageCatalog() throws IOException {
+        String body = new String(Files.readAllBytes(Paths.get(OPERATORS_PAGE)))
+                .replace("\"totalElements\": 656", "\"totalElements\": 5")
+                .replace("\"totalPages\": 132", "\"totalPages\": 1");
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body));
+    }
+
+    private static String promotion(long id, long operatorId, Instant startDate, Instant endDate) {
+        return "{\"id\": " + id + ", \"operatorId\": " + operatorId + ", \"title\": \"Promotion " + id + "\", "
+                + "\"startDate\": \"" + DATE_FORMAT.format(startDate) + "\", "
+                + "\"endDate\": \"" + DATE_FORMAT.format(endDate) + "\"}";
+    }
+
+    private static List<Long> ids(List<Promotion> promotions) {
+        return promotions.stream().map(Promotion::getId).collect(Collectors.toList());
+    }
+}
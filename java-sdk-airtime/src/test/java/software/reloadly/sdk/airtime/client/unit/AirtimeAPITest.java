@@ -7,9 +7,12 @@ import software.reloadly.sdk.airtime.client.AirtimeAPI;
 import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
 import software.reloadly.sdk.core.enums.Environment;
 import software.reloadly.sdk.core.internal.interceptor.TelemetryInterceptor;
+import software.reloadly.sdk.core.internal.net.Telemetry;
+import software.reloadly.sdk.core.internal.util.TelemetryUtil;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -141,6 +145,56 @@ public class AirtimeAPITest {
         }
     }
 
+    @Test
+    public void shouldSendTelemetryHeaderOnce() throws Exception {
+        AirtimeAPI airtimeAPI = getAirtimeAPIBuilder().build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        server.jsonResponse("src/test/resources/country/country_list.json", 200);
+
+        airtimeAPI.countries().list().execute();
+
+        RecordedRequest recordedRequest = server.takeRequest();
+        assertThat(recordedRequest.getHeaders().values(Telemetry.HEADER_NAME), hasSize(1));
+        assertThat(recordedRequest.getHeader(Telemetry.HEADER_NAME), is(not(emptyOrNullString())));
+    }
+
+    @Test
+    public void shouldNotSendTelemetryHeaderWhenTelemetryIsDisabled() throws Exception {
+        AirtimeAPI airtimeAPI = getAirtimeAPIBuilder().enableTelemetry(false).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        server.jsonResponse("src/test/resources/country/country_list.json", 200);
+
+        airtimeAPI.countries().list().execute();
+
+        assertThat(server.takeRequest().getHeader(Telemetry.HEADER_NAME), is(nullValue()));
+    }
+
+    @Test
+    public void shouldComputeTelemetryOncePerVersion() {
+        assertThat(TelemetryUtil.getTelemetry("1.0.0", "application/json"),
+                sameInstance(TelemetryUtil.getTelemetry("1.0.0", "application/json")));
+        assertThat(TelemetryUtil.getTelemetry("1.0.0", "application/json"),
+                not(sameInstance(TelemetryUtil.getTelemetry("1.0.0", null))));
+    }
+
+    @Test
+    public void shouldOnlyReplaceTheRejectedAccessToken() throws Exception {
+        AirtimeAPI airtimeAPI = getAirtimeAPIBuilder().build();
+        Method replaceAccessToken = airtimeAPI.getClass().getSuperclass()
+                .getDeclaredMethod("replaceAccessToken", String.class, String.class);
+        replaceAccessToken.setAccessible(true);
+
+        replaceAccessToken.invoke(airtimeAPI, ACCESS_TOKEN, "refreshed-token");
+        assertThat(airtimeAPI.getAccessToken(), equalTo("refreshed-token"));
+
+        replaceAccessToken.invoke(airtimeAPI, ACCESS_TOKEN, "other-token");
+        assertThat(airtimeAPI.getAccessToken(), equalTo("refreshed-token"));
+    }
+
     private AirtimeAPI.AirtimeAPIBuilder getAirtimeAPIBuilder() {
         return AirtimeAPI.builder().accessToken(AirtimeAPITest.ACCESS_TOKEN);
     }
@@ -11,14 +11,20 @@ import org.junit.jupiter.api.Test;
 import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
 import software.reloadly.sdk.airtime.client.AirtimeAPI;
 import software.reloadly.sdk.airtime.dto.response.Country;
+import software.reloadly.sdk.core.exception.RateLimitException;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.enums.Version;
+import software.reloadly.sdk.core.net.HttpOptions;
+import software.reloadly.sdk.core.net.RetryPolicy;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -32,6 +38,7 @@ public class CountryOperationsTest {
     private static final String PATH = "src/test/resources/country";
     private static final String COUNTRY = PATH + "/country.json";
     private static final String COUNTRY_LIST = PATH + "/country_list.json";
+    private static final String TOO_MANY_REQUESTS = "src/test/resources/error/too_many_requests.json";
 
     private AirtimeAPIMockServer server;
 
@@ -88,6 +95,49 @@ public class CountryOperationsTest {
         assertIsValidCountry(country);
     }
 
+    @Test
+    public void testListCountriesAsync() throws Exception {
+
+        AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+
+        Request<List<Country>> request = airtimeAPI.countries().list();
+        assertThat(request, is(notNullValue()));
+        server.jsonResponse(COUNTRY_LIST, 200);
+        List<Country> countries = request.executeAsync().get(10, TimeUnit.SECONDS);
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        MatcherAssert.assertThat(recordedRequest, hasMethodAndPath("GET", "/countries"));
+        MatcherAssert.assertThat(recordedRequest, hasHeader(ACCEPT, Version.AIRTIME_V1.getValue()));
+
+        assertThat(countries, is(not(empty())));
+        countries.forEach(this::assertIsValidCountry);
+    }
+
+    @Test
+    public void testListCountriesAsyncShouldCompleteWithRateLimitException() throws Exception {
+
+        AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(HttpOptions.builder().retryPolicy(RetryPolicy.none()).build()).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+
+        server.rateLimitResponse(TOO_MANY_REQUESTS, 100, 0, 1609459200L);
+        CompletableFuture<List<Country>> future = airtimeAPI.countries().list().executeAsync();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+
+        assertThat(exception.getCause(), is(instanceOf(RateLimitException.class)));
+        RateLimitException rateLimitException = (RateLimitException) exception.getCause();
+        assertThat(rateLimitException.getHttpStatusCode(), equalTo(429));
+        assertThat(rateLimitException.getErrorCode(), equalTo("TOO_MANY_REQUESTS"));
+        assertThat(rateLimitException.getLimit(), equalTo(100L));
+        assertThat(rateLimitException.getRemaining(), equalTo(0L));
+        assertThat(rateLimitException.getExpectedResetTimestamp(), equalTo(1609459200L));
+    }
+
     @Test
     public void testGetByCodeShouldThrowExceptionWhenCountryCodeIsNull() {
         AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
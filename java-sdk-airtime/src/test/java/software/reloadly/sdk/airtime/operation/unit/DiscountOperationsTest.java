@@ -1,6 +1,7 @@
 package software.reloadly.sdk.airtime.operation.unit;
 
 import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.AfterEach;
@@ -10,16 +11,23 @@ import org.junit.jupiter.api.Test;
 import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
 import software.reloadly.sdk.airtime.client.AirtimeAPI;
 import software.reloadly.sdk.airtime.dto.response.Discount;
+import software.reloadly.sdk.airtime.operation.DiscountOperations;
 import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.enums.Version;
 import software.reloadly.sdk.core.internal.filter.QueryFilter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -27,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static software.reloadly.sdk.core.internal.util.RecordedRequestMatcher.hasHeader;
 import static software.reloadly.sdk.core.internal.util.RecordedRequestMatcher.hasMethodAndPath;
 import static software.reloadly.sdk.core.internal.constant.HttpHeader.ACCEPT;
+import static software.reloadly.sdk.core.internal.constant.HttpHeader.AUTHORIZATION;
 
 public class DiscountOperationsTest {
 
@@ -67,6 +76,61 @@ public class DiscountOperationsTest {
         discountPage.getContent().forEach(this::assertIsValidDiscount);
     }
 
+    @Test
+    public void testListAllDiscounts() throws Exception {
+
+        AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+
+        for (int i = 0; i < 3; i++) {
+            server.jsonResponse(DISCOUNT_PAGE, 200);
+        }
+        Paginator<Discount> paginator = airtimeAPI.discounts().listAll(new QueryFilter().withPage(5, 10))
+                .withPageSize(300).withPrefetch(2);
+        List<Discount> discounts;
+        try (Stream<Discount> stream = paginator.stream()) {
+            discounts = stream.collect(Collectors.toList());
+        }
+
+        assertThat(discounts, hasSize(900));
+        discounts.forEach(this::assertIsValidDiscount);
+
+        Set<String> pages = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            RecordedRequest recordedRequest = server.takeRequest();
+            MatcherAssert.assertThat(recordedRequest, hasMethodAndPath("GET", "/operators/commissions"));
+            MatcherAssert.assertThat(recordedRequest, hasHeader(ACCEPT, Version.AIRTIME_V1.getValue()));
+            HttpUrl requestUrl = Objects.requireNonNull(recordedRequest.getRequestUrl());
+            assertThat(requestUrl.queryParameter("size"), equalTo("300"));
+            pages.add(requestUrl.queryParameter("page"));
+        }
+        assertThat(pages, containsInAnyOrder("1", "2", "3"));
+    }
+
+    @Test
+    public void testListAllDiscountsSendsTheCurrentTokenWithEachPage() throws Exception {
+
+        AtomicInteger tokenRequests = new AtomicInteger();
+        DiscountOperations discountOperations = new DiscountOperations(new OkHttpClient(),
+                HttpUrl.parse(server.getBaseUrl()), "token-0", () -> "token-" + tokenRequests.incrementAndGet());
+        for (int i = 0; i < 3; i++) {
+            server.jsonResponse(DISCOUNT_PAGE, 200);
+        }
+
+        List<Discount> discounts;
+        Paginator<Discount> paginator = discountOperations.listAll(new QueryFilter()).withPageSize(300).withPrefetch(0);
+        try (Stream<Discount> stream = paginator.stream()) {
+            discounts = stream.collect(Collectors.toList());
+        }
+
+        assertThat(discounts, hasSize(900));
+        for (int i = 1; i <= 3; i++) {
+            MatcherAssert.assertThat(server.takeRequest(), hasHeader(AUTHORIZATION, "Bearer token-" + i));
+        }
+    }
+
     @Test
     public void testListDiscountsWithFilters() throws Exception {
 
@@ -22,6 +22,7 @@ import software.reloadly.sdk.core.internal.util.RecordedRequestMatcher;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -139,6 +140,52 @@ public class OperatorOperationsTest {
         operatorsPage.getContent().forEach(this::assertIsValidOperator);
     }
 
+    @Test
+    public void testStreamOperatorsPage() throws Exception {
+
+        AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+
+        List<Operator> operators = new ArrayList<>();
+        Request<Long> request = airtimeAPI.operators().list(new OperatorFilter().withPage(1, 5), operators::add);
+        assertThat(request, is(notNullValue()));
+        server.jsonResponse(OPERATORS_PAGED_UNFILTERED, 200);
+        Long count = request.execute();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        MatcherAssert.assertThat(recordedRequest, RecordedRequestMatcher.hasMethodAndPath("GET", "/operators"));
+        MatcherAssert.assertThat(recordedRequest, RecordedRequestMatcher.hasHeader(ACCEPT, Version.AIRTIME_V1.getValue()));
+        MatcherAssert.assertThat(recordedRequest, RecordedRequestMatcher.hasQueryParameter(PAGE, "1"));
+
+        assertThat(operators, is(not(empty())));
+        assertThat(count, equalTo((long) operators.size()));
+        operators.forEach(this::assertIsValidOperator);
+    }
+
+    @Test
+    public void testStreamOperatorsByCountryCode() throws Exception {
+
+        AirtimeAPI airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+
+        List<Operator> operators = new ArrayList<>();
+        Request<Long> request = airtimeAPI.operators().listByCountryCode(CountryCode.HT, null, operators::add);
+        server.jsonResponse(OPERATORS_BY_COUNTRY_UNFILTERED, 200);
+        Long count = request.execute();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        MatcherAssert.assertThat(recordedRequest,
+                RecordedRequestMatcher.hasMethodAndPath("GET", "/operators/countries/" + CountryCode.HT.getAlpha2()));
+
+        assertThat(operators, is(not(empty())));
+        assertThat(count, equalTo((long) operators.size()));
+        operators.forEach(this::assertIsValidOperator);
+    }
+
     @Test
     public void testListOperatorsByCountryCodeWithNoFilters() throws Exception {
 
@@ -0,0 +1,230 @@
+package software.reloadly.sdk.airtime.operation.unit;
+
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.NonNull;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.Phone;
+import software.reloadly.sdk.airtime.dto.request.PhoneTopupRequest;
+import software.reloadly.sdk.airtime.dto.request.TopupRequest;
+import software.reloadly.sdk.airtime.dto.response.TopupResult;
+import software.reloadly.sdk.airtime.operation.TopupBatch;
+import software.reloadly.sdk.airtime.operation.TopupBatchAbortedException;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+import software.reloadly.sdk.core.net.HttpOptions;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TopupBatchTest {
+
+    private static final String PHONE_TOPUP = "src/test/resources/topup/phone_topup_transaction.json";
+    private static final String SERVICE_UNAVAILABLE = "src/test/resources/error/service_unavailable.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(HttpOptions.builder().retryPolicy(RetryPolicy.none()).build()).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    public void testSendBatchWithBoundedConcurrency() throws Exception {
+        AtomicInteger concurrentRequests = new AtomicInteger();
+        AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        String body = new String(Files.readAllBytes(Paths.get(PHONE_TOPUP)));
+        server.setDispatcher(new Dispatcher() {
+            @NonNull
+            @Override
+            public MockResponse dispatch(@NonNull RecordedRequest request) throws InterruptedException {
+                maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                concurrentRequests.decrementAndGet();
+                return new MockResponse().setResponseCode(200)
+                        .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body);
+            }
+        });
+
+        List<TopupResult> results = airtimeAPI
+                .sendTopupBatch(IntStream.range(0, 12).mapToObj(i -> createTopupRequest(UUID.randomUUID().toString())))
+                .withConcurrency(3)
+                .execute();
+
+        assertThat(results, hasSize(12));
+        assertThat(results.stream().allMatch(TopupResult::isSuccessful), is(true));
+        assertThat(results.stream().map(TopupResult::getTransaction).collect(Collectors.toList()),
+                everyItem(notNullValue()));
+        assertThat(server.getRequestCount(), equalTo(12));
+        assertThat(maxConcurrentRequests.get(), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void testTopupsWithoutUniqueCustomIdentifierAreNotSent() throws Exception {
+        server.jsonResponse(PHONE_TOPUP, 200);
+
+        List<TopupResult> results = airtimeAPI.sendTopupBatch(Arrays.asList(
+                createTopupRequest("campaign-1"), createTopupRequest("campaign-1"), createTopupRequest(null)
+        )).execute();
+
+        assertThat(results, hasSize(3));
+        assertThat(results.stream().filter(TopupResult::isSuccessful).count(), equalTo(1L));
+        assertThat(results.stream().map(TopupResult::getFailure).collect(Collectors.toList()),
+                containsInAnyOrder(null, TopupResult.Failure.DUPLICATE_CUSTOM_IDENTIFIER,
+                        TopupResult.Failure.INVALID_REQUEST));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testFailuresAreReportedPerTopup() throws Exception {
+        PhoneTopupRequest invalidRequest = PhoneTopupRequest.builder()
+                .recipientPhone(new Phone("+50936377111", CountryCode.HT))
+                .customIdentifier(UUID.randomUUID().toString())
+                .amount(-1.0)
+                .operatorId(173L).build();
+        server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+
+        List<TopupResult> results = airtimeAPI
+                .sendTopupBatch(Stream.of(invalidRequest, createTopupRequest(UUID.randomUUID().toString())))
+                .execute();
+
+        assertThat(results, hasSize(2));
+        TopupResult invalidResult = results.get(0);
+        assertThat(invalidResult.getFailure(), equalTo(TopupResult.Failure.INVALID_REQUEST));
+        assertThat(invalidResult.isOutcomeUnknown(), is(false));
+        TopupResult serverErrorResult = results.get(1);
+        assertThat(serverErrorResult.getFailure(), equalTo(TopupResult.Failure.SERVER_ERROR));
+        assertThat(serverErrorResult.isOutcomeUnknown(), is(true));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testOperationsAreObtainedForEveryTopup() throws Exception {
+        server.jsonResponse(PHONE_TOPUP, 200);
+        server.jsonResponse(PHONE_TOPUP, 200);
+        AtomicInteger provided = new AtomicInteger();
+
+        List<TopupResult> results = new TopupBatch(() -> {
+            provided.incrementAndGet();
+            return airtimeAPI.topups();
+        }, Arrays.asList(createTopupRequest("campaign-1"), createTopupRequest("campaign-2"))).execute();
+
+        assertThat(results.stream().allMatch(TopupResult::isSuccessful), is(true));
+        assertThat(provided.get(), equalTo(2));
+    }
+
+    @Test
+    public void testTopupsNotSentWhenOperationsCannotBeObtained() throws Exception {
+        List<TopupResult> results = new TopupBatch(() -> {
+            throw new ReloadlyException("Access Denied");
+        }, Collections.singletonList(createTopupRequest("campaign-1"))).execute();
+
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).getFailure(), equalTo(TopupResult.Failure.NOT_SENT));
+        assertThat(results.get(0).isOutcomeUnknown(), is(false));
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    @Test
+    public void testTopupsInFlightAreReportedWhenInterrupted() throws Exception {
+        String body = new String(Files.readAllBytes(Paths.get(PHONE_TOPUP)));
+        for (int i = 0; i < 2; i++) {
+            server.enqueue(new MockResponse().setResponseCode(200)
+                    .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body)
+                    .setHeadersDelay(1, TimeUnit.SECONDS));
+        }
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                airtimeAPI.sendTopupBatch(Arrays.asList(createTopupRequest("campaign-1"),
+                        createTopupRequest("campaign-2"))).withConcurrency(2).execute();
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getRequestCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        thread.interrupt();
+        thread.join(5000);
+
+        assertThat(failure.get(), instanceOf(TopupBatchAbortedException.class));
+        List<TopupRequest> unreported = ((TopupBatchAbortedException) failure.get()).getUnreportedRequests();
+        assertThat(unreported.stream().map(TopupRequest::getCustomIdentifier).collect(Collectors.toList()),
+                containsInAnyOrder("campaign-1", "campaign-2"));
+    }
+
+    @Test
+    public void testTopupsInFlightAreReportedWhenTheConsumerFails() throws Exception {
+        server.jsonResponse(PHONE_TOPUP, 200);
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue())
+                .setBody(new String(Files.readAllBytes(Paths.get(PHONE_TOPUP))))
+                .setHeadersDelay(500, TimeUnit.MILLISECONDS));
+        TopupBatch batch = new TopupBatch(airtimeAPI::topups, Arrays.asList(createTopupRequest("campaign-1"),
+                createTopupRequest("campaign-2"))).withConcurrency(2);
+
+        TopupBatchAbortedException exception = assertThrows(TopupBatchAbortedException.class,
+                () -> batch.execute(result -> {
+                    throw new IllegalStateException("Consumer failed");
+                }));
+
+        assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(exception.getUnreportedRequests(), hasSize(1));
+    }
+
+    @Test
+    public void testWithConcurrencyThrowsExceptionWhenConcurrencyIsNotPositive() throws Exception {
+        Throwable exception = assertThrows(IllegalArgumentException.class,
+                () -> airtimeAPI.sendTopupBatch(Collections.<PhoneTopupRequest>emptyList()).withConcurrency(0));
+        Assertions.assertEquals("Concurrency must be greater than zero", exception.getMessage());
+    }
+
+    private PhoneTopupRequest createTopupRequest(String customIdentifier) {
+        return PhoneTopupRequest.builder()
+                .recipientPhone(new Phone("+50936377111", CountryCode.HT))
+                .customIdentifier(customIdentifier)
+                .amount(15.00)
+                .operatorId(173L).build();
+    }
+}
@@ -0,0 +1,239 @@
+package software.reloadly.sdk.airtime.operation.unit;
+
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.NonNull;
+import software.reloadly.sdk.airtime.client.AirtimeAPI;
+import software.reloadly.sdk.airtime.dto.Phone;
+import software.reloadly.sdk.airtime.dto.request.PhoneTopupRequest;
+import software.reloadly.sdk.airtime.dto.response.TopupTransaction;
+import software.reloadly.sdk.airtime.operation.TopupStatusPoller;
+import software.reloadly.sdk.airtime.util.AirtimeAPIMockServer;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+import software.reloadly.sdk.core.net.HttpOptions;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TopupStatusPollerTest {
+
+    private static final String PHONE_TOPUP_ASYNC = "src/test/resources/topup/phone_topup_transaction_async.json";
+    private static final String STATUS_SUCCESSFUL = "src/test/resources/topup/phone_topup_transaction_status.json";
+    private static final String STATUS_PROCESSING =
+            "src/test/resources/topup/phone_topup_transaction_status_processing.json";
+    private static final String STATUS_FAILED = "src/test/resources/topup/phone_topup_transaction_status_failed.json";
+    private static final String SERVICE_UNAVAILABLE = "src/test/resources/error/service_unavailable.json";
+    private static final String TRANSACTION_NOT_FOUND = "src/test/resources/error/operator_not_found.json";
+
+    private AirtimeAPIMockServer server;
+    private AirtimeAPI airtimeAPI;
+    private TopupStatusPoller poller;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new AirtimeAPIMockServer();
+        airtimeAPI = AirtimeAPI.builder().accessToken(AirtimeAPIMockServer.ACCESS_TOKEN)
+                .options(HttpOptions.builder().retryPolicy(RetryPolicy.none()).build()).build();
+        Field baseUrlField = airtimeAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(airtimeAPI, HttpUrl.parse(server.getBaseUrl()));
+        poller = createPoller(4, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        poller.close();
+        server.stop();
+    }
+
+    @Test
+    public void testTrackUntilSuccessful() throws Exception {
+        server.jsonResponse(STATUS_PROCESSING, 200);
+        server.jsonResponse(STATUS_PROCESSING, 200);
+        server.jsonResponse(STATUS_SUCCESSFUL, 200);
+
+        TopupTransaction transaction = poller.track(1L).get(5, TimeUnit.SECONDS);
+
+        assertThat(transaction.getId(), equalTo(1L));
+        assertThat(server.getRequestCount(), equalTo(3));
+        assertThat(server.takeRequest().getPath(), equalTo("/topups/1/status"));
+        assertThat(poller.getTrackedCount(), equalTo(0));
+    }
+
+    @Test
+    public void testSendAndTrack() throws Exception {
+        server.jsonResponse(PHONE_TOPUP_ASYNC, 200);
+        server.jsonResponse(STATUS_PROCESSING, 200);
+        server.jsonResponse(STATUS_SUCCESSFUL, 200);
+
+        TopupTransaction transaction = poller.send(createTopupRequest()).get(5, TimeUnit.SECONDS);
+
+        assertThat(transaction.getId(), equalTo(1L));
+        assertThat(server.takeRequest().getPath(), equalTo("/topups-async"));
+        assertThat(server.takeRequest().getPath(), equalTo("/topups/1/status"));
+    }
+
+    @Test
+    public void testTrackRetriesServerErrors() throws Exception {
+        server.jsonResponse(SERVICE_UNAVAILABLE, 503);
+        server.jsonResponse(STATUS_SUCCESSFUL, 200);
+
+        TopupTransaction transaction = poller.track(1L).get(5, TimeUnit.SECONDS);
+
+        assertThat(transaction.getId(), equalTo(1L));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testTrackFailsOnClientError() throws Exception {
+        server.jsonResponse(TRANSACTION_NOT_FOUND, 404);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> poller.track(1L).get(5, TimeUnit.SECONDS));
+
+        assertThat(exception.getCause(), instanceOf(APIException.class));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testTrackFailsWhenTransactionFailedWithoutDetails() throws Exception {
+        server.jsonResponse(STATUS_FAILED, 200);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> poller.track(1L).get(5, TimeUnit.SECONDS));
+
+        assertThat(exception.getCause(), instanceOf(ReloadlyException.class));
+        assertThat(exception.getCause().getMessage(), containsString("FAILED"));
+    }
+
+    @Test
+    public void testTrackTimesOut() throws Exception {
+        poller.close();
+        poller = createPoller(4, Duration.ofMillis(200));
+        String body = new String(Files.readAllBytes(Paths.get(STATUS_PROCESSING)));
+        server.setDispatcher(jsonDispatcher(body, new AtomicInteger(), new AtomicInteger()));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> poller.track(1L).get(5, TimeUnit.SECONDS));
+
+        assertThat(exception.getCause(), instanceOf(TimeoutException.class));
+    }
+
+    @Test
+    public void testTrackCapsConcurrentPolls() throws Exception {
+        poller.close();
+        poller = createPoller(2, Duration.ofSeconds(10));
+        AtomicInteger concurrentRequests = new AtomicInteger();
+        AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        String body = new String(Files.readAllBytes(Paths.get(STATUS_SUCCESSFUL)));
+        server.setDispatcher(jsonDispatcher(body, concurrentRequests, maxConcurrentRequests));
+
+        List<CompletableFuture<TopupTransaction>> futures = new ArrayList<>();
+        for (long transactionId = 1; transactionId <= 10; transactionId++) {
+            futures.add(poller.track(transactionId));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(server.getRequestCount(), equalTo(10));
+        assertThat(maxConcurrentRequests.get(), lessThanOrEqualTo(2));
+    }
+
+    @Test
+    public void testCancelStopsTracking() throws Exception {
+        server.jsonResponse(STATUS_PROCESSING, 200);
+
+        CompletableFuture<TopupTransaction> future = poller.track(1L);
+        future.cancel(false);
+        Thread.sleep(100);
+
+        assertThat(server.getRequestCount(), equalTo(0));
+        assertThat(poller.getTrackedCount(), equalTo(0));
+    }
+
+    @Test
+    public void testCloseFailsTrackedTransactions() {
+        poller.close();
+        poller = TopupStatusPoller.builder().operationsProvider(airtimeAPI::topups)
+                .initialDelay(Duration.ofSeconds(10)).build();
+
+        CompletableFuture<TopupTransaction> tracked = poller.track(1L);
+        poller.close();
+        CompletableFuture<TopupTransaction> trackedAfterClose = poller.track(2L);
+
+        assertThat(tracked.isCompletedExceptionally(), is(true));
+        assertThat(trackedAfterClose.isCompletedExceptionally(), is(true));
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    @Test
+    public void testTrackFailsWhenProviderThrows() throws Exception {
+        poller.close();
+        poller = TopupStatusPoller.builder().operationsProvider(() -> {
+            throw new IllegalStateException("No topup operations");
+        }).initialDelay(Duration.ofMillis(10)).build();
+
+        CompletableFuture<TopupTransaction> failed = poller.track(1L);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> failed.get(5, TimeUnit.SECONDS));
+
+        assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(poller.getTrackedCount(), equalTo(0));
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    @Test
+    public void testTrackWithInvalidTransactionId() {
+        assertThrows(IllegalArgumentException.class, () -> poller.track(null));
+        assertThrows(IllegalArgumentException.class, () -> poller.track(0L));
+    }
+
+    private TopupStatusPoller createPoller(int maxConcurrentPolls, Duration timeout) {
+        return TopupStatusPoller.builder().operationsProvider(airtimeAPI::topups)
+                .initialDelay(Duration.ofMillis(10)).maxDelay(Duration.ofMillis(50))
+                .maxConcurrentPolls(maxConcurrentPolls).timeout(timeout).build();
+    }
+
+    private Dispatcher jsonDispatcher(String body, AtomicInteger concurrentRequests,
+                                      AtomicInteger maxConcurrentRequests) {
+        return new Dispatcher() {
+            @NonNull
+            @Override
+            public MockResponse dispatch(@NonNull RecordedRequest request) throws InterruptedException {
+                maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                concurrentRequests.decrementAndGet();
+                return new MockResponse().setResponseCode(200)
+                        .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue()).setBody(body);
+            }
+        };
+    }
+
+    private PhoneTopupRequest createTopupRequest() {
+        return PhoneTopupRequest.builder().amount(15.0).operatorId(174L)
+                .recipientPhone(new Phone("+50936377111", CountryCode.HT)).build();
+    }
+}
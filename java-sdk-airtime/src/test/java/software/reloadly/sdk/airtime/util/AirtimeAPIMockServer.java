@@ -1,5 +1,6 @@
 package software.reloadly.sdk.airtime.util;
 
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -34,6 +35,18 @@ public class AirtimeAPIMockServer {
         return server.takeRequest();
     }
 
+    public int getRequestCount() {
+        return server.getRequestCount();
+    }
+
+    public void setDispatcher(Dispatcher dispatcher) {
+        server.setDispatcher(dispatcher);
+    }
+
+    public void enqueue(MockResponse response) {
+        server.enqueue(response);
+    }
+
     private String readTextFile(String path) throws IOException {
         return new String(Files.readAllBytes(Paths.get(path)));
     }
@@ -46,4 +59,18 @@ public class AirtimeAPIMockServer {
         server.enqueue(response);
     }
 
+    public void jsonResponse(String path, int statusCode, long limit, long remaining, long reset) throws IOException {
+        MockResponse response = new MockResponse()
+                .setResponseCode(statusCode)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.AIRTIME_V1.getValue())
+                .addHeader(HttpHeader.RATE_LIMIT_LIMIT, limit)
+                .addHeader(HttpHeader.RATE_LIMIT_REMAINING, remaining)
+                .addHeader(HttpHeader.RATE_LIMIT_RESET, reset)
+                .setBody(readTextFile(path));
+        server.enqueue(response);
+    }
+
+    public void rateLimitResponse(String path, long limit, long remaining, long reset) throws IOException {
+        jsonResponse(path, 429, limit, remaining, reset);
+    }
 }
@@ -0,0 +1,29 @@
+package software.reloadly.sdk.core.cache;
+
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+/**
+ * Loads the values of a {@link LoadingCache}.
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+    /**
+     * @param key - The key to load the value of
+     * @return the value, or null if there is none, in which case nothing is cached
+     * @throws ReloadlyException if the value could not be loaded
+     */
+    V load(K key) throws ReloadlyException;
+
+    /**
+     * Called in the background to reload a stale entry, loads the value again by default.
+     *
+     * @param key      - The key to reload the value of
+     * @param oldValue - The stale value
+     * @return the new value, or null if there is none anymore, in which case the entry is removed
+     * @throws ReloadlyException if the value could not be loaded, the stale value is kept
+     */
+    default V reload(K key, V oldValue) throws ReloadlyException {
+        return load(key);
+    }
+}
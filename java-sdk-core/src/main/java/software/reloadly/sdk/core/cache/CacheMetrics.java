@@ -0,0 +1,87 @@
+package software.reloadly.sdk.core.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters describing the lookups and loads performed by a {@link LoadingCache}.
+ */
+public class CacheMetrics {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder staleHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder failedLoadCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    void recordHit(boolean stale) {
+        hitCount.increment();
+        if (stale) {
+            staleHitCount.increment();
+        }
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordLoad() {
+        loadCount.increment();
+    }
+
+    void recordFailedLoad() {
+        failedLoadCount.increment();
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    /**
+     * @return the number of lookups answered from the cache, stale entries included
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups answered with a stale entry while it was reloaded in the background
+     */
+    public long getStaleHitCount() {
+        return staleHitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups which had to wait for the value to be loaded
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of values successfully loaded or reloaded
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getFailedLoadCount() {
+        return failedLoadCount.sum();
+    }
+
+    /**
+     * @return the number of entries evicted to keep the cache under its maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return the ratio of lookups answered from the cache, or 0 if there was none
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long lookups = hits + missCount.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,47 @@
+package software.reloadly.sdk.core.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Used to configure how long the entries of a {@link LoadingCache} are kept and how many of them.
+ * <p>
+ * An entry is fresh for {@link #getTtl()} after being loaded. It is then stale for {@link #getStaleTtl()}, during
+ * which it is still returned while being reloaded in the background, and expires afterwards. Once the cache holds
+ * more than {@link #getMaxSize()} entries, the least recently used ones are evicted.
+ */
+@Getter
+public class CacheOptions {
+
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+    public static final Duration DEFAULT_STALE_TTL = Duration.ofHours(1);
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Duration ttl;
+    private final Duration staleTtl;
+    private final int maxSize;
+
+    @Builder
+    @SuppressWarnings("unused")
+    public CacheOptions(Duration ttl, Duration staleTtl, Integer maxSize) {
+        this.ttl = ttl == null ? DEFAULT_TTL : ttl;
+        this.staleTtl = staleTtl == null ? DEFAULT_STALE_TTL : staleTtl;
+        this.maxSize = maxSize == null ? DEFAULT_MAX_SIZE : maxSize;
+
+        if (this.ttl.isNegative() || this.ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be greater than zero");
+        }
+        if (this.staleTtl.isNegative()) {
+            throw new IllegalArgumentException("Stale TTL must not be negative");
+        }
+        if (this.maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be greater than zero");
+        }
+    }
+
+    public CacheOptions() {
+        this(null, null, null);
+    }
+}
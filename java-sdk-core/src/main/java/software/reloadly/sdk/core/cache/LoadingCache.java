@@ -0,0 +1,242 @@
+package software.reloadly.sdk.core.cache;
+
+import lombok.Getter;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * A size bounded cache loading its values on demand, see {@link CacheOptions} for the lifecycle of the entries.
+ * <p>
+ * A stale entry is returned right away while a single background task reloads it. Callers finding no entry, or an
+ * expired one, wait on a single in-flight load of the key instead of each issuing their own. A failed background
+ * reload keeps the stale entry until it expires.
+ */
+public class LoadingCache<K, V> {
+
+    private static final Executor DEFAULT_REFRESH_EXECUTOR =
+            Executors.newCachedThreadPool(new DaemonThreadFactory("reloadly-cache-refresh"));
+
+    private final CacheLoader<K, V> loader;
+    @Getter
+    private final CacheOptions options;
+    private final Executor refreshExecutor;
+    // Access ordered, guarded by itself
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    @Getter
+    private final CacheMetrics metrics = new CacheMetrics();
+
+    public LoadingCache(CacheLoader<K, V> loader, CacheOptions options) {
+        this(loader, options, DEFAULT_REFRESH_EXECUTOR);
+    }
+
+    public LoadingCache(CacheLoader<K, V> loader, CacheOptions options, Executor refreshExecutor) {
+        Asserter.assertNotNull(loader, "Loader");
+        Asserter.assertNotNull(refreshExecutor, "Refresh executor");
+        this.loader = loader;
+        this.options = options == null ? new CacheOptions() : options;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns the cached value of the given key, loading it if it is missing or expired.
+     *
+     * @param key - The key to look up
+     * @return the value, or null if the loader has none
+     * @throws ReloadlyException if the value had to be loaded and the load failed
+     */
+    public V get(K key) throws ReloadlyException {
+        Asserter.assertNotNull(key, "Key");
+        long now = System.nanoTime();
+        Entry<V> entry = getEntry(key);
+        if (entry != null && entry.isFresh(now)) {
+            metrics.recordHit(false);
+            return entry.value;
+        }
+
+        if (entry != null && !entry.isExpired(now)) {
+            metrics.recordHit(true);
+            load(key, entry.value, true);
+            return entry.value;
+        }
+
+        metrics.recordMiss();
+        return await(load(key, null, false));
+    }
+
+    /**
+     * @param key - The key to look up
+     * @return the cached value of the given key, stale or not, or null if it is missing or expired
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = getEntry(key);
+        return entry == null || entry.isExpired(System.nanoTime()) ? null : entry.value;
+    }
+
+    /**
+     * Caches the given value, fresh from now on. A null value removes the entry.
+     *
+     * @param key   - The key of the value
+     * @param value - The value to cache
+     */
+    public void put(K key, V value) {
+        Asserter.assertNotNull(key, "Key");
+        if (value == null) {
+            invalidate(key);
+            return;
+        }
+
+        long now = System.nanoTime();
+        Entry<V> entry = new Entry<>(value, now + options.getTtl().toNanos(),
+                now + options.getTtl().toNanos() + options.getStaleTtl().toNanos());
+        synchronized (entries) {
+            entries.put(key, entry);
+            Iterator<K> iterator = entries.keySet().iterator();
+            while (entries.size() > options.getMaxSize() && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                metrics.recordEviction();
+            }
+        }
+    }
+
+    /**
+     * Reloads the value of the given key in the background, unless a load is already in flight.
+     *
+     * @param key - The key to reload
+     * @return the in-flight load
+     */
+    public CompletableFuture<V> refresh(K key) {
+        Asserter.assertNotNull(key, "Key");
+        return load(key, getIfPresent(key), true);
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the keys of the entries not expired yet, from the least to the most recently used
+     */
+    public List<K> keys() {
+        long now = System.nanoTime();
+        List<K> keys = new ArrayList<>();
+        synchronized (entries) {
+            for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+                if (!entry.getValue().isExpired(now)) {
+                    keys.add(entry.getKey());
+                }
+            }
+        }
+        return keys;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Entry<V> getEntry(K key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Starts a load of the given key unless one is already in flight, in which case the in-flight one is returned.
+     */
+    private CompletableFuture<V> load(K key, V oldValue, boolean background) {
+        CompletableFuture<V> current = inFlight.get(key);
+        if (current != null) {
+            return current;
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        current = inFlight.putIfAbsent(key, future);
+        if (current != null) {
+            return current;
+        }
+
+        Runnable task = () -> doLoad(key, oldValue, future);
+        if (background) {
+            refreshExecutor.execute(task);
+        } else {
+            task.run();
+        }
+        return future;
+    }
+
+    private void doLoad(K key, V oldValue, CompletableFuture<V> future) {
+        try {
+            V value = oldValue == null ? loader.load(key) : loader.reload(key, oldValue);
+            put(key, value);
+            metrics.recordLoad();
+            future.complete(value);
+        } catch (Throwable e) {
+            metrics.recordFailedLoad();
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) throws ReloadlyException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReloadlyException("Interrupted while loading a cached value", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ReloadlyException) {
+                throw (ReloadlyException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ReloadlyException("Failed to load a cached value", cause);
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long refreshAtNanos;
+        private final long expireAtNanos;
+
+        private Entry(V value, long refreshAtNanos, long expireAtNanos) {
+            this.value = value;
+            this.refreshAtNanos = refreshAtNanos;
+            this.expireAtNanos = expireAtNanos;
+        }
+
+        private boolean isFresh(long now) {
+            return now - refreshAtNanos < 0;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expireAtNanos >= 0;
+        }
+    }
+}
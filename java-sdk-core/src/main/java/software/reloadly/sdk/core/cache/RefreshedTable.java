@@ -0,0 +1,154 @@
+package software.reloadly.sdk.core.cache;
+
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DaemonThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reference data held in memory, retrieved from the API on first use and then refreshed periodically in the
+ * background.
+ * <p>
+ * Subclasses retrieve and index the data in {@link #load()}, which never runs concurrently with itself. The
+ * background refreshes start with the first refresh and run every {@code refreshInterval}, a failed one keeping the
+ * previous data until the next one.
+ */
+public abstract class RefreshedTable implements AutoCloseable {
+
+    /**
+     * Number of pages of a catalog retrieved concurrently by a refresh.
+     */
+    protected static final int CATALOG_PARALLELISM = 4;
+
+    private final Duration refreshInterval;
+    private final String threadName;
+    private final Object refreshLock = new Object();
+    private final Object schedulerLock = new Object();
+    private final LongAdder failedRefreshCount = new LongAdder();
+    // Guarded by schedulerLock
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    /**
+     * @param refreshInterval - Interval between two background refreshes, zero to disable them
+     * @param threadName      - Name of the background refresh thread
+     */
+    protected RefreshedTable(Duration refreshInterval, String threadName) {
+        Asserter.assertNotNull(refreshInterval, "Refresh interval");
+        Asserter.assertNotBlank(threadName, "Thread name");
+        if (refreshInterval.isNegative()) {
+            throw new IllegalArgumentException("Refresh interval must not be negative");
+        }
+        this.refreshInterval = refreshInterval;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Retrieves the data from the API and merges it into the table.
+     *
+     * @return the number of entries added, changed or removed, or retrieved when the data is replaced as a whole
+     * @throws ReloadlyException if a request failed, the previous data is kept
+     */
+    public int refresh() throws ReloadlyException {
+        startRefreshing();
+        synchronized (refreshLock) {
+            return load();
+        }
+    }
+
+    /**
+     * @return the number of background refreshes which failed
+     */
+    public long getFailedRefreshCount() {
+        return failedRefreshCount.sum();
+    }
+
+    @Override
+    public void close() {
+        synchronized (schedulerLock) {
+            closed = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the data from the API and indexes it, called with the refresh lock held.
+     *
+     * @return the number of entries added, changed or removed, or retrieved when the data is replaced as a whole
+     * @throws ReloadlyException if a request failed
+     */
+    protected abstract int load() throws ReloadlyException;
+
+    /**
+     * @return whether there is data to serve, retrieved or restored
+     */
+    protected abstract boolean isLoaded();
+
+    /**
+     * Retrieves the data unless there is some already, a single caller retrieving it when several find none.
+     *
+     * @throws ReloadlyException if the data had to be retrieved and a request failed
+     */
+    protected final void ensureLoaded() throws ReloadlyException {
+        if (!isLoaded()) {
+            synchronized (refreshLock) {
+                if (!isLoaded()) {
+                    refresh();
+                }
+            }
+        }
+    }
+
+    /**
+     * Refreshes the data in the background, e.g. to revalidate restored data, unless background refreshes are
+     * disabled.
+     */
+    protected final void refreshInBackground() {
+        ScheduledExecutorService scheduler = startRefreshing();
+        if (scheduler != null) {
+            try {
+                scheduler.execute(this::refreshQuietly);
+            } catch (RejectedExecutionException e) {
+                // Closed in the meantime
+            }
+        }
+    }
+
+    /**
+     * @return the lock held while the data is loaded, to merge single entries without racing a refresh
+     */
+    protected final Object getRefreshLock() {
+        return refreshLock;
+    }
+
+    private ScheduledExecutorService startRefreshing() {
+        synchronized (schedulerLock) {
+            if (closed || refreshInterval.isZero()) {
+                return null;
+            }
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory(threadName));
+                scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshInterval.toNanos(),
+                        refreshInterval.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return scheduler;
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // The previous data keeps being served until the next refresh
+            failedRefreshCount.increment();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package software.reloadly.sdk.core.cache;
+
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link RefreshedTable} mirroring a remote collection keyed by id into a {@link SyncedTable}.
+ * <p>
+ * A refresh retrieves the whole collection with {@link #fetchAll()} and merges it, single entries are retrieved with
+ * {@link #fetch(Long)} and merged on their own, e.g. once told they changed.
+ *
+ * @param <V> The type of the entries
+ */
+public abstract class SyncedRefreshedTable<V> extends RefreshedTable {
+
+    private final String idName;
+    private final SyncedTable<Long, V> table;
+    private volatile Instant refreshedAt;
+
+    /**
+     * @param refreshInterval   - Interval between two background refreshes, zero to disable them
+     * @param threadName        - Name of the background refresh thread
+     * @param idName            - Name of the id in error messages, e.g. {@code "Operator id"}
+     * @param idFunction        - Returns the id of an entry, entries without an id are ignored
+     * @param versionComparator - Tells whether an entry is newer than another, may be null to compare entries
+     *                          with {@link Object#equals(Object)}
+     */
+    protected SyncedRefreshedTable(Duration refreshInterval, String threadName, String idName,
+                                   Function<? super V, Long> idFunction,
+                                   SyncedTable.VersionComparator<? super V> versionComparator) {
+
+        super(refreshInterval, threadName);
+        Asserter.assertNotBlank(idName, "Id name");
+        this.idName = idName;
+        this.table = new SyncedTable<>(idFunction, versionComparator);
+    }
+
+    /**
+     * @return every entry
+     * @throws ReloadlyException if the entries weren't retrieved yet and the request failed
+     */
+    public Collection<V> list() throws ReloadlyException {
+        ensureLoaded();
+        return table.asMap().values();
+    }
+
+    /**
+     * @return the time of the last complete refresh, or null if there is none yet
+     */
+    public Instant getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    /**
+     * @param id - The id of the entry
+     * @return the entry, or null if there is none
+     * @throws ReloadlyException if the entries weren't retrieved yet and the request failed
+     */
+    protected final V getEntry(Long id) throws ReloadlyException {
+        Asserter.assertNotNull(id, idName);
+        ensureLoaded();
+        return table.get(id);
+    }
+
+    /**
+     * Retrieves a single entry from the API and merges it into the table.
+     *
+     * @param id - The id of the entry
+     * @return the entry
+     * @throws ReloadlyException if the request failed
+     */
+    protected final V refreshEntry(Long id) throws ReloadlyException {
+        Asserter.assertNotNull(id, idName);
+        Asserter.assertGreaterThanZero(id, idName);
+        V entry = fetch(id);
+        table.put(entry);
+        return entry;
+    }
+
+    /**
+     * @return every entry of the remote collection
+     * @throws ReloadlyException if a request failed
+     */
+    protected abstract List<V> fetchAll() throws ReloadlyException;
+
+    /**
+     * @param id - The id of the entry
+     * @return the entry
+     * @throws ReloadlyException if the request failed
+     */
+    protected abstract V fetch(Long id) throws ReloadlyException;
+
+    /**
+     * Retrieves every entry from the API and merges the changed ones into the table.
+     */
+    @Override
+    protected final int load() throws ReloadlyException {
+        int changed = table.sync(fetchAll(), true);
+        refreshedAt = Instant.now();
+        return changed;
+    }
+
+    @Override
+    protected final boolean isLoaded() {
+        return table.isSynced();
+    }
+}
@@ -0,0 +1,180 @@
+package software.reloadly.sdk.core.cache;
+
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An in-memory table mirroring a remote collection, read without locking.
+ * <p>
+ * Syncs merge the listed entries into the table and only replace the entries which changed, that is whose version
+ * is newer when a version comparator is given, or which aren't equal to the cached entry otherwise. A complete sync
+ * also removes the entries which are no longer listed. The table is published as a whole once a sync is merged, so
+ * readers never see a partially merged sync, and is left untouched when nothing changed.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the entries
+ */
+public class SyncedTable<K, V> {
+
+    private final Function<? super V, ? extends K> keyFunction;
+    private final VersionComparator<? super V> versionComparator;
+    private final Object writeLock = new Object();
+    private volatile Map<K, V> entries = Collections.emptyMap();
+    private volatile boolean synced;
+
+    /**
+     * @param keyFunction       - Returns the key of an entry, entries without a key are ignored
+     * @param versionComparator - Tells whether an entry is newer than another, may be null to compare entries
+     *                          with {@link Object#equals(Object)}
+     */
+    public SyncedTable(Function<? super V, ? extends K> keyFunction, VersionComparator<? super V> versionComparator) {
+        Asserter.assertNotNull(keyFunction, "Key function");
+        this.keyFunction = keyFunction;
+        this.versionComparator = versionComparator;
+    }
+
+    /**
+     * @param key - The key of the entry
+     * @return the entry, or null if there is none
+     */
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @return an unmodifiable view of the table as of the last merge
+     */
+    public Map<K, V> asMap() {
+        return entries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return whether a complete sync was merged since the table was created or cleared
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Merges a single entry, e.g. one retrieved on its own. This copies the table, prefer {@link #sync(Collection,
+     * boolean)} to merge many entries.
+     *
+     * @param value - The entry to merge
+     * @return whether the table changed
+     */
+    public boolean put(V value) {
+        Asserter.assertNotNull(value, "Value");
+        return sync(Collections.singletonList(value), false) > 0;
+    }
+
+    /**
+     * Removes a single entry, e.g. one no longer found on its own. This copies the table.
+     *
+     * @param key - The key of the entry
+     * @return whether the table changed
+     */
+    public boolean remove(K key) {
+        Asserter.assertNotNull(key, "Key");
+        synchronized (writeLock) {
+            Map<K, V> current = entries;
+            if (!current.containsKey(key)) {
+                return false;
+            }
+            Map<K, V> next = new HashMap<>(current);
+            next.remove(key);
+            entries = Collections.unmodifiableMap(next);
+            return true;
+        }
+    }
+
+    /**
+     * Merges the given entries into the table.
+     *
+     * @param values   - The entries to merge
+     * @param complete - Whether the entries are the whole remote collection, in which case the cached entries
+     *                 which aren't listed are removed
+     * @return the number of entries added, replaced or removed
+     */
+    public int sync(Collection<? extends V> values, boolean complete) {
+        Asserter.assertNotNull(values, "Values");
+        synchronized (writeLock) {
+            Map<K, V> current = entries;
+            Map<K, V> changes = new HashMap<>();
+            Set<K> listed = complete ? new HashSet<>() : Collections.emptySet();
+            for (V value : values) {
+                K key = value == null ? null : keyFunction.apply(value);
+                if (key == null) {
+                    continue;
+                }
+                if (complete) {
+                    listed.add(key);
+                }
+                V cached = changes.containsKey(key) ? changes.get(key) : current.get(key);
+                if (cached == null || isNewer(value, cached)) {
+                    changes.put(key, value);
+                }
+            }
+
+            int removed = 0;
+            if (complete) {
+                for (K key : current.keySet()) {
+                    if (!listed.contains(key)) {
+                        removed++;
+                    }
+                }
+                synced = true;
+            }
+            if (changes.isEmpty() && removed == 0) {
+                return 0;
+            }
+
+            Map<K, V> next = new HashMap<>(current);
+            if (removed > 0) {
+                next.keySet().retainAll(listed);
+            }
+            next.putAll(changes);
+            entries = Collections.unmodifiableMap(next);
+            return changes.size() + removed;
+        }
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            entries = Collections.emptyMap();
+            synced = false;
+        }
+    }
+
+    private boolean isNewer(V value, V cached) {
+        return versionComparator == null ? !Objects.equals(value, cached) :
+                versionComparator.isNewer(value, cached);
+    }
+
+    /**
+     * Tells whether an entry is a newer version of another entry with the same key.
+     *
+     * @param <V> The type of the entries
+     */
+    @FunctionalInterface
+    public interface VersionComparator<V> {
+
+        /**
+         * @param value  - The entry just listed
+         * @param cached - The entry currently cached
+         * @return whether the listed entry should replace the cached one
+         */
+        boolean isNewer(V value, V cached);
+    }
+}
@@ -1,8 +1,12 @@
 package software.reloadly.sdk.core.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
+import software.reloadly.sdk.core.internal.adapter.JackSonDateDeserializer;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -26,7 +30,9 @@ import java.util.List;
  */
 @Getter
 @Setter
+@NoArgsConstructor
 @EqualsAndHashCode
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class APIError {
 
 
@@ -58,6 +64,7 @@ public class APIError {
     /**
      * "The timestamp when the usage occurred"
      */
+    @JsonDeserialize(using = JackSonDateDeserializer.class)
     private Date timeStamp;
 
 
@@ -1,5 +1,6 @@
 package software.reloadly.sdk.core.exception;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -67,4 +68,17 @@ public class RateLimitException extends APIException {
     public void setExpectedResetTimestamp(long expectedResetTimestamp) {
         this.expectedResetTimestamp = expectedResetTimestamp;
     }
+
+    /**
+     * Getter for the time left until the rate limit resets, computed from {@link #getExpectedResetTimestamp()}.
+     *
+     * @return The time left until the reset, or zero if the reset timestamp is missing or already passed.
+     */
+    public Duration getDelayUntilReset() {
+        if (expectedResetTimestamp <= 0) {
+            return Duration.ZERO;
+        }
+        long delayMillis = expectedResetTimestamp * 1000 - System.currentTimeMillis();
+        return delayMillis > 0 ? Duration.ofMillis(delayMillis) : Duration.ZERO;
+    }
 }
@@ -1,21 +1,27 @@
 package software.reloadly.sdk.core.internal.adapter;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import software.reloadly.sdk.core.internal.util.DateUtil;
 
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 
 public class JackSonDateDeserializer extends JsonDeserializer<Date> {
     @Override
     public Date deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+        if (jsonParser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            // Epoch milliseconds, as sent in the time stamp of some errors
+            return new Date(jsonParser.getLongValue());
+        }
+        String text = jsonParser.getText();
         try {
-            return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(jsonParser.getText());
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
+            return DateUtil.parseDate(text);
+        } catch (DateTimeParseException e) {
+            throw deserializationContext.weirdStringException(text, Date.class, e.getMessage());
         }
     }
 }
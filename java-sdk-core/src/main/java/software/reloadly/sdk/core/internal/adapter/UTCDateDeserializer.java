@@ -1,24 +1,8 @@
 package software.reloadly.sdk.core.internal.adapter;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
-
-import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
-public class UTCDateDeserializer extends JsonDeserializer<Date> {
-
-    private static final SimpleDateFormat utcFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
-
-    @Override
-    public Date deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
-        try {
-            return utcFormat.parse(jsonParser.getText());
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
-        }
-    }
+/**
+ * Reads {@code yyyy-MM-dd'T'HH:mm:ss'Z'} dates in UTC, and also accepts the {@code yyyy-MM-dd HH:mm:ss} dates some
+ * endpoints return in the same fields.
+ */
+public class UTCDateDeserializer extends JackSonDateDeserializer {
 }
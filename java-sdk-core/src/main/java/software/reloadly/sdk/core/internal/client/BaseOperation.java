@@ -1,12 +1,47 @@
 package software.reloadly.sdk.core.internal.client;
 
-import lombok.RequiredArgsConstructor;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import org.springframework.lang.Nullable;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 
-@RequiredArgsConstructor
 public abstract class BaseOperation {
     protected final HttpUrl baseUrl;
     protected final String apiToken;
     protected final OkHttpClient client;
+    @Nullable
+    protected final AccessTokenSupplier accessTokenSupplier;
+
+    public BaseOperation(HttpUrl baseUrl, String apiToken, OkHttpClient client) {
+        this(baseUrl, apiToken, null, client);
+    }
+
+    /**
+     * @param apiToken            - The token the operations are created with
+     * @param accessTokenSupplier - Supplies the token of the requests issued long after the operations were created,
+     *                            e.g. the pages of a long walk, null to keep sending the token they were created with
+     */
+    public BaseOperation(HttpUrl baseUrl, String apiToken, @Nullable AccessTokenSupplier accessTokenSupplier,
+                         OkHttpClient client) {
+        this.baseUrl = baseUrl;
+        this.apiToken = apiToken;
+        this.accessTokenSupplier = accessTokenSupplier;
+        this.client = client;
+    }
+
+    /**
+     * @return the token to send on a new request, the one the operations were created with unless they were given
+     * an access token supplier
+     */
+    protected String getCurrentAccessToken() {
+        if (accessTokenSupplier != null) {
+            try {
+                return accessTokenSupplier.get();
+            } catch (ReloadlyException e) {
+                // The request is sent with the previous token and fails if that one was rejected
+            }
+        }
+        return apiToken;
+    }
 }
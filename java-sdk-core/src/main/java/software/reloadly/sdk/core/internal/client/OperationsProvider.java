@@ -0,0 +1,13 @@
+package software.reloadly.sdk.core.internal.client;
+
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+/**
+ * Provides the operations of a service client, e.g. {@code airtimeAPI::operators}. Components outliving a single
+ * call get the operations anew each time, so that they always use the current access token.
+ */
+@FunctionalInterface
+public interface OperationsProvider<T extends BaseOperation> {
+
+    T get() throws ReloadlyException;
+}
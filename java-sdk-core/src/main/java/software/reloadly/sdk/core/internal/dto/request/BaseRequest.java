@@ -1,15 +1,34 @@
 package software.reloadly.sdk.core.internal.dto.request;
 
+import org.springframework.lang.NonNull;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.interceptor.AsyncExecution;
+import software.reloadly.sdk.core.internal.interceptor.DeferredCallException;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DaemonThreadFactory;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public abstract class BaseRequest<T> implements Request<T> {
 
+    // Only enqueues the deferred calls again, the calls themselves run on the http client dispatcher
+    private static final ScheduledExecutorService DEFERRED_CALLS =
+            Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("reloadly-deferred-calls"));
+
     private final OkHttpClient client;
+    private Duration timeout;
 
     BaseRequest(OkHttpClient client) {
         this.client = client;
@@ -28,7 +47,7 @@ public abstract class BaseRequest<T> implements Request<T> {
     @Override
     public T execute() throws ReloadlyException {
         okhttp3.Request request = createRequest();
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = newCall(request).execute()) {
             return parseResponse(response);
         } catch (ReloadlyException e) {
             throw e;
@@ -36,4 +55,99 @@ public abstract class BaseRequest<T> implements Request<T> {
             throw new ReloadlyException("Failed to execute request", e);
         }
     }
+
+    /**
+     * Executes this request asynchronously on the http client dispatcher. The dispatcher threads never wait for the
+     * rate limit to reset, the request is enqueued again once it has, see {@link AsyncExecution}.
+     *
+     * @return a future completed with the response body JSON decoded as T
+     */
+    @Override
+    public CompletableFuture<T> executeAsync() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        okhttp3.Request request;
+        try {
+            request = createRequest().newBuilder().tag(AsyncExecution.class, new AsyncExecution()).build();
+        } catch (ReloadlyException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getTimeoutMillis());
+        AtomicReference<Call> currentCall = new AtomicReference<>();
+        enqueue(request, deadlineNanos, currentCall, future);
+        future.whenComplete((result, error) -> {
+            Call call = currentCall.get();
+            if (future.isCancelled() && call != null) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public Request<T> setTimeout(Duration timeout) {
+        Asserter.assertNotNull(timeout, "Timeout");
+        Asserter.assertGreaterThanZero(timeout.toMillis(), "Timeout");
+        this.timeout = timeout;
+        return this;
+    }
+
+    private void enqueue(okhttp3.Request request, long deadlineNanos, AtomicReference<Call> currentCall,
+                         CompletableFuture<T> future) {
+
+        long timeoutMillis = getTimeoutMillis();
+        if (timeoutMillis > 0) {
+            timeoutMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (timeoutMillis <= 0) {
+                future.completeExceptionally(new ReloadlyException("Failed to execute request",
+                        new InterruptedIOException("timeout")));
+                return;
+            }
+        }
+        Call call = newCall(request, timeoutMillis);
+        currentCall.set(call);
+        if (future.isCancelled()) {
+            return;
+        }
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                if (e instanceof DeferredCallException && !call.isCanceled()) {
+                    DEFERRED_CALLS.schedule(() -> enqueue(request, deadlineNanos, currentCall, future),
+                            ((DeferredCallException) e).getDelay().toNanos(), TimeUnit.NANOSECONDS);
+                    return;
+                }
+                future.completeExceptionally(new ReloadlyException("Failed to execute request", e));
+            }
+
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                try (Response ignored = response) {
+                    future.complete(parseResponse(response));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    private long getTimeoutMillis() {
+        return timeout != null ? timeout.toMillis() : client.callTimeoutMillis();
+    }
+
+    private Call newCall(okhttp3.Request request) {
+        return newCall(request, getTimeoutMillis());
+    }
+
+    private Call newCall(okhttp3.Request request, long timeoutMillis) {
+        Call call = client.newCall(request);
+        if (timeoutMillis > 0) {
+            call.timeout().clearTimeout();
+            // Set as a deadline so that the interceptors waiting to retry or for the rate limit to reset can tell
+            // how much time is left
+            call.timeout().deadline(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return call;
+    }
 }
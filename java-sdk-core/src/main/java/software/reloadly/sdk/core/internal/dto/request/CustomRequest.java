@@ -2,17 +2,20 @@ package software.reloadly.sdk.core.internal.dto.request;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.GsonBuilder;
+import com.fasterxml.jackson.databind.ObjectReader;
 import software.reloadly.sdk.core.dto.APIError;
 import software.reloadly.sdk.core.exception.APIException;
 import software.reloadly.sdk.core.exception.RateLimitException;
 import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Idempotency;
+import software.reloadly.sdk.core.internal.net.Telemetry;
 import software.reloadly.sdk.core.internal.util.ExceptionUtil;
+import software.reloadly.sdk.core.internal.util.ObjectMapperUtil;
+import software.reloadly.sdk.core.internal.util.TelemetryUtil;
 import okhttp3.*;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.Reader;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,32 +26,37 @@ public class CustomRequest<T> extends BaseRequest<T> implements CustomizableRequ
 
     private final String url;
     private final String method;
-    private final ObjectMapper mapper;
-    private final TypeReference<T> tType;
+    private final ObjectReader reader;
+    private final String telemetryHeaderValue;
     private final Map<String, String> headers;
     private final Map<String, Object> parameters;
     private Object body;
+    private Idempotency idempotency;
 
     private static final int STATUS_CODE_TOO_MANY_REQUEST = 429;
+    private static final ObjectReader ERROR_READER = ObjectMapperUtil.readerFor(APIError.class);
 
-    CustomRequest(OkHttpClient client, String url, String method, ObjectMapper mapper, TypeReference<T> tType) {
+    public CustomRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
         super(client);
         this.url = url;
         this.method = method;
-        this.mapper = mapper;
-        this.tType = tType;
+        this.reader = ObjectMapperUtil.readerFor(tType);
+        this.telemetryHeaderValue = TelemetryUtil.getTelemetryHeaderValue(client);
         this.headers = new HashMap<>();
         this.parameters = new HashMap<>();
     }
 
-    public CustomRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
-        this(client, url, method, new ObjectMapper(), tType);
-    }
-
     @Override
     protected Request createRequest() throws ReloadlyException {
         Request.Builder builder = new Request.Builder().url(url).method(method, createBody());
+        // Added here rather than by the telemetry interceptor, which would otherwise copy the whole request
+        if (telemetryHeaderValue != null) {
+            builder.header(Telemetry.HEADER_NAME, telemetryHeaderValue);
+        }
         headers.forEach(builder::addHeader);
+        if (idempotency != null) {
+            builder.tag(Idempotency.class, idempotency);
+        }
         return builder.build();
     }
 
@@ -62,8 +70,7 @@ public class CustomRequest<T> extends BaseRequest<T> implements CustomizableRequ
             if (body == null) {
                 throw new Exception();
             }
-            String payload = body.string();
-            return mapper.readValue(payload, tType);
+            return reader.readValue(body.byteStream());
         } catch (Exception e) {
             String path = getPath(response);
             throw new APIException("Failed to parse json body", response.code(), path, e);
@@ -76,6 +83,11 @@ public class CustomRequest<T> extends BaseRequest<T> implements CustomizableRequ
         return this;
     }
 
+    @Override
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
     @Override
     public CustomRequest<T> addParameter(String name, Object value) {
         parameters.put(name, value);
@@ -88,12 +100,25 @@ public class CustomRequest<T> extends BaseRequest<T> implements CustomizableRequ
         return this;
     }
 
+    /**
+     * Overrides whether this request can be safely retried after a connection failure or a server error, which
+     * otherwise depends on its http method.
+     *
+     * @param idempotency - The idempotency of this request
+     * @return this request
+     */
+    public CustomRequest<T> setIdempotency(Idempotency idempotency) {
+        this.idempotency = idempotency;
+        return this;
+    }
+
     protected RequestBody createBody() throws ReloadlyException {
         if (body == null && parameters.isEmpty()) {
             return null;
         }
         try {
-            byte[] jsonBody = mapper.writeValueAsBytes(body != null ? body : parameters);
+            Object value = body != null ? body : parameters;
+            byte[] jsonBody = ObjectMapperUtil.writerFor(value.getClass()).writeValueAsBytes(value);
             return RequestBody.create(MediaType.parse(APPLICATION_JSON), jsonBody);
         } catch (JsonProcessingException e) {
             throw new ReloadlyException("Couldn't create the request body.", e);
@@ -109,30 +134,30 @@ public class CustomRequest<T> extends BaseRequest<T> implements CustomizableRequ
     }
 
     private APIException doCreateResponseException(Response response) {
-        Reader streamReader;
         try (ResponseBody body = response.body()) {
 
             if (body == null) {
                 throw new Exception("Operation failed");
             }
-            streamReader = body.charStream();
-            return ExceptionUtil.convert(new GsonBuilder()
-                    .setDateFormat("yyyy-MM-dd HH:mm:ss")
-                    .create().fromJson(streamReader, APIError.class), response.code());
+            return ExceptionUtil.convert(ERROR_READER.readValue(body.byteStream()), response.code());
         } catch (Exception e) {
-            body = (body == null) ? "No response from server, please try again or contact support" : body.toString();
-            return new APIException(body.toString(), response.code(), getPath(response), e);
+            String message = (body == null) ? "No response from server, please try again or contact support" :
+                    body.toString();
+            return new APIException(message, response.code(), getPath(response), e);
         }
     }
 
     private RateLimitException createRateLimitException(Response response) {
 
-        RateLimitException rateLimitException = (RateLimitException) doCreateResponseException(response);
+        APIException apiException = doCreateResponseException(response);
+        RateLimitException rateLimitException = new RateLimitException(apiException.getMessage(),
+                apiException.getPath(), response.code(), apiException.getErrorCode(), apiException.getDetails());
+        rateLimitException.setTimeStamp(apiException.getTimeStamp());
 
         // -1 as default value if the header could not be found.
-        String resetValue = response.header("X-RateLimit-Reset", "-1");
-        String limitValue = response.header("X-RateLimit-Limit", "-1");
-        String remainingValue = response.header("X-RateLimit-Remaining", "-1");
+        String resetValue = response.header(HttpHeader.RATE_LIMIT_RESET, "-1");
+        String limitValue = response.header(HttpHeader.RATE_LIMIT_LIMIT, "-1");
+        String remainingValue = response.header(HttpHeader.RATE_LIMIT_REMAINING, "-1");
 
         resetValue = resetValue == null ? "-1" : resetValue;
         limitValue = limitValue == null ? "-1" : limitValue;
@@ -149,7 +174,7 @@ public class CustomRequest<T> extends BaseRequest<T> implements CustomizableRequ
         return rateLimitException;
     }
 
-    private String getPath(Response response) {
+    protected String getPath(Response response) {
         return StringUtils.join(response.request().url().pathSegments(), "/");
     }
 }
@@ -7,6 +7,12 @@ public interface CustomizableRequest<T> extends Request<T> {
 
     CustomizableRequest<T> addHeader(String name, String value);
 
+    /**
+     * @param name - The name of the header
+     * @return the value of the header added to this request, or null if there is none
+     */
+    String getHeader(String name);
+
     CustomizableRequest<T> addParameter(String name, Object value);
 
     CustomizableRequest<T> setBody(Object body);
@@ -0,0 +1,98 @@
+package software.reloadly.sdk.core.internal.dto.request;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.ObjectMapperUtil;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Request that decodes a list or page payload one element at a time, straight from the response byte stream,
+ * handing each element to a consumer instead of materializing the whole list in memory.
+ * <p>
+ * The payload may either be a JSON array, or a JSON object holding the elements in its {@code content} array,
+ * as returned by the paginated endpoints. The request executes to the number of elements handed to the consumer.
+ *
+ * @param <E> The type of the list or page elements
+ */
+public class StreamingRequest<E> extends CustomRequest<Long> {
+
+    private static final String CONTENT_FIELD = "content";
+
+    private final ObjectReader elementReader;
+    private final Consumer<? super E> consumer;
+
+    public StreamingRequest(OkHttpClient client, String url, String method,
+                            Class<E> elementType, Consumer<? super E> consumer) {
+
+        super(client, url, method, new TypeReference<Long>() {
+        });
+        Asserter.assertNotNull(elementType, "Element type");
+        Asserter.assertNotNull(consumer, "Consumer");
+        this.elementReader = ObjectMapperUtil.readerFor(elementType);
+        this.consumer = consumer;
+    }
+
+    @Override
+    protected Long parseResponse(Response response) throws ReloadlyException {
+        if (!response.isSuccessful()) {
+            throw createResponseException(response);
+        }
+
+        try (ResponseBody body = response.body()) {
+            if (body == null) {
+                throw new IOException("Empty response body");
+            }
+            try (JsonParser parser = ObjectMapperUtil.getObjectMapper().getFactory().createParser(body.byteStream())) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT && !moveToContent(parser)) {
+                    return 0L;
+                } else if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected a JSON array or object but found " + token);
+                }
+                return readElements(parser);
+            }
+        } catch (IOException e) {
+            throw new APIException("Failed to parse json body", response.code(), getPath(response), e);
+        }
+    }
+
+    /**
+     * Moves the parser to the start of the content array of a page.
+     *
+     * @return false if the page has no content array
+     */
+    private boolean moveToContent(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (CONTENT_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private long readElements(JsonParser parser) throws IOException {
+        long count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == null) {
+                throw new IOException("Unexpected end of the JSON array");
+            }
+            E element = elementReader.readValue(parser);
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+}
@@ -4,6 +4,9 @@ package software.reloadly.sdk.core.internal.dto.request.interfaces;
 import software.reloadly.sdk.core.exception.APIException;
 import software.reloadly.sdk.core.exception.ReloadlyException;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Class that represents an HTTP Request that can be executed.
  *
@@ -19,4 +22,24 @@ public interface Request<T> {
      * @throws ReloadlyException if the request couldn't be created or executed successfully.
      */
     T execute() throws ReloadlyException;
+
+    /**
+     * Executes this request asynchronously, without blocking the calling thread while the call is in flight.
+     * Cancelling the returned future cancels the underlying http call.
+     *
+     * @return a future completed with the response body JSON decoded as T, or completed exceptionally with an
+     * {@link APIException} if the response wasn't successful or a {@link ReloadlyException} if the request
+     * couldn't be created or executed successfully.
+     */
+    CompletableFuture<T> executeAsync();
+
+    /**
+     * Sets the overall time budget of this request, overriding the call timeout of the client. The budget starts
+     * when the request is executed and covers the connection, the retries, the waits for the rate limit to reset
+     * and the reading of the response.
+     *
+     * @param timeout - The maximum time the execution may take
+     * @return this request
+     */
+    Request<T> setTimeout(Duration timeout);
 }
@@ -0,0 +1,11 @@
+package software.reloadly.sdk.core.internal.enums;
+
+/**
+ * Tags a request to override whether it is considered idempotent, and can therefore be safely retried after a
+ * connection failure or a server error. Untagged requests are idempotent depending on their http method.
+ */
+public enum Idempotency {
+
+    IDEMPOTENT,
+    NON_IDEMPOTENT
+}
@@ -0,0 +1,40 @@
+package software.reloadly.sdk.core.internal.interceptor;
+
+/**
+ * Tags the requests executed asynchronously by
+ * {@link software.reloadly.sdk.core.internal.dto.request.BaseRequest#executeAsync()}. Their calls run on the
+ * dispatcher threads of the http client, which are shared by every client of the JVM, so the interceptors never
+ * wait on them: they throw a {@link DeferredCallException} instead, and the request is enqueued again once the
+ * delay is over.
+ * <p>
+ * Every call of a request carries the same tag, which keeps the state outliving a single call.
+ */
+public final class AsyncExecution {
+
+    private volatile int attempt = 1;
+    private volatile long throttledSinceNanos;
+
+    /**
+     * @return the number of the attempt to send next, starting at 1
+     */
+    int getAttempt() {
+        return attempt;
+    }
+
+    void setAttempt(int attempt) {
+        this.attempt = attempt;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the request was first delayed by the rate limit, 0 if never
+     */
+    long getThrottledSinceNanos() {
+        return throttledSinceNanos;
+    }
+
+    void markThrottled() {
+        if (throttledSinceNanos == 0) {
+            throttledSinceNanos = System.nanoTime();
+        }
+    }
+}
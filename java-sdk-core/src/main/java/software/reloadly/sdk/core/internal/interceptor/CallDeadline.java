@@ -0,0 +1,26 @@
+package software.reloadly.sdk.core.internal.interceptor;
+
+import okhttp3.Interceptor;
+import okio.Timeout;
+
+/**
+ * Reads the deadline set on a call by {@link software.reloadly.sdk.core.internal.dto.request.BaseRequest}, so that
+ * the interceptors never wait past the point where the call is cancelled anyway.
+ */
+final class CallDeadline {
+
+    private CallDeadline() {
+    }
+
+    /**
+     * @param chain - The chain of the call in progress
+     * @return the nanoseconds left before the call deadline, or {@link Long#MAX_VALUE} if the call has no deadline
+     */
+    static long remainingNanos(Interceptor.Chain chain) {
+        Timeout timeout = chain.call().timeout();
+        if (!timeout.hasDeadline()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, timeout.deadlineNanoTime() - System.nanoTime());
+    }
+}
@@ -0,0 +1,21 @@
+package software.reloadly.sdk.core.internal.interceptor;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Thrown by an interceptor instead of waiting on a dispatcher thread, see {@link AsyncExecution}. The request is
+ * enqueued again once the delay is over.
+ */
+@Getter
+public class DeferredCallException extends IOException {
+
+    private final Duration delay;
+
+    public DeferredCallException(String message, Duration delay) {
+        super(message);
+        this.delay = delay;
+    }
+}
@@ -0,0 +1,88 @@
+package software.reloadly.sdk.core.internal.interceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import software.reloadly.sdk.core.internal.ratelimit.RateLimiter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delays outgoing requests once the rate limit reported by the Reloadly servers is exhausted, and keeps the
+ * {@link RateLimiter} of the target host in sync with the rate limit headers of every response.
+ * <p>
+ * When a client id is known, the rate limiter is shared with every other client of this JVM using the same
+ * client id, otherwise it is only shared by the requests going through this interceptor.
+ * <p>
+ * A request whose deadline expires before the rate limit resets fails straight away with a timeout. A request
+ * executed asynchronously doesn't wait on the dispatcher thread, it is deferred until the rate limit resets, see
+ * {@link AsyncExecution}.
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+    private final String clientId;
+    private final ConcurrentMap<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(@Nullable String clientId) {
+        this.clientId = clientId;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        RateLimiter rateLimiter = getRateLimiter(chain.request().url().host());
+        AsyncExecution asyncExecution = chain.request().tag(AsyncExecution.class);
+        if (asyncExecution != null) {
+            acquireWithoutWaiting(chain, rateLimiter, asyncExecution);
+        } else {
+            acquire(chain, rateLimiter);
+        }
+
+        Response response = chain.proceed(chain.request());
+        rateLimiter.update(response);
+        return response;
+    }
+
+    public RateLimiter getRateLimiter(String host) {
+        if (StringUtils.isNotBlank(clientId)) {
+            return RateLimiter.getSharedInstance(clientId, host);
+        }
+        return rateLimiters.computeIfAbsent(host, key -> new RateLimiter());
+    }
+
+    private void acquire(Chain chain, RateLimiter rateLimiter) throws IOException {
+        try {
+            if (!rateLimiter.tryAcquire(CallDeadline.remainingNanos(chain), TimeUnit.NANOSECONDS)) {
+                // Same message as the one OkHttp uses when the call times out
+                throw new InterruptedIOException("timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception =
+                    new InterruptedIOException("Interrupted while waiting for the rate limit to reset");
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    private void acquireWithoutWaiting(Chain chain, RateLimiter rateLimiter, AsyncExecution asyncExecution)
+            throws IOException {
+
+        Duration delay = rateLimiter.tryAcquireNow(asyncExecution.getThrottledSinceNanos());
+        if (delay.isZero()) {
+            return;
+        }
+        if (delay.toNanos() > CallDeadline.remainingNanos(chain)) {
+            throw new InterruptedIOException("timeout");
+        }
+        asyncExecution.markThrottled();
+        throw new DeferredCallException("Deferred until the rate limit resets", delay);
+    }
+}
@@ -0,0 +1,136 @@
+package software.reloadly.sdk.core.internal.interceptor;
+
+import lombok.Getter;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.lang.NonNull;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Idempotency;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.net.RetryPolicy;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Retries the requests failing with a 429, a 5xx or a connection failure according to a {@link RetryPolicy}.
+ * For a 429, the rate limit reset advertised by the {@code X-RateLimit-Reset} header is used as the minimum delay.
+ * A request is not retried when the delay would outlast the deadline of the call. A request executed
+ * asynchronously doesn't wait on the dispatcher thread, it is deferred until the next attempt, see
+ * {@link AsyncExecution}.
+ */
+@Getter
+public class RetryInterceptor implements Interceptor {
+
+    private static final int STATUS_CODE_TOO_MANY_REQUEST = 429;
+    private static final Set<Integer> RETRYABLE_SERVER_ERRORS = new HashSet<>(Arrays.asList(500, 502, 503, 504));
+    private static final Set<String> IDEMPOTENT_METHODS =
+            new HashSet<>(Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS"));
+
+    private final RetryPolicy retryPolicy;
+
+    public RetryInterceptor(RetryPolicy retryPolicy) {
+        Asserter.assertNotNull(retryPolicy, "Retry policy");
+        this.retryPolicy = retryPolicy;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        boolean idempotent = isIdempotent(request);
+        AsyncExecution asyncExecution = request.tag(AsyncExecution.class);
+
+        for (int attempt = asyncExecution != null ? asyncExecution.getAttempt() : 1; ; attempt++) {
+            boolean lastAttempt = attempt >= retryPolicy.getMaxAttempts();
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (DeferredCallException e) {
+                // Not a failure, the request is sent again once the delay is over
+                throw e;
+            } catch (IOException e) {
+                boolean interrupted = Thread.currentThread().isInterrupted();
+                Duration delay = retryPolicy.getBackoff(attempt);
+                if (lastAttempt || !idempotent || interrupted || chain.call().isCanceled()
+                        || isPastDeadline(chain, delay)) {
+                    throw e;
+                }
+                waitToRetry(asyncExecution, attempt, delay);
+                continue;
+            }
+
+            int code = response.code();
+            Duration delay;
+            if (code == STATUS_CODE_TOO_MANY_REQUEST) {
+                delay = max(retryPolicy.getBackoff(attempt), getDelayUntilReset(response));
+            } else if (idempotent && RETRYABLE_SERVER_ERRORS.contains(code)) {
+                delay = retryPolicy.getBackoff(attempt);
+            } else {
+                return response;
+            }
+
+            // A rate limit resetting later than the max backoff or the call deadline is reported to the caller
+            // rather than waited for
+            if (lastAttempt || chain.call().isCanceled() || delay.compareTo(retryPolicy.getMaxBackoff()) > 0
+                    || isPastDeadline(chain, delay)) {
+                return response;
+            }
+            response.close();
+            waitToRetry(asyncExecution, attempt, delay);
+        }
+    }
+
+    private boolean isPastDeadline(Chain chain, Duration delay) {
+        return delay.toNanos() >= CallDeadline.remainingNanos(chain);
+    }
+
+    private boolean isIdempotent(Request request) {
+        Idempotency idempotency = request.tag(Idempotency.class);
+        if (idempotency != null) {
+            return idempotency == Idempotency.IDEMPOTENT;
+        }
+        return IDEMPOTENT_METHODS.contains(request.method());
+    }
+
+    private Duration getDelayUntilReset(Response response) {
+        String reset = response.header(HttpHeader.RATE_LIMIT_RESET);
+        if (reset == null) {
+            return Duration.ZERO;
+        }
+        try {
+            long delayMillis = Long.parseLong(reset.trim()) * 1000 - System.currentTimeMillis();
+            return delayMillis > 0 ? Duration.ofMillis(delayMillis) : Duration.ZERO;
+        } catch (NumberFormatException e) {
+            return Duration.ZERO;
+        }
+    }
+
+    private Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private void waitToRetry(AsyncExecution asyncExecution, int attempt, Duration delay) throws IOException {
+        if (asyncExecution != null) {
+            asyncExecution.setAttempt(attempt + 1);
+            throw new DeferredCallException("Deferred until the next attempt", delay);
+        }
+        sleep(delay);
+    }
+
+    private void sleep(Duration delay) throws InterruptedIOException {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting to retry");
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+}
@@ -24,7 +24,8 @@ public class TelemetryInterceptor implements Interceptor {
     @NonNull
     @Override
     public Response intercept(@NonNull Chain chain) throws IOException {
-        if (!enabled) {
+        // Requests built by the SDK carry the header already, see CustomRequest
+        if (!enabled || chain.request().header(Telemetry.HEADER_NAME) != null) {
             return chain.proceed(chain.request());
         }
 
@@ -4,14 +4,21 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.lang.Nullable;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.interceptor.RateLimitInterceptor;
+import software.reloadly.sdk.core.internal.interceptor.RetryInterceptor;
 import software.reloadly.sdk.core.internal.interceptor.TelemetryInterceptor;
 import software.reloadly.sdk.core.internal.util.TelemetryUtil;
 import software.reloadly.sdk.core.net.HttpOptions;
 import software.reloadly.sdk.core.net.ProxyOptions;
+import software.reloadly.sdk.core.net.RetryPolicy;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
@@ -35,10 +42,16 @@ public abstract class API {
     protected final Boolean enableTelemetry;
     @Getter(AccessLevel.PROTECTED)
     protected final OkHttpClient client;
+    @Getter(AccessLevel.PROTECTED)
+    protected final HttpOptions options;
     @Getter(AccessLevel.NONE)
     private TelemetryInterceptor telemetryInterceptor;
     @Getter(AccessLevel.NONE)
     private HttpLoggingInterceptor httpLoggingInterceptor;
+    @Getter(AccessLevel.PROTECTED)
+    private RateLimitInterceptor rateLimitInterceptor;
+    @Getter(AccessLevel.NONE)
+    private RetryInterceptor retryInterceptor;
     @Getter(AccessLevel.NONE)
     private Set<String> headersToRedact;
     @Getter(AccessLevel.NONE)
@@ -59,7 +72,8 @@ public abstract class API {
             this.headersToRedact = new HashSet<>(redactHeaders);
         }
         this.enableTelemetry = (enableTelemetry == null || enableTelemetry);
-        client = buildClient(options == null ? new HttpOptions() : options);
+        this.options = options == null ? new HttpOptions() : options;
+        client = buildClient(this.options);
     }
 
     public API(String clientId, String clientSecret,
@@ -75,7 +89,8 @@ public abstract class API {
             this.headersToRedact = new HashSet<>(redactHeaders);
         }
         this.enableTelemetry = (enableTelemetry == null || enableTelemetry);
-        client = buildClient(options == null ? new HttpOptions() : options);
+        this.options = options == null ? new HttpOptions() : options;
+        client = buildClient(this.options);
     }
 
     public boolean isLoggingEnabled() {
@@ -91,14 +106,30 @@ public abstract class API {
         }
     }
 
+    /**
+     * Opens a connection to the host of the given url ahead of the first request, which then reuses it from the
+     * connection pool instead of paying for the DNS lookup and the TLS handshake.
+     *
+     * @param url - The url to open a connection to, the status of its response is ignored
+     * @throws ReloadlyException if the connection could not be opened
+     */
+    protected void openConnection(HttpUrl url) throws ReloadlyException {
+        Request request = new Request.Builder().url(url).head().build();
+        try (Response ignored = client.newCall(request).execute()) {
+            // Only the connection left in the pool matters
+        } catch (IOException e) {
+            throw new ReloadlyException("Failed to open a connection to " + url.host(), e);
+        }
+    }
+
     private OkHttpClient buildClient(HttpOptions options) {
 
-        Duration readTimeout = options.getConnectTimeout() == null ? ofSeconds(60) : options.getConnectTimeout();
-        Duration writeTimeout = options.getConnectTimeout() == null ? ofSeconds(60) : options.getConnectTimeout();
+        Duration readTimeout = options.getReadTimeout() == null ? ofSeconds(60) : options.getReadTimeout();
+        Duration writeTimeout = options.getWriteTimeout() == null ? ofSeconds(60) : options.getWriteTimeout();
         Duration connectTimeout = options.getConnectTimeout() == null ? ofSeconds(60) : options.getConnectTimeout();
 
         final ProxyOptions proxyOptions = options.getProxyOptions();
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+        OkHttpClient.Builder clientBuilder = HttpTransport.newClientBuilder(options);
         if (proxyOptions != null) {
             //Set proxy
             clientBuilder.proxy(proxyOptions.getProxy());
@@ -118,6 +149,17 @@ public abstract class API {
                 .readTimeout(readTimeout)
                 .writeTimeout(writeTimeout);
 
+        if (options.getCallTimeout() != null) {
+            builder.callTimeout(options.getCallTimeout());
+        }
+
+        // Added first so that every attempt goes through the logging, telemetry and rate limit interceptors
+        RetryPolicy retryPolicy = options.getRetryPolicy() == null ? new RetryPolicy() : options.getRetryPolicy();
+        if (retryPolicy.getMaxAttempts() > 1) {
+            retryInterceptor = new RetryInterceptor(retryPolicy);
+            builder.addInterceptor(retryInterceptor);
+        }
+
         if (this.enableLogging) {
             httpLoggingInterceptor = new HttpLoggingInterceptor();
             httpLoggingInterceptor.setLevel(Level.BODY);
@@ -137,6 +179,11 @@ public abstract class API {
             builder.addInterceptor(telemetryInterceptor);
         }
 
+        if (options.getEnableThrottling() == null || options.getEnableThrottling()) {
+            rateLimitInterceptor = new RateLimitInterceptor(clientId);
+            builder.addInterceptor(rateLimitInterceptor);
+        }
+
         return builder.build();
     }
 }
@@ -0,0 +1,85 @@
+package software.reloadly.sdk.core.internal.net;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import software.reloadly.sdk.core.internal.util.DaemonThreadFactory;
+import software.reloadly.sdk.core.net.HttpOptions;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport shared by every API client of this JVM. Clients are derived from a single base {@link OkHttpClient},
+ * so they share its dispatcher and TLS session cache, and clients configured with the same pool settings share
+ * the same connection pool, which lets the authentication, airtime and giftcard clients reuse warm connections.
+ */
+public class HttpTransport {
+
+    // All the traffic goes to a handful of hosts, the OkHttp default of 5 asynchronous calls per host would
+    // leave most of the streams of a multiplexed HTTP/2 connection unused
+    private static final int MAX_ASYNC_REQUESTS_PER_HOST = 32;
+    private static final List<Protocol> HTTP_2_PROTOCOLS = Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    private static final List<Protocol> HTTP_1_PROTOCOLS = Collections.singletonList(Protocol.HTTP_1_1);
+
+    private static final OkHttpClient BASE_CLIENT = new OkHttpClient.Builder()
+            .dispatcher(createDispatcher())
+            .build();
+
+    private static final ConcurrentMap<PoolKey, ConnectionPool> CONNECTION_POOLS = new ConcurrentHashMap<>();
+
+    private HttpTransport() {
+    }
+
+    /**
+     * @param options - The http options of the client to build
+     * @return a builder sharing the dispatcher, TLS session cache and connection pool of the SDK transport
+     */
+    public static OkHttpClient.Builder newClientBuilder(HttpOptions options) {
+        boolean enableHttp2 = options.getEnableHttp2() == null || options.getEnableHttp2();
+        return BASE_CLIENT.newBuilder()
+                .connectionPool(getConnectionPool(options))
+                .protocols(enableHttp2 ? HTTP_2_PROTOCOLS : HTTP_1_PROTOCOLS);
+    }
+
+    /**
+     * @return the dispatcher running the asynchronous calls of every SDK client
+     */
+    public static Dispatcher getDispatcher() {
+        return BASE_CLIENT.dispatcher();
+    }
+
+    private static Dispatcher createDispatcher() {
+        Dispatcher dispatcher = new Dispatcher(new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new DaemonThreadFactory("reloadly-http-dispatcher")));
+        dispatcher.setMaxRequestsPerHost(MAX_ASYNC_REQUESTS_PER_HOST);
+        return dispatcher;
+    }
+
+    static ConnectionPool getConnectionPool(HttpOptions options) {
+        int maxIdleConnections = options.getMaxIdleConnections() == null ?
+                HttpOptions.DEFAULT_MAX_IDLE_CONNECTIONS : options.getMaxIdleConnections();
+        Duration keepAliveDuration = options.getKeepAliveDuration() == null ?
+                HttpOptions.DEFAULT_KEEP_ALIVE_DURATION : options.getKeepAliveDuration();
+
+        return CONNECTION_POOLS.computeIfAbsent(new PoolKey(maxIdleConnections, keepAliveDuration.toMillis()),
+                key -> new ConnectionPool(key.maxIdleConnections, key.keepAliveMillis, TimeUnit.MILLISECONDS));
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class PoolKey {
+        private final int maxIdleConnections;
+        private final long keepAliveMillis;
+    }
+}
@@ -1,18 +1,20 @@
 package software.reloadly.sdk.core.internal.net;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.lang.Nullable;
 import software.reloadly.sdk.core.exception.ReloadlyException;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
+import software.reloadly.sdk.core.internal.token.AccessToken;
+import software.reloadly.sdk.core.internal.token.AccessTokenManager;
+import software.reloadly.sdk.core.internal.token.AccessTokenMetrics;
 import software.reloadly.sdk.core.internal.util.Asserter;
 import software.reloadly.sdk.core.net.HttpOptions;
 
-import java.util.Date;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -20,9 +22,14 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @SuppressWarnings("unused")
 public abstract class ServiceAPI extends API {
 
-    protected String accessToken;
+    private static final AtomicReferenceFieldUpdater<ServiceAPI, String> ACCESS_TOKEN_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ServiceAPI.class, String.class, "accessToken");
+
+    protected volatile String accessToken;
     @Getter(AccessLevel.NONE)
     protected boolean cacheAccessToken;
+    @Getter(AccessLevel.NONE)
+    protected final AccessTokenManager tokenManager = AccessTokenManager.getSharedInstance();
 
     public ServiceAPI(String clientId, String clientSecret, String accessToken,
                       boolean enableLogging, List<String> redactHeaders, HttpOptions options,
@@ -51,6 +58,13 @@ public abstract class ServiceAPI extends API {
         return cacheAccessToken;
     }
 
+    /**
+     * @return counters describing the access token refreshes performed on behalf of the service clients
+     */
+    public AccessTokenMetrics getAccessTokenMetrics() {
+        return tokenManager.getMetrics();
+    }
+
     protected void validateCredentials() {
 
         if (isBlank(accessToken) && isBlank(clientId) && isBlank(clientSecret)) {
@@ -76,22 +90,32 @@ public abstract class ServiceAPI extends API {
         this.accessToken = validateAccessToken(accessToken);
     }
 
+    /**
+     * Replaces the access token used on new calls with a refreshed one, unless another caller already replaced the
+     * rejected token. The token is never cleared, so concurrent callers always read a token.
+     *
+     * @param rejectedAccessToken  - The token the server rejected
+     * @param refreshedAccessToken - The token to use instead
+     */
+    protected void replaceAccessToken(String rejectedAccessToken, String refreshedAccessToken) {
+        Asserter.assertNotNull(refreshedAccessToken, "Refreshed access token");
+        String current = accessToken;
+        while (current != null && current.equals(rejectedAccessToken)) {
+            if (ACCESS_TOKEN_UPDATER.compareAndSet(this, current, refreshedAccessToken)) {
+                return;
+            }
+            current = accessToken;
+        }
+    }
+
     @Nullable
     private String validateAccessToken(String accessToken) {
-
-        DecodedJWT decodedToken;
-        try {
-            decodedToken = JWT.decode(accessToken);
-        } catch (Exception e) {
+        Instant expirationDate = AccessToken.getJwtExpiration(accessToken);
+        if (expirationDate == null) {
             return null;
         }
 
-        Date expirationDate = decodedToken.getExpiresAt();
-
-        Date now = new Date();
-        long timeLeftInSeconds = (expirationDate.getTime() - now.getTime()) / 1000;
-
-        //Returns true if comparison is 0 or negative or about to expire in 5 minutes or less
-        return (expirationDate.compareTo(now) <= 0 || (timeLeftInSeconds <= 300)) ? null : accessToken;
+        //Returns null if the token has expired or is about to expire in 5 minutes or less
+        return new AccessToken(accessToken, expirationDate).isAboutToExpire() ? null : accessToken;
     }
 }
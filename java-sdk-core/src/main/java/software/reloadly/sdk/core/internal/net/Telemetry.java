@@ -1,11 +1,11 @@
 package software.reloadly.sdk.core.internal.net;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.lang.Nullable;
+import software.reloadly.sdk.core.internal.util.ObjectMapperUtil;
 import software.reloadly.sdk.core.internal.util.TelemetryUtil;
 
 import java.util.Collections;
@@ -61,7 +61,7 @@ public class Telemetry {
 
         String tmpValue;
         try {
-            String json = new ObjectMapper().writeValueAsString(values);
+            String json = ObjectMapperUtil.getObjectMapper().writeValueAsString(values);
             tmpValue = Base64.encodeBase64URLSafeString(json.getBytes());
         } catch (JsonProcessingException e) {
             tmpValue = null;
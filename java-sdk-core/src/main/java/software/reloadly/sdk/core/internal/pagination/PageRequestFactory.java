@@ -0,0 +1,20 @@
+package software.reloadly.sdk.core.internal.pagination;
+
+import software.reloadly.sdk.core.dto.response.Page;
+import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
+
+/**
+ * Creates the request retrieving a given page of a paginated endpoint.
+ *
+ * @param <T> The type of the page elements
+ */
+@FunctionalInterface
+public interface PageRequestFactory<T> {
+
+    /**
+     * @param pageNumber - The number of the page to retrieve, starting at 1
+     * @param pageSize   - The amount of items per page to retrieve
+     * @return the request retrieving the page
+     */
+    Request<Page<T>> create(int pageNumber, int pageSize);
+}
@@ -0,0 +1,233 @@
+package software.reloadly.sdk.core.internal.pagination;
+
+import lombok.Getter;
+import software.reloadly.sdk.core.dto.response.Page;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks every page of a paginated endpoint, fetching the pages lazily as the elements are consumed.
+ * <p>
+ * While the elements of a page are being consumed, up to {@link #getPrefetch()} subsequent pages are already
+ * requested asynchronously, so that consuming and fetching overlap. A prefetch of 0 fetches each page only
+ * once the previous one has been fully consumed.
+ * <p>
+ * Errors raised while fetching a page are rethrown by the iterators as an {@link UncheckedIOException} wrapping
+ * the {@link ReloadlyException}.
+ *
+ * @param <T> The type of the page elements
+ */
+@Getter
+public class Paginator<T> implements Iterable<T> {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_PREFETCH = 1;
+
+    private final PageRequestFactory<T> pageRequestFactory;
+    private final int pageSize;
+    private final int prefetch;
+
+    public Paginator(PageRequestFactory<T> pageRequestFactory) {
+        this(pageRequestFactory, DEFAULT_PAGE_SIZE, DEFAULT_PREFETCH);
+    }
+
+    public Paginator(PageRequestFactory<T> pageRequestFactory, int pageSize, int prefetch) {
+        Asserter.assertNotNull(pageRequestFactory, "Page request factory");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("Prefetch must be greater than or equal to zero");
+        }
+        this.pageRequestFactory = pageRequestFactory;
+        this.pageSize = pageSize;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * @param pageSize - The amount of items per page to retrieve
+     * @return a paginator over the same endpoint retrieving pages of the given size
+     */
+    public Paginator<T> withPageSize(int pageSize) {
+        return new Paginator<>(pageRequestFactory, pageSize, prefetch);
+    }
+
+    /**
+     * @param prefetch - The number of pages to request ahead of the page being consumed
+     * @return a paginator over the same endpoint prefetching the given number of pages
+     */
+    public Paginator<T> withPrefetch(int prefetch) {
+        return new Paginator<>(pageRequestFactory, pageSize, prefetch);
+    }
+
+    /**
+     * @return an iterator over the elements of every page, fetching the pages as they are needed
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ElementIterator(new PageIterator());
+    }
+
+    /**
+     * @return an iterator over every page, fetching the pages as they are needed
+     */
+    public Iterator<Page<T>> pages() {
+        return new PageIterator();
+    }
+
+    /**
+     * Returns a sequential stream over the elements of every page. Closing the stream before it is fully
+     * consumed cancels the pages still being prefetched.
+     *
+     * @return a stream over the elements of every page
+     */
+    public Stream<T> stream() {
+        PageIterator pages = new PageIterator();
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(new ElementIterator(pages),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(pages::cancel);
+    }
+
+    /**
+     * Fetches every page with up to the given number of concurrent requests, handing each page to the consumer
+     * on the calling thread. The remaining pages are requested concurrently once the first page has revealed
+     * the total number of pages. Pages rejected because of a rate limit are retried once it resets.
+     *
+     * @param parallelism - The maximum number of concurrent page requests
+     * @param ordered     - Whether the pages are handed to the consumer in page order or as they complete
+     * @param consumer    - Receives every page
+     * @throws ReloadlyException - Error captured when executing a http request to the Reloadly Server
+     */
+    public void fetchAll(int parallelism, boolean ordered, Consumer<? super Page<T>> consumer)
+            throws ReloadlyException {
+
+        Asserter.assertNotNull(consumer, "Consumer");
+        new ParallelPageFetch<>(pageRequestFactory, pageSize, parallelism, ordered, consumer).run();
+    }
+
+    /**
+     * Fetches every page with up to the given number of concurrent requests.
+     *
+     * @param parallelism - The maximum number of concurrent page requests
+     * @return the elements of every page, in page order
+     * @throws ReloadlyException - Error captured when executing a http request to the Reloadly Server
+     */
+    public List<T> fetchAll(int parallelism) throws ReloadlyException {
+        List<T> elements = new ArrayList<>();
+        fetchAll(parallelism, true, page -> elements.addAll(page.getContent()));
+        return elements;
+    }
+
+    private class PageIterator implements Iterator<Page<T>> {
+
+        private final Deque<CompletableFuture<Page<T>>> inFlight = new ArrayDeque<>();
+        private int nextPageNumber = 1;
+        // Unknown until the first page is received
+        private int lastPageNumber = -1;
+
+        @Override
+        public boolean hasNext() {
+            if (inFlight.isEmpty() && hasMorePages()) {
+                request();
+            }
+            return !inFlight.isEmpty();
+        }
+
+        @Override
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Page<T> page = await(inFlight.poll());
+            if (lastPageNumber < 0) {
+                lastPageNumber = page.getTotalPages();
+            }
+            if (page.getContent().isEmpty()) {
+                cancel();
+            }
+            while (inFlight.size() < prefetch && hasMorePages()) {
+                request();
+            }
+            return page;
+        }
+
+        private boolean hasMorePages() {
+            return lastPageNumber < 0 ? nextPageNumber == 1 : nextPageNumber <= lastPageNumber;
+        }
+
+        private void request() {
+            inFlight.add(pageRequestFactory.create(nextPageNumber++, pageSize).executeAsync());
+        }
+
+        private void cancel() {
+            lastPageNumber = 0;
+            inFlight.forEach(future -> future.cancel(true));
+            inFlight.clear();
+        }
+
+        private Page<T> await(CompletableFuture<Page<T>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new ReloadlyException("Interrupted while waiting for a page", e));
+            } catch (ExecutionException e) {
+                cancel();
+                Throwable cause = e.getCause();
+                if (cause instanceof ReloadlyException) {
+                    throw new UncheckedIOException((ReloadlyException) cause);
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new UncheckedIOException(new ReloadlyException("Failed to retrieve a page", cause));
+            }
+        }
+    }
+
+    private class ElementIterator implements Iterator<T> {
+
+        private final PageIterator pages;
+        private Iterator<T> elements = Collections.emptyIterator();
+
+        private ElementIterator(PageIterator pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!elements.hasNext()) {
+                if (!pages.hasNext()) {
+                    return false;
+                }
+                elements = pages.next().getContent().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements.next();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package software.reloadly.sdk.core.internal.pagination;
+
+import lombok.RequiredArgsConstructor;
+import software.reloadly.sdk.core.dto.response.Page;
+import software.reloadly.sdk.core.exception.RateLimitException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Fetches every page of a paginated endpoint with up to {@code parallelism} concurrent requests, once the first
+ * page has revealed the total number of pages.
+ * <p>
+ * A page rejected with a {@link RateLimitException} is retried up to {@link #MAX_RATE_LIMIT_RETRIES} times, and
+ * no new request is issued until the rate limit resets. Any other error cancels the requests in flight and is
+ * rethrown to the caller.
+ */
+class ParallelPageFetch<T> {
+
+    static final int MAX_RATE_LIMIT_RETRIES = 5;
+    private static final Duration MIN_RATE_LIMIT_DELAY = Duration.ofSeconds(1);
+
+    private final PageRequestFactory<T> pageRequestFactory;
+    private final int pageSize;
+    private final int parallelism;
+    private final boolean ordered;
+    private final Consumer<? super Page<T>> consumer;
+
+    private final BlockingQueue<Result<T>> completed = new LinkedBlockingQueue<>();
+    private final Map<Integer, CompletableFuture<Page<T>>> inFlight = new HashMap<>();
+    private final Map<Integer, Integer> rateLimitRetries = new HashMap<>();
+    private final Deque<Integer> pendingRetries = new ArrayDeque<>();
+    private final TreeMap<Integer, Page<T>> outOfOrderPages = new TreeMap<>();
+    private int nextPageNumber = 1;
+    private int nextPageToEmit = 1;
+    // Unknown until the first page is received
+    private int lastPageNumber = -1;
+    private long resumeAtNanos = System.nanoTime();
+
+    ParallelPageFetch(PageRequestFactory<T> pageRequestFactory, int pageSize, int parallelism,
+                      boolean ordered, Consumer<? super Page<T>> consumer) {
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be greater than zero");
+        }
+        this.pageRequestFactory = pageRequestFactory;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+        this.consumer = consumer;
+    }
+
+    void run() throws ReloadlyException {
+        try {
+            while (true) {
+                submitRequests();
+                if (inFlight.isEmpty() && pendingRetries.isEmpty() && !hasMorePages()) {
+                    return;
+                }
+
+                Result<T> result = awaitResult();
+                if (result != null) {
+                    inFlight.remove(result.pageNumber);
+                    handle(result);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReloadlyException("Interrupted while fetching the pages", e);
+        } finally {
+            inFlight.values().forEach(future -> future.cancel(true));
+        }
+    }
+
+    private void submitRequests() {
+        while (inFlight.size() < parallelism && System.nanoTime() - resumeAtNanos >= 0) {
+            Integer pageNumber = pendingRetries.poll();
+            if (pageNumber == null) {
+                if (!hasMorePages() || (ordered && nextPageNumber >= nextPageToEmit + 2 * parallelism)) {
+                    return;
+                }
+                pageNumber = nextPageNumber++;
+            }
+
+            int requestedPageNumber = pageNumber;
+            CompletableFuture<Page<T>> future = pageRequestFactory.create(requestedPageNumber, pageSize)
+                    .executeAsync();
+            inFlight.put(requestedPageNumber, future);
+            future.whenComplete((page, error) -> completed.add(new Result<>(requestedPageNumber, page, error)));
+        }
+    }
+
+    private Result<T> awaitResult() throws InterruptedException {
+        long pauseNanos = resumeAtNanos - System.nanoTime();
+        if (pauseNanos > 0 && (!pendingRetries.isEmpty() || hasMorePages())) {
+            // Wake up when the rate limit resets to resume submitting requests
+            return completed.poll(pauseNanos, TimeUnit.NANOSECONDS);
+        }
+        return completed.take();
+    }
+
+    private void handle(Result<T> result) throws ReloadlyException {
+        Throwable error = result.error instanceof CompletionException && result.error.getCause() != null ?
+                result.error.getCause() : result.error;
+
+        if (error instanceof RateLimitException) {
+            int retries = rateLimitRetries.merge(result.pageNumber, 1, Integer::sum);
+            if (retries > MAX_RATE_LIMIT_RETRIES) {
+                throw (RateLimitException) error;
+            }
+            Duration delay = ((RateLimitException) error).getDelayUntilReset();
+            if (delay.compareTo(MIN_RATE_LIMIT_DELAY) < 0) {
+                delay = MIN_RATE_LIMIT_DELAY.multipliedBy(retries);
+            }
+            resumeAtNanos = Math.max(resumeAtNanos - System.nanoTime(), delay.toNanos()) + System.nanoTime();
+            pendingRetries.add(result.pageNumber);
+            return;
+        } else if (error instanceof ReloadlyException) {
+            throw (ReloadlyException) error;
+        } else if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error != null) {
+            throw new ReloadlyException("Failed to retrieve page " + result.pageNumber, error);
+        }
+
+        Page<T> page = result.page;
+        if (lastPageNumber < 0) {
+            lastPageNumber = page.getTotalPages();
+        }
+        if (page.getContent().isEmpty()) {
+            lastPageNumber = Math.min(lastPageNumber, result.pageNumber - 1);
+        }
+        if (result.pageNumber > lastPageNumber) {
+            return;
+        }
+
+        if (!ordered) {
+            consumer.accept(page);
+            return;
+        }
+        outOfOrderPages.put(result.pageNumber, page);
+        while (!outOfOrderPages.isEmpty() && outOfOrderPages.firstKey() == nextPageToEmit) {
+            consumer.accept(outOfOrderPages.pollFirstEntry().getValue());
+            nextPageToEmit++;
+        }
+    }
+
+    private boolean hasMorePages() {
+        return lastPageNumber < 0 ? nextPageNumber == 1 : nextPageNumber <= lastPageNumber;
+    }
+
+    @RequiredArgsConstructor
+    private static class Result<T> {
+        private final int pageNumber;
+        private final Page<T> page;
+        private final Throwable error;
+    }
+}
@@ -0,0 +1,192 @@
+package software.reloadly.sdk.core.internal.ratelimit;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Response;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client side token bucket mirroring the rate limit the Reloadly servers apply to a client, as reported by the
+ * {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset} headers of every response.
+ * <p>
+ * Every request takes a token from the bucket before being sent. Once the bucket is empty, requests wait until
+ * the rate limit resets instead of being rejected by the server. Until the first response carrying the headers
+ * is received, requests are never delayed. The requests which must not block their thread use
+ * {@link #tryAcquireNow(long)} and are sent again later instead.
+ */
+public class RateLimiter {
+
+    private static final ConcurrentMap<Key, RateLimiter> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
+    private long limit = -1;
+    private long remaining = -1;
+    private long resetAtMillis = -1;
+    private final LongAdder throttledRequestCount = new LongAdder();
+    private final LongAdder throttledNanos = new LongAdder();
+
+    /**
+     * @param clientId - The client id the requests are sent for
+     * @param host     - The host the requests are sent to
+     * @return the rate limiter shared by all the clients of this JVM sending requests for the given client and host
+     */
+    public static RateLimiter getSharedInstance(String clientId, String host) {
+        Asserter.assertNotBlank(clientId, "Client id");
+        Asserter.assertNotBlank(host, "Host");
+        return SHARED_INSTANCES.computeIfAbsent(new Key(clientId, host), key -> new RateLimiter());
+    }
+
+    /**
+     * Takes a token from the bucket, waiting for the rate limit to reset if none is left.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        tryAcquire(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Takes a token from the bucket, waiting at most the given time for the rate limit to reset if none is left.
+     *
+     * @param timeout - The maximum time to wait
+     * @param unit    - The unit of the timeout
+     * @return true if a token was taken, false if the rate limit does not reset within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long waitStart = 0;
+        long timeoutMillis = unit.toMillis(timeout);
+        long deadlineMillis = timeoutMillis >= Long.MAX_VALUE - System.currentTimeMillis() ?
+                Long.MAX_VALUE : System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            long now = System.currentTimeMillis();
+            if (takeToken(now)) {
+                if (waitStart != 0) {
+                    throttledNanos.add(System.nanoTime() - waitStart);
+                }
+                return true;
+            }
+
+            // Give up straight away rather than waiting for a reset that comes too late anyway
+            if (resetAtMillis > deadlineMillis) {
+                return false;
+            }
+            if (waitStart == 0) {
+                waitStart = System.nanoTime();
+                throttledRequestCount.increment();
+            }
+            wait(Math.max(1, resetAtMillis - now));
+        }
+    }
+
+    /**
+     * Takes a token from the bucket if one is left, without waiting for the rate limit to reset.
+     *
+     * @param throttledSinceNanos - The {@link System#nanoTime()} at which the request was first delayed, 0 if never
+     * @return zero if a token was taken, otherwise the time left until the rate limit resets
+     */
+    public synchronized Duration tryAcquireNow(long throttledSinceNanos) {
+        long now = System.currentTimeMillis();
+        if (takeToken(now)) {
+            if (throttledSinceNanos != 0) {
+                throttledNanos.add(System.nanoTime() - throttledSinceNanos);
+            }
+            return Duration.ZERO;
+        }
+        if (throttledSinceNanos == 0) {
+            throttledRequestCount.increment();
+        }
+        return Duration.ofMillis(Math.max(1, resetAtMillis - now));
+    }
+
+    /**
+     * Synchronizes the bucket with the rate limit headers of the given response, if any.
+     *
+     * @param response - A response received from the Reloadly servers
+     */
+    public void update(Response response) {
+        long limitValue = parseHeader(response, HttpHeader.RATE_LIMIT_LIMIT);
+        long remainingValue = parseHeader(response, HttpHeader.RATE_LIMIT_REMAINING);
+        long resetValue = parseHeader(response, HttpHeader.RATE_LIMIT_RESET);
+        if (remainingValue < 0 || resetValue < 0) {
+            return;
+        }
+        update(limitValue, remainingValue, resetValue);
+    }
+
+    /**
+     * Synchronizes the bucket with the given rate limit.
+     *
+     * @param limit          - The maximum number of requests in the time frame, -1 if unknown
+     * @param remaining      - The number of requests left in the current time frame
+     * @param resetTimestamp - The UNIX timestamp (in seconds) at which the rate limit resets
+     */
+    public synchronized void update(long limit, long remaining, long resetTimestamp) {
+        long resetAt = resetTimestamp * 1000;
+        if (resetAt <= System.currentTimeMillis()) {
+            return;
+        }
+        if (limit > 0) {
+            this.limit = limit;
+        }
+        if (resetAt > resetAtMillis || remaining < this.remaining || this.remaining < 0) {
+            this.remaining = remaining;
+        }
+        this.resetAtMillis = Math.max(resetAtMillis, resetAt);
+        notifyAll();
+    }
+
+    /**
+     * @return the number of requests that had to wait for the rate limit to reset
+     */
+    public long getThrottledRequestCount() {
+        return throttledRequestCount.sum();
+    }
+
+    /**
+     * @return the total time requests spent waiting for the rate limit to reset
+     */
+    public Duration getThrottledTime() {
+        return Duration.ofNanos(throttledNanos.sum());
+    }
+
+    private boolean takeToken(long now) {
+        if (resetAtMillis >= 0 && now >= resetAtMillis) {
+            // The window is over, assume a full bucket until the next response tells otherwise
+            remaining = limit;
+            resetAtMillis = -1;
+        }
+        if (remaining == 0 && resetAtMillis >= 0) {
+            return false;
+        }
+        if (remaining > 0) {
+            remaining--;
+        }
+        return true;
+    }
+
+    private long parseHeader(Response response, String name) {
+        String value = response.header(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final String clientId;
+        private final String host;
+    }
+}
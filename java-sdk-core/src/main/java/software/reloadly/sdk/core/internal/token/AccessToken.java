@@ -0,0 +1,84 @@
+package software.reloadly.sdk.core.internal.token;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+import software.reloadly.sdk.core.internal.util.Asserter;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Class that represents an API access token along with the instant it expires at.
+ */
+@Getter
+@EqualsAndHashCode
+public class AccessToken {
+
+    /**
+     * Tokens expiring in this amount of seconds or less are considered about to expire.
+     */
+    public static final long EXPIRY_THRESHOLD_SECONDS = 300;
+
+    private final String value;
+    private final Instant expiresAt;
+
+    public AccessToken(String value, Instant expiresAt) {
+        Asserter.assertNotBlank(value, "Access token");
+        Asserter.assertNotNull(expiresAt, "Expiration date");
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates an access token from the raw token and the 'expires_in' value returned along with it.
+     * When the token is a JWT carrying an 'exp' claim, the earliest of both dates is used.
+     *
+     * @param value     - The raw access token
+     * @param expiresIn - Lifetime of the token in seconds, as returned by the authorization server
+     * @return the access token
+     */
+    public static AccessToken of(String value, long expiresIn) {
+        Instant expiresAt = expiresIn > 0 ? Instant.now().plusSeconds(expiresIn) : null;
+        Instant jwtExpiresAt = getJwtExpiration(value);
+        if (jwtExpiresAt != null && (expiresAt == null || jwtExpiresAt.isBefore(expiresAt))) {
+            expiresAt = jwtExpiresAt;
+        }
+        return new AccessToken(value, expiresAt == null ? Instant.now() : expiresAt);
+    }
+
+    /**
+     * Reads the 'exp' claim of the given token.
+     *
+     * @param value - The raw access token
+     * @return the expiration date or null if the token is not a JWT or has no 'exp' claim
+     */
+    @Nullable
+    public static Instant getJwtExpiration(String value) {
+        try {
+            DecodedJWT decodedToken = JWT.decode(value);
+            Date expirationDate = decodedToken.getExpiresAt();
+            return expirationDate == null ? null : expirationDate.toInstant();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+
+    /**
+     * @return true if the token has expired or will expire within {@link #EXPIRY_THRESHOLD_SECONDS}
+     */
+    public boolean isAboutToExpire() {
+        return !Instant.now().plusSeconds(EXPIRY_THRESHOLD_SECONDS).isBefore(expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "AccessToken(expiresAt=" + expiresAt + ")";
+    }
+}
@@ -0,0 +1,16 @@
+package software.reloadly.sdk.core.internal.token;
+
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+/**
+ * Retrieves a brand-new access token from the authorization server.
+ */
+@FunctionalInterface
+public interface AccessTokenFetcher {
+
+    /**
+     * @return the newly issued access token
+     * @throws ReloadlyException - Error captured when executing a http request to the Reloadly Server
+     */
+    AccessToken fetch() throws ReloadlyException;
+}
@@ -0,0 +1,209 @@
+package software.reloadly.sdk.core.internal.token;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import software.reloadly.sdk.core.enums.Service;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DaemonThreadFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Caches the access tokens obtained through the client credentials grant, keyed by client id and
+ * target service (audience), so that every operation created by a service client reuses the same token.
+ * <p>
+ * Once a cached token enters the {@link AccessToken#EXPIRY_THRESHOLD_SECONDS} window, a single background
+ * task renews it while callers keep using the still valid token. Callers that find no token, or an expired
+ * one, wait on a single in-flight request to the authorization server instead of each issuing their own.
+ */
+public class AccessTokenManager {
+
+    private static final AccessTokenManager SHARED_INSTANCE = new AccessTokenManager();
+
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    @Getter
+    private final AccessTokenMetrics metrics = new AccessTokenMetrics();
+
+    public AccessTokenManager() {
+        this(Executors.newCachedThreadPool(new DaemonThreadFactory("reloadly-token-refresh")));
+    }
+
+    public AccessTokenManager(Executor refreshExecutor) {
+        Asserter.assertNotNull(refreshExecutor, "Refresh executor");
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * @return the token manager shared by all the service clients of this JVM
+     */
+    public static AccessTokenManager getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Returns the cached access token for the given client and service. A new token is fetched when none is
+     * cached yet or when the cached one has expired, and renewed in the background when it is about to expire.
+     *
+     * @param clientId - The client id the token was issued to
+     * @param service  - The service (audience) the token was issued for
+     * @param fetcher  - Used to request a new token from the authorization server
+     * @return the access token to authenticate the calls with
+     * @throws ReloadlyException - Error captured when executing a http request to the Reloadly Server
+     */
+    public AccessToken getAccessToken(String clientId, Service service, AccessTokenFetcher fetcher)
+            throws ReloadlyException {
+
+        Entry entry = entries.computeIfAbsent(createKey(clientId, service), key -> new Entry());
+        AccessToken token = entry.token.get();
+        if (token != null && !token.isAboutToExpire()) {
+            return token;
+        }
+
+        if (token != null && !token.isExpired()) {
+            entry.refresh(fetcher, true);
+            return token;
+        }
+
+        return await(entry.refresh(fetcher, false));
+    }
+
+    /**
+     * Discards the cached access token for the given client and service and fetches a new one. Concurrent
+     * callers share the same request to the authorization server.
+     *
+     * @param clientId - The client id the token was issued to
+     * @param service  - The service (audience) the token was issued for
+     * @param fetcher  - Used to request a new token from the authorization server
+     * @return the newly issued access token
+     * @throws ReloadlyException - Error captured when executing a http request to the Reloadly Server
+     */
+    public AccessToken refreshAccessToken(String clientId, Service service, AccessTokenFetcher fetcher)
+            throws ReloadlyException {
+
+        return refreshAccessToken(clientId, service, null, fetcher);
+    }
+
+    /**
+     * Replaces the access token a request was rejected with. A new token is only fetched if the rejected token
+     * is still the cached one, otherwise another caller already replaced it and the cached token is returned.
+     * Concurrent callers share the same request to the authorization server.
+     *
+     * @param clientId      - The client id the token was issued to
+     * @param service       - The service (audience) the token was issued for
+     * @param rejectedToken - The value of the token the request was rejected with, null to always fetch a new one
+     * @param fetcher       - Used to request a new token from the authorization server
+     * @return the access token to retry the request with
+     * @throws ReloadlyException - Error captured when executing a http request to the Reloadly Server
+     */
+    public AccessToken refreshAccessToken(String clientId, Service service, String rejectedToken,
+                                          AccessTokenFetcher fetcher) throws ReloadlyException {
+
+        Entry entry = entries.computeIfAbsent(createKey(clientId, service), key -> new Entry());
+        while (true) {
+            AccessToken token = entry.token.get();
+            if (token != null && rejectedToken != null && !rejectedToken.equals(token.getValue())) {
+                return token;
+            }
+            if (token == null || entry.token.compareAndSet(token, null)) {
+                return await(entry.refresh(fetcher, false));
+            }
+        }
+    }
+
+    /**
+     * Removes the cached access token for the given client and service, the next call to
+     * {@link #getAccessToken(String, Service, AccessTokenFetcher)} will request a new one.
+     *
+     * @param clientId - The client id the token was issued to
+     * @param service  - The service (audience) the token was issued for
+     */
+    public void invalidate(String clientId, Service service) {
+        Entry entry = entries.get(createKey(clientId, service));
+        if (entry != null) {
+            entry.token.set(null);
+        }
+    }
+
+    private AccessToken await(CompletableFuture<AccessToken> future) throws ReloadlyException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReloadlyException("Interrupted while waiting for an access token", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ReloadlyException) {
+                throw (ReloadlyException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ReloadlyException("Failed to retrieve an access token", cause);
+        }
+    }
+
+    private Key createKey(String clientId, Service service) {
+        Asserter.assertNotBlank(clientId, "Client id");
+        Asserter.assertNotNull(service, "Service");
+        return new Key(clientId, service);
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final String clientId;
+        private final Service service;
+    }
+
+    private class Entry {
+
+        private final AtomicReference<AccessToken> token = new AtomicReference<>();
+        private final AtomicReference<CompletableFuture<AccessToken>> inFlight = new AtomicReference<>();
+
+        /**
+         * Starts a refresh unless one is already in flight, in which case the in-flight one is returned.
+         */
+        private CompletableFuture<AccessToken> refresh(AccessTokenFetcher fetcher, boolean background) {
+            while (true) {
+                CompletableFuture<AccessToken> current = inFlight.get();
+                if (current != null) {
+                    return current;
+                }
+
+                CompletableFuture<AccessToken> future = new CompletableFuture<>();
+                if (inFlight.compareAndSet(null, future)) {
+                    Runnable task = () -> fetch(fetcher, future, background);
+                    if (background) {
+                        refreshExecutor.execute(task);
+                    } else {
+                        task.run();
+                    }
+                    return future;
+                }
+            }
+        }
+
+        private void fetch(AccessTokenFetcher fetcher, CompletableFuture<AccessToken> future, boolean background) {
+            long start = System.nanoTime();
+            try {
+                AccessToken newToken = fetcher.fetch();
+                token.set(newToken);
+                metrics.recordRefresh(System.nanoTime() - start, background);
+                future.complete(newToken);
+            } catch (Throwable e) {
+                metrics.recordFailure();
+                future.completeExceptionally(e);
+            } finally {
+                inFlight.compareAndSet(future, null);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package software.reloadly.sdk.core.internal.token;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters describing the access token refreshes performed by an {@link AccessTokenManager}.
+ */
+public class AccessTokenMetrics {
+
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder failedRefreshCount = new LongAdder();
+    private final LongAdder backgroundRefreshCount = new LongAdder();
+    private final LongAdder totalRefreshNanos = new LongAdder();
+    private final AtomicLong maxRefreshNanos = new AtomicLong();
+    private final AtomicLong lastRefreshNanos = new AtomicLong();
+
+    void recordRefresh(long elapsedNanos, boolean background) {
+        refreshCount.increment();
+        if (background) {
+            backgroundRefreshCount.increment();
+        }
+        totalRefreshNanos.add(elapsedNanos);
+        lastRefreshNanos.set(elapsedNanos);
+        maxRefreshNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    void recordFailure() {
+        failedRefreshCount.increment();
+    }
+
+    /**
+     * @return the number of access tokens successfully retrieved from the authorization server
+     */
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * @return the number of successful refreshes that were performed in the background, ahead of expiry
+     */
+    public long getBackgroundRefreshCount() {
+        return backgroundRefreshCount.sum();
+    }
+
+    /**
+     * @return the number of attempts to retrieve an access token that failed
+     */
+    public long getFailedRefreshCount() {
+        return failedRefreshCount.sum();
+    }
+
+    public Duration getAverageRefreshLatency() {
+        long count = refreshCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalRefreshNanos.sum() / count);
+    }
+
+    public Duration getMaxRefreshLatency() {
+        return Duration.ofNanos(maxRefreshNanos.get());
+    }
+
+    public Duration getLastRefreshLatency() {
+        return Duration.ofNanos(lastRefreshNanos.get());
+    }
+}
@@ -0,0 +1,16 @@
+package software.reloadly.sdk.core.internal.token;
+
+import software.reloadly.sdk.core.exception.ReloadlyException;
+
+/**
+ * Supplies the access token to send on a new request.
+ */
+@FunctionalInterface
+public interface AccessTokenSupplier {
+
+    /**
+     * @return the access token currently in use
+     * @throws ReloadlyException - Error captured when executing a http request to the Reloadly Server
+     */
+    String get() throws ReloadlyException;
+}
@@ -0,0 +1,110 @@
+package software.reloadly.sdk.core.internal.util;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+public class DateUtil {
+
+    /**
+     * Layout of the dates sent and received by the Reloadly APIs.
+     */
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    private static final DateTimeFormatter UTC_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    private static final int DATE_TIME_LENGTH = DATE_TIME_PATTERN.length();
+
+    private DateUtil() {
+    }
+
+    /**
+     * Parses a date time laid out as {@value #DATE_TIME_PATTERN}, or as {@code yyyy-MM-dd'T'HH:mm:ss'Z'}.
+     * The fixed layout is read directly, without going through a {@link DateTimeFormatter}.
+     *
+     * @param value - The date time to parse
+     * @return the parsed date time
+     * @throws java.time.format.DateTimeParseException if the value could not be parsed
+     */
+    public static LocalDateTime parseDateTime(String value) {
+        Asserter.assertNotNull(value, "Date time");
+        boolean utc = isUtc(value);
+        int length = utc ? value.length() - 1 : value.length();
+        char separator = length > 10 ? value.charAt(10) : 0;
+        if (length == DATE_TIME_LENGTH && (utc ? separator == 'T' : separator == ' ')
+                && value.charAt(4) == '-' && value.charAt(7) == '-'
+                && value.charAt(13) == ':' && value.charAt(16) == ':') {
+
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 7);
+            int day = digits(value, 8, 10);
+            int hour = digits(value, 11, 13);
+            int minute = digits(value, 14, 16);
+            int second = digits(value, 17, 19);
+            if (year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0 && second >= 0) {
+                try {
+                    return LocalDateTime.of(year, month, day, hour, minute, second);
+                } catch (RuntimeException ignored) {
+                    // Out of range field, let the formatter report it
+                }
+            }
+        }
+        // Throws the appropriate parse exception
+        return LocalDateTime.parse(value, utc ? UTC_DATE_TIME_FORMATTER : DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Parses a date time with {@link #parseDateTime(String)}. A date time ending with a 'Z' is read in UTC, any other
+     * in the default time zone of the JVM.
+     *
+     * @param value - The date time to parse
+     * @return the parsed date
+     * @throws java.time.format.DateTimeParseException if the value could not be parsed
+     */
+    public static Date parseDate(String value) {
+        LocalDateTime dateTime = parseDateTime(value);
+        ZoneId zone = isUtc(value) ? ZoneOffset.UTC : ZoneId.systemDefault();
+        return Date.from(dateTime.atZone(zone).toInstant());
+    }
+
+    /**
+     * @param date - The date to convert, may be null
+     * @return the date as an instant, or null if the date is null
+     */
+    @Nullable
+    public static Instant toInstant(@Nullable Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    /**
+     * @param date - The date to convert, may be null
+     * @return the date in the default time zone of the JVM, the one dates without offset are read in, or null if
+     * the date is null
+     */
+    @Nullable
+    public static LocalDateTime toLocalDateTime(@Nullable Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private static boolean isUtc(String value) {
+        return !value.isEmpty() && value.charAt(value.length() - 1) == 'Z';
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
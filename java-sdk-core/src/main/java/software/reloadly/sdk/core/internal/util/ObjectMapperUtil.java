@@ -0,0 +1,59 @@
+package software.reloadly.sdk.core.internal.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the {@link ObjectMapper} shared by the whole SDK, along with the readers and writers derived from it.
+ * Readers and writers are cached per type, so the (de)serializers of a type are only resolved once per JVM
+ * instead of once per request.
+ */
+public class ObjectMapperUtil {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ConcurrentMap<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private ObjectMapperUtil() {
+    }
+
+    /**
+     * @return the mapper shared by the whole SDK, it must not be reconfigured
+     */
+    public static ObjectMapper getObjectMapper() {
+        return MAPPER;
+    }
+
+    /**
+     * @param type - The type of the values to read
+     * @return the cached reader of the given type
+     */
+    public static ObjectReader readerFor(TypeReference<?> type) {
+        Asserter.assertNotNull(type, "Type");
+        return READERS.computeIfAbsent(type.getType(), key -> MAPPER.readerFor(MAPPER.constructType(key)));
+    }
+
+    /**
+     * @param type - The class of the values to read
+     * @return the cached reader of the given class
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        Asserter.assertNotNull(type, "Type");
+        return READERS.computeIfAbsent(type, key -> MAPPER.readerFor(type));
+    }
+
+    /**
+     * @param type - The class of the values to write
+     * @return the cached writer of the given class
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        Asserter.assertNotNull(type, "Type");
+        return WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+}
@@ -1,22 +1,54 @@
 package software.reloadly.sdk.core.internal.util;
 
 
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.lang.Nullable;
 import software.reloadly.sdk.core.internal.interceptor.TelemetryInterceptor;
 import software.reloadly.sdk.core.internal.net.Telemetry;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 public class TelemetryUtil {
 
     private static final String JAVA_SPECIFICATION_VERSION = "java.specification.version";
 
+    private static final String NAME = "reloadly-sdk-java";
+    private static final ConcurrentMap<String, Telemetry> TELEMETRIES = new ConcurrentHashMap<>();
+
     public static TelemetryInterceptor getTelemetryInterceptor(String libraryVersion, @Nullable String apiVersion) {
-        String name = "reloadly-sdk-java";
+        return new TelemetryInterceptor(getTelemetry(libraryVersion, apiVersion));
+    }
+
+    /**
+     * @param libraryVersion - The version of the SDK module
+     * @param apiVersion     - The version of the API called, may be null
+     * @return the telemetry of the given versions, computed once per JVM
+     */
+    public static Telemetry getTelemetry(String libraryVersion, @Nullable String apiVersion) {
         Asserter.assertNotBlank(libraryVersion, "Library version");
-        if (StringUtils.isNotBlank(apiVersion)) {
-            return new TelemetryInterceptor(new Telemetry(name, libraryVersion, apiVersion));
+        String key = StringUtils.isNotBlank(apiVersion) ? libraryVersion + "|" + apiVersion : libraryVersion;
+        return TELEMETRIES.computeIfAbsent(key, k -> StringUtils.isNotBlank(apiVersion) ?
+                new Telemetry(NAME, libraryVersion, apiVersion) : new Telemetry(NAME, libraryVersion));
+    }
+
+    /**
+     * @param client - The http client the request is sent with
+     * @return the value of the telemetry header the client sends, or null if telemetry is disabled for the client
+     */
+    @Nullable
+    public static String getTelemetryHeaderValue(OkHttpClient client) {
+        List<Interceptor> interceptors = client.interceptors();
+        for (int i = 0; i < interceptors.size(); i++) {
+            Interceptor interceptor = interceptors.get(i);
+            if (interceptor instanceof TelemetryInterceptor && ((TelemetryInterceptor) interceptor).isEnabled()) {
+                return ((TelemetryInterceptor) interceptor).getTelemetry().getValue();
+            }
         }
-        return new TelemetryInterceptor(new Telemetry(name, libraryVersion));
+        return null;
     }
 
     public static String getJDKVersion() {
@@ -0,0 +1,43 @@
+package software.reloadly.sdk.core.internal.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+public class VersionUtil {
+
+    public static final String MISSING_VERSION = "MISSING";
+
+    private static final String VERSION_RESOURCE = "version.properties";
+    private static final String VERSION_KEY = "version";
+
+    private VersionUtil() {
+    }
+
+    /**
+     * Reads the version of a module from the {@code version.properties} resource stored next to the given class,
+     * which the build fills in with the version of the module.
+     *
+     * @param moduleClass - A class of the module, sitting in the same package as the resource
+     * @return the version of the module or {@value #MISSING_VERSION} if the resource is missing
+     */
+    public static String getVersion(Class<?> moduleClass) {
+        Asserter.assertNotNull(moduleClass, "Module class");
+        try (InputStream inputStream = moduleClass.getResourceAsStream(VERSION_RESOURCE)) {
+            if (inputStream == null) {
+                return MISSING_VERSION;
+            }
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            String version = properties.getProperty(VERSION_KEY);
+            // An unfiltered resource, e.g. when running from an IDE that skips the maven resource filtering
+            if (StringUtils.isBlank(version) || version.startsWith("${")) {
+                return MISSING_VERSION;
+            }
+            return version.trim();
+        } catch (Exception e) {
+            return MISSING_VERSION;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 
 import java.time.Duration;
 
+import static java.time.Duration.ofMinutes;
 import static java.time.Duration.ofSeconds;
 
 /**
@@ -13,18 +14,63 @@ import static java.time.Duration.ofSeconds;
 @Getter
 public class HttpOptions {
 
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final Duration DEFAULT_KEEP_ALIVE_DURATION = ofMinutes(5);
+
     private final Duration readTimeout;
     private final Duration writeTimeout;
     private final Duration connectTimeout;
     private final ProxyOptions proxyOptions;
+    /**
+     * Maximum number of idle connections kept in the connection pool shared by the clients using the same
+     * pool settings.
+     */
+    private final Integer maxIdleConnections;
+    /**
+     * How long an idle connection is kept in the shared connection pool before being evicted.
+     */
+    private final Duration keepAliveDuration;
+    /**
+     * Whether requests are delayed once the rate limit reported by the Reloadly servers is exhausted, instead of
+     * being sent and rejected. Enabled unless set to false.
+     */
+    private final Boolean enableThrottling;
+    /**
+     * How failed requests are retried, see {@link RetryPolicy#none()} to disable retries.
+     */
+    private final RetryPolicy retryPolicy;
+    /**
+     * Overall time budget of a call, covering the connection, the retries, the waits for the rate limit to reset
+     * and the reading of the response. No limit unless set, see {@code Request#setTimeout(Duration)} to set it per
+     * request.
+     */
+    private final Duration callTimeout;
+    /**
+     * Whether HTTP/2 is negotiated with the Reloadly servers, letting concurrent requests to the same host share a
+     * single connection. Enabled unless set to false, in which case HTTP/1.1 is used.
+     */
+    private final Boolean enableHttp2;
 
-    @Builder
     @SuppressWarnings("unused")
     public HttpOptions(Duration readTimeout, Duration writeTimeout, Duration connectTimeout, ProxyOptions proxyOptions) {
+        this(readTimeout, writeTimeout, connectTimeout, proxyOptions, null, null, null, null, null, null);
+    }
+
+    @Builder
+    @SuppressWarnings("unused")
+    public HttpOptions(Duration readTimeout, Duration writeTimeout, Duration connectTimeout, ProxyOptions proxyOptions,
+                       Integer maxIdleConnections, Duration keepAliveDuration, Boolean enableThrottling,
+                       RetryPolicy retryPolicy, Duration callTimeout, Boolean enableHttp2) {
         this.readTimeout = readTimeout;
         this.writeTimeout = writeTimeout;
         this.connectTimeout = connectTimeout;
         this.proxyOptions = proxyOptions;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDuration = keepAliveDuration;
+        this.enableThrottling = enableThrottling;
+        this.retryPolicy = retryPolicy;
+        this.callTimeout = callTimeout;
+        this.enableHttp2 = enableHttp2;
     }
 
     public HttpOptions() {
@@ -32,5 +78,11 @@ public class HttpOptions {
         this.readTimeout = ofSeconds(180);
         this.writeTimeout = ofSeconds(180);
         this.connectTimeout = ofSeconds(180);
+        this.maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+        this.keepAliveDuration = DEFAULT_KEEP_ALIVE_DURATION;
+        this.enableThrottling = true;
+        this.retryPolicy = new RetryPolicy();
+        this.callTimeout = null;
+        this.enableHttp2 = true;
     }
 }
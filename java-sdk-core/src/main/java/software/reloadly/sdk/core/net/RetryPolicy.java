@@ -0,0 +1,88 @@
+package software.reloadly.sdk.core.net;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Used to configure how failed requests are retried.
+ * <p>
+ * Requests rejected with a 429 (Too Many Requests) are always retried, since the server didn't process them,
+ * waiting at least until the rate limit resets. A rate limit resetting later than {@link #getMaxBackoff()} is
+ * reported to the caller instead. Connection failures and 500, 502, 503 and 504 responses are only
+ * retried for idempotent requests, so that a non idempotent request like a top-up is never sent twice.
+ * By default, GET, HEAD, PUT, DELETE and OPTIONS requests are idempotent.
+ * <p>
+ * The delay between two attempts grows exponentially from {@link #getInitialBackoff()} up to
+ * {@link #getMaxBackoff()}, and is randomly reduced by up to {@link #getJitter()} of its value so that concurrent
+ * clients don't retry in lockstep.
+ */
+@Getter
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(500);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private static final RetryPolicy NONE = new RetryPolicy(1, null, null, null, null);
+
+    /**
+     * Maximum number of attempts, including the first one.
+     */
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    /**
+     * Fraction of the backoff, between 0 and 1, by which each delay is randomly reduced.
+     */
+    private final double jitter;
+
+    @Builder
+    @SuppressWarnings("unused")
+    public RetryPolicy(Integer maxAttempts, Duration initialBackoff, Duration maxBackoff,
+                       Double multiplier, Double jitter) {
+
+        this.maxAttempts = maxAttempts == null ? DEFAULT_MAX_ATTEMPTS : maxAttempts;
+        this.initialBackoff = initialBackoff == null ? DEFAULT_INITIAL_BACKOFF : initialBackoff;
+        this.maxBackoff = maxBackoff == null ? DEFAULT_MAX_BACKOFF : maxBackoff;
+        this.multiplier = multiplier == null ? DEFAULT_MULTIPLIER : multiplier;
+        this.jitter = jitter == null ? DEFAULT_JITTER : jitter;
+
+        if (this.maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be greater than zero");
+        }
+        if (this.multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be greater than or equal to one");
+        }
+        if (this.jitter < 0 || this.jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1");
+        }
+    }
+
+    public RetryPolicy() {
+        this(null, null, null, null, null);
+    }
+
+    /**
+     * @return a policy never retrying failed requests
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * @param attempt - The number of the attempt that just failed, starting at 1
+     * @return the delay to wait before the next attempt
+     */
+    public Duration getBackoff(int attempt) {
+        double backoff = initialBackoff.toMillis() * Math.pow(multiplier, Math.max(0, attempt - 1));
+        backoff = Math.min(backoff, maxBackoff.toMillis());
+        backoff -= backoff * jitter * ThreadLocalRandom.current().nextDouble();
+        return Duration.ofMillis((long) backoff);
+    }
+}
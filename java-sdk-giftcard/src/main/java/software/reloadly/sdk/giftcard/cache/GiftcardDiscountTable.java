@@ -0,0 +1,77 @@
+package software.reloadly.sdk.giftcard.cache;
+
+import lombok.Builder;
+import software.reloadly.sdk.core.cache.SyncedRefreshedTable;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.giftcard.dto.response.GiftcardDiscount;
+import software.reloadly.sdk.giftcard.operation.GiftcardDiscountsOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Holds the discount of every product in memory, so that commissions are looked up locally on every order.
+ * <p>
+ * The discounts are retrieved from the API on first use, then again every {@link #DEFAULT_REFRESH_INTERVAL} by
+ * default. Product discounts carry no update time, so a refresh walks every page and only the discounts which differ
+ * from the cached ones replace them. The previous discounts are kept if a refresh fails.
+ */
+public class GiftcardDiscountTable extends SyncedRefreshedTable<GiftcardDiscount> {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(1);
+
+    private final OperationsProvider<GiftcardDiscountsOperations> operationsProvider;
+
+    /**
+     * @param operationsProvider - Provides the discount operations to retrieve the discounts with,
+     *                           e.g. {@code giftcardAPI::discounts}
+     * @param refreshInterval    - Interval between two background refreshes, zero to disable them
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public GiftcardDiscountTable(OperationsProvider<GiftcardDiscountsOperations> operationsProvider,
+                                 Duration refreshInterval) {
+
+        super(refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval,
+                "reloadly-giftcard-discount-table-refresh", "Product id", GiftcardDiscountTable::getProductId, null);
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        this.operationsProvider = operationsProvider;
+    }
+
+    /**
+     * @param productId - The id of the product
+     * @return the discount of the product, or null if it has none
+     * @throws ReloadlyException if the discounts weren't retrieved yet and the request failed
+     */
+    public GiftcardDiscount getByProductId(Long productId) throws ReloadlyException {
+        return getEntry(productId);
+    }
+
+    /**
+     * Retrieves the discount of a single product from the API, e.g. once told it changed, and merges it into the
+     * table.
+     *
+     * @param productId - The id of the product
+     * @return the discount of the product
+     * @throws ReloadlyException if the request failed
+     */
+    public GiftcardDiscount refreshProduct(Long productId) throws ReloadlyException {
+        return refreshEntry(productId);
+    }
+
+    @Override
+    protected List<GiftcardDiscount> fetchAll() throws ReloadlyException {
+        return operationsProvider.get().listAll().fetchAll(CATALOG_PARALLELISM);
+    }
+
+    @Override
+    protected GiftcardDiscount fetch(Long productId) throws ReloadlyException {
+        return operationsProvider.get().getByProductId(productId).execute();
+    }
+
+    private static Long getProductId(GiftcardDiscount discount) {
+        return discount.getProduct() == null ? null : discount.getProduct().getId();
+    }
+}
@@ -0,0 +1,189 @@
+package software.reloadly.sdk.giftcard.cache;
+
+import com.neovisionaries.i18n.CountryCode;
+import lombok.Builder;
+import software.reloadly.sdk.core.cache.RefreshedTable;
+import software.reloadly.sdk.core.cache.SyncedTable;
+import software.reloadly.sdk.core.exception.APIException;
+import software.reloadly.sdk.core.exception.ReloadlyException;
+import software.reloadly.sdk.core.internal.client.OperationsProvider;
+import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.giftcard.dto.response.GiftcardProduct;
+import software.reloadly.sdk.giftcard.filter.GiftcardProductFilter;
+import software.reloadly.sdk.giftcard.operation.GiftcardProductOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the giftcard products in memory, looked up by product id, by country or by brand without calling the API.
+ * <p>
+ * The products are retrieved from the API on first use, then again every {@link #DEFAULT_REFRESH_INTERVAL} by
+ * default. Products carry no update time, so a refresh walks every page, but only the products which differ from the
+ * cached ones replace them, and the country and brand indexes are only rebuilt when a product changed. The previous
+ * products are kept if a refresh fails.
+ * <p>
+ * The products are listed with the filter given at construction, use one catalog per filter.
+ */
+public class GiftcardProductCatalog extends RefreshedTable {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(1);
+
+    private final OperationsProvider<GiftcardProductOperations> operationsProvider;
+    private final GiftcardProductFilter filter;
+    private final SyncedTable<Long, GiftcardProduct> table = new SyncedTable<>(GiftcardProduct::getId, null);
+    private volatile Indexes indexes;
+    private volatile Instant refreshedAt;
+
+    /**
+     * @param operationsProvider - Provides the product operations to retrieve the products with,
+     *                           e.g. {@code giftcardAPI::products}
+     * @param filter             - The filter to list the products with, may be null
+     * @param refreshInterval    - Interval between two background refreshes, zero to disable them
+     */
+    @Builder
+    @SuppressWarnings("unused")
+    public GiftcardProductCatalog(OperationsProvider<GiftcardProductOperations> operationsProvider,
+                                  GiftcardProductFilter filter, Duration refreshInterval) {
+
+        super(refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval,
+                "reloadly-giftcard-product-catalog-refresh");
+        Asserter.assertNotNull(operationsProvider, "Operations provider");
+        this.operationsProvider = operationsProvider;
+        this.filter = filter;
+    }
+
+    /**
+     * @param productId - The id of the product
+     * @return the product, or null if it isn't listed
+     * @throws ReloadlyException if the products weren't retrieved yet and the request failed
+     */
+    public GiftcardProduct getById(Long productId) throws ReloadlyException {
+        Asserter.assertNotNull(productId, "Product id");
+        return getIndexes().products.get(productId);
+    }
+
+    /**
+     * @return every product
+     * @throws ReloadlyException if the products weren't retrieved yet and the request failed
+     */
+    public Collection<GiftcardProduct> list() throws ReloadlyException {
+        return getIndexes().products.values();
+    }
+
+    /**
+     * @param countryCode - The code of the country
+     * @return the products of the country, ordered by product id
+     * @throws ReloadlyException if the products weren't retrieved yet and the request failed
+     */
+    public List<GiftcardProduct> listByCountryCode(CountryCode countryCode) throws ReloadlyException {
+        Asserter.assertNotNull(countryCode, "Country code");
+        return getIndexes().byCountry.getOrDefault(countryCode.getAlpha2(), Collections.emptyList());
+    }
+
+    /**
+     * @param brandId - The id of the brand
+     * @return the products of the brand, ordered by product id
+     * @throws ReloadlyException if the products weren't retrieved yet and the request failed
+     */
+    public List<GiftcardProduct> listByBrandId(Long brandId) throws ReloadlyException {
+        Asserter.assertNotNull(brandId, "Brand id");
+        return getIndexes().byBrand.getOrDefault(brandId, Collections.emptyList());
+    }
+
+    /**
+     * Retrieves a single product from the API, e.g. once told it changed, and merges it into the catalog. A product
+     * which no longer exists or no longer matches the filter of the catalog is removed from it.
+     *
+     * @param productId - The id of the product
+     * @return the product, or null if it isn't listed anymore
+     * @throws ReloadlyException if the request failed
+     */
+    public GiftcardProduct refreshProduct(Long productId) throws ReloadlyException {
+        Asserter.assertNotNull(productId, "Product id");
+        GiftcardProduct product;
+        try {
+            product = operationsProvider.get().getById(productId).execute();
+        } catch (APIException e) {
+            if (e.getHttpStatusCode() != 404) {
+                throw e;
+            }
+            product = null;
+        }
+        if (product != null && filter != null && !filter.matches(product)) {
+            product = null;
+        }
+
+        synchronized (getRefreshLock()) {
+            boolean changed = product == null ? table.remove(productId) : table.put(product);
+            if (changed && indexes != null) {
+                indexes = new Indexes(table.asMap());
+            }
+        }
+        return product;
+    }
+
+    /**
+     * @return the time of the last complete refresh, or null if there is none yet
+     */
+    public Instant getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    /**
+     * Retrieves every product from the API and merges the changed ones into the catalog.
+     */
+    @Override
+    protected int load() throws ReloadlyException {
+        List<GiftcardProduct> products = operationsProvider.get().listAll(filter).fetchAll(CATALOG_PARALLELISM);
+        int changed = table.sync(products, true);
+        if (changed > 0 || indexes == null) {
+            indexes = new Indexes(table.asMap());
+        }
+        refreshedAt = Instant.now();
+        return changed;
+    }
+
+    @Override
+    protected boolean isLoaded() {
+        return indexes != null;
+    }
+
+    private Indexes getIndexes() throws ReloadlyException {
+        ensureLoaded();
+        return indexes;
+    }
+
+    /**
+     * The products and their secondary indexes, built together so that lookups never see them disagree.
+     */
+    private static class Indexes {
+
+        private final Map<Long, GiftcardProduct> products;
+        private final Map<String, List<GiftcardProduct>> byCountry = new HashMap<>();
+        private final Map<Long, List<GiftcardProduct>> byBrand = new HashMap<>();
+
+        private Indexes(Map<Long, GiftcardProduct> products) {
+            this.products = products;
+            List<GiftcardProduct> sorted = new ArrayList<>(products.values());
+            sorted.sort((first, second) -> Long.compare(first.getId(), second.getId()));
+            for (GiftcardProduct product : sorted) {
+                if (product.getCountry() != null && product.getCountry().getIsoName() != null) {
+                    byCountry.computeIfAbsent(product.getCountry().getIsoName(), key -> new ArrayList<>())
+                            .add(product);
+                }
+                if (product.getBrand() != null && product.getBrand().getId() != null) {
+                    byBrand.computeIfAbsent(product.getBrand().getId(), key -> new ArrayList<>()).add(product);
+                }
+            }
+            byCountry.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            byBrand.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        }
+    }
+}
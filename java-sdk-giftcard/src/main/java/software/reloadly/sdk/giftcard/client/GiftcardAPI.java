@@ -2,9 +2,8 @@ package software.reloadly.sdk.giftcard.client;
 
 import lombok.Builder;
 import okhttp3.HttpUrl;
-import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import software.reloadly.sdk.authentication.client.AuthenticationAPI;
+import software.reloadly.sdk.authentication.dto.response.TokenHolder;
 import software.reloadly.sdk.core.enums.Environment;
 import software.reloadly.sdk.core.enums.Service;
 import software.reloadly.sdk.core.exception.ReloadlyException;
@@ -13,23 +12,28 @@ import software.reloadly.sdk.core.internal.dto.request.CustomizableRequest;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.enums.Version;
 import software.reloadly.sdk.core.internal.net.ServiceAPI;
+import software.reloadly.sdk.core.internal.token.AccessToken;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.VersionUtil;
 import software.reloadly.sdk.core.net.HttpOptions;
 import software.reloadly.sdk.giftcard.operation.*;
 
-import java.io.FileReader;
 import java.util.List;
 
-import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.removeStart;
 import static software.reloadly.sdk.core.enums.Environment.LIVE;
 import static software.reloadly.sdk.core.enums.Service.GIFTCARD;
 import static software.reloadly.sdk.core.enums.Service.GIFTCARD_SANDBOX;
 
 public class GiftcardAPI extends ServiceAPI {
 
+    private static final String SDK_VERSION = VersionUtil.getVersion(GiftcardAPI.class);
+
     private final HttpUrl baseUrl;
     private final Environment environment;
+    private final List<String> redactHeaders;
+    private volatile AuthenticationAPI authenticationAPI;
 
     @Builder
     @SuppressWarnings("unused")
@@ -38,15 +42,16 @@ public class GiftcardAPI extends ServiceAPI {
                        List<String> redactHeaders, HttpOptions options, Boolean enableTelemetry) {
 
         super(clientId, clientSecret, accessToken, enableLogging,
-                redactHeaders, options, enableTelemetry, getSDKVersion(), Version.GIFTCARD_V1.getValue());
+                redactHeaders, options, enableTelemetry, SDK_VERSION, Version.GIFTCARD_V1.getValue());
 
         validateCredentials();
         this.environment = environment;
+        this.redactHeaders = redactHeaders;
         baseUrl = createBaseUrl(environment);
     }
 
     public GiftcardProductOperations products() throws ReloadlyException {
-        return new GiftcardProductOperations(client, baseUrl, retrieveAccessToken());
+        return new GiftcardProductOperations(client, baseUrl, retrieveAccessToken(), this::retrieveAccessToken);
     }
 
     public GiftcardRedeemInstructionsOperations redeemInstructions() throws ReloadlyException {
@@ -54,17 +59,29 @@ public class GiftcardAPI extends ServiceAPI {
     }
 
     public GiftcardDiscountsOperations discounts() throws ReloadlyException {
-        return new GiftcardDiscountsOperations(client, baseUrl, retrieveAccessToken());
+        return new GiftcardDiscountsOperations(client, baseUrl, retrieveAccessToken(), this::retrieveAccessToken);
     }
 
     public GiftcardTransactionsOperations transactionsHistory() throws ReloadlyException {
-        return new GiftcardTransactionsOperations(client, baseUrl, retrieveAccessToken());
+        return new GiftcardTransactionsOperations(client, baseUrl, retrieveAccessToken(), this::retrieveAccessToken);
     }
 
     public GiftcardOrdersOperations orders() throws ReloadlyException {
         return new GiftcardOrdersOperations(client, baseUrl, retrieveAccessToken());
     }
 
+    /**
+     * Fetches the access token, unless one was provided, and opens the connections to the authentication and
+     * giftcard servers, so that the first requests don't pay for the token retrieval and the TLS handshakes.
+     * Meant to be called once at startup.
+     *
+     * @throws ReloadlyException if the access token could not be retrieved or a connection could not be opened
+     */
+    public void warmUp() throws ReloadlyException {
+        retrieveAccessToken();
+        openConnection(baseUrl);
+    }
+
     /**
      * Retrieve a new API access token to use on new calls.
      * This is useful when the token is about to expire or already has.
@@ -73,28 +90,28 @@ public class GiftcardAPI extends ServiceAPI {
      */
     @Override
     public void refreshAccessToken(Request<?> request) throws ReloadlyException {
-        this.accessToken = null;
+        Service service = getServiceByEnvironment(environment);
         CustomizableRequest<?> customizableRequest = (CustomizableRequest<?>) request;
-        String newAccessToken = retrieveAccessToken();
+        String rejectedAccessToken = removeStart(
+                customizableRequest.getHeader(HttpHeader.AUTHORIZATION), "Bearer ");
+        String newAccessToken = tokenManager.refreshAccessToken(clientId, service, rejectedAccessToken,
+                () -> doGetAccessToken(service)).getValue();
+        replaceAccessToken(rejectedAccessToken, newAccessToken);
         customizableRequest.addHeader(HttpHeader.AUTHORIZATION, "Bearer " + newAccessToken);
     }
 
-
     private String retrieveAccessToken() throws ReloadlyException {
-        String accessToken = doGetAccessToken(getServiceByEnvironment(environment));
-        if (cacheAccessToken) {
-            this.accessToken = accessToken;
+        String accessToken = this.accessToken;
+        if (isNotBlank(accessToken)) {
+            return accessToken;
         }
-        return accessToken;
+        Service service = getServiceByEnvironment(environment);
+        return tokenManager.getAccessToken(clientId, service, () -> doGetAccessToken(service)).getValue();
     }
 
-    private String doGetAccessToken(Service service) throws ReloadlyException {
-        return isNotBlank(accessToken) ? accessToken : AuthenticationAPI.builder().service(service)
-                .clientId(clientId)
-                .clientSecret(clientSecret)
-                .enableLogging(enableLogging)
-                .enableTelemetry(enableTelemetry)
-                .build().clientCredentials().getAccessToken().execute().getToken();
+    private AccessToken doGetAccessToken(Service service) throws ReloadlyException {
+        TokenHolder tokenHolder = getAuthenticationAPI(service).clientCredentials().getAccessToken().execute();
+        return AccessToken.of(tokenHolder.getToken(), tokenHolder.getExpiresIn());
     }
 
     private HttpUrl createBaseUrl(Environment environment) {
@@ -113,24 +130,24 @@ public class GiftcardAPI extends ServiceAPI {
         return (environment != null && environment.equals(LIVE)) ? GIFTCARD : GIFTCARD_SANDBOX;
     }
 
-    private static String getSDKVersion() {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        Model model;
-        try {
-            FileReader fileReader = new FileReader("./java-sdk-giftcard/pom.xml");
-            model = reader.read(fileReader);
-        } catch (Exception e) {
-            try {
-                model = reader.read(new FileReader("../java-sdk-giftcard/pom.xml"));
-            } catch (Exception ex) {
-                return "MISSING";
-            }
-
-            if (model == null) {
-                return "MISSING";
+    private AuthenticationAPI getAuthenticationAPI(Service service) {
+        AuthenticationAPI authenticationAPI = this.authenticationAPI;
+        if (authenticationAPI == null) {
+            synchronized (this) {
+                authenticationAPI = this.authenticationAPI;
+                if (authenticationAPI == null) {
+                    authenticationAPI = AuthenticationAPI.builder().service(service)
+                            .clientId(clientId)
+                            .clientSecret(clientSecret)
+                            .enableLogging(enableLogging)
+                            .redactHeaders(redactHeaders)
+                            .options(options)
+                            .enableTelemetry(enableTelemetry)
+                            .build();
+                    this.authenticationAPI = authenticationAPI;
+                }
             }
         }
-
-        return isBlank(model.getVersion()) ? "MISSING" : model.getVersion();
+        return authenticationAPI;
     }
 }
@@ -1,7 +1,6 @@
 package software.reloadly.sdk.giftcard.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.google.gson.annotations.SerializedName;
 import com.neovisionaries.i18n.CountryCode;
 import lombok.*;
 
@@ -20,7 +19,6 @@ public class GiftCardOrderRequest implements Serializable {
     private final BigDecimal unitPrice;
     private final String recipientEmail;
     @JsonProperty("recipientPhoneDetails")
-    @SerializedName("recipientPhoneDetails")
     private final Phone recipientPhone;
     private final String customIdentifier;
 
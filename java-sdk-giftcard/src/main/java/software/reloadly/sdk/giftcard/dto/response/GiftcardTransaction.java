@@ -1,5 +1,6 @@
 package software.reloadly.sdk.giftcard.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -7,10 +8,13 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import software.reloadly.sdk.core.internal.adapter.JackSonDateDeserializer;
+import software.reloadly.sdk.core.internal.util.DateUtil;
 import software.reloadly.sdk.giftcard.enums.GiftCardTransactionStatus;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Date;
 
 @Getter
@@ -37,6 +41,22 @@ public class GiftcardTransaction implements Serializable {
     @JsonDeserialize(using = JackSonDateDeserializer.class)
     private Date date;
 
+    /**
+     * @return the creation time of the transaction as an instant, or null if missing
+     */
+    @JsonIgnore
+    public Instant getDateAsInstant() {
+        return DateUtil.toInstant(date);
+    }
+
+    /**
+     * @return the creation time of the transaction in the default time zone of the JVM, or null if missing
+     */
+    @JsonIgnore
+    public LocalDateTime getDateAsLocalDateTime() {
+        return DateUtil.toLocalDateTime(date);
+    }
+
     @Getter
     @EqualsAndHashCode
     @SuppressWarnings("unused")
@@ -4,6 +4,8 @@ import com.neovisionaries.i18n.CountryCode;
 import lombok.Getter;
 import software.reloadly.sdk.core.internal.filter.QueryFilter;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.giftcard.dto.response.GiftcardProduct;
+import software.reloadly.sdk.giftcard.enums.GiftcardDenominationType;
 import software.reloadly.sdk.giftcard.operation.GiftcardProductOperations;
 
 /**
@@ -58,4 +60,34 @@ public class GiftcardProductFilter extends QueryFilter {
         parameters.put(INCLUDE_FIXED, includeFixed);
         return this;
     }
+
+    /**
+     * Applies the criteria of this filter to a product retrieved on its own, the product name matching when it is
+     * contained in the name of the product, ignoring case.
+     *
+     * @param product - The product
+     * @return whether the product would be listed with this filter
+     */
+    public boolean matches(GiftcardProduct product) {
+        Asserter.assertNotNull(product, "Product");
+        Object productName = parameters.get(PRODUCT_NAME);
+        if (productName != null && (product.getName() == null
+                || !product.getName().toLowerCase().contains(productName.toString().toLowerCase()))) {
+            return false;
+        }
+        Object countryCode = parameters.get(COUNTRY_CODE);
+        if (countryCode != null && (product.getCountry() == null
+                || !countryCode.equals(product.getCountry().getIsoName()))) {
+            return false;
+        }
+
+        GiftcardDenominationType denominationType = product.getDenominationType();
+        if (denominationType == null) {
+            return true;
+        }
+        boolean range = denominationType != GiftcardDenominationType.FIXED;
+        boolean fixed = denominationType != GiftcardDenominationType.RANGE;
+        return range && Boolean.TRUE.equals(parameters.get(INCLUDE_RANGE))
+                || fixed && Boolean.TRUE.equals(parameters.get(INCLUDE_FIXED));
+    }
 }
@@ -4,11 +4,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import software.reloadly.sdk.core.internal.filter.QueryFilter;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.util.DateUtil;
 import software.reloadly.sdk.giftcard.enums.GiftCardTransactionStatus;
 import software.reloadly.sdk.giftcard.operation.GiftcardTransactionsOperations;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Class used to filter the results received when calling the giftcard transactions endpoint.
@@ -52,14 +52,14 @@ public class GiftcardTransactionFilter extends QueryFilter {
     @SuppressWarnings("unused")
     public GiftcardTransactionFilter startDate(LocalDateTime date) {
         Asserter.assertNotNull(date, "Start date");
-        parameters.put(START_DATE, date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        parameters.put(START_DATE, date.format(DateUtil.DATE_TIME_FORMATTER));
         return this;
     }
 
     @SuppressWarnings("unused")
     public GiftcardTransactionFilter endDate(LocalDateTime date) {
         Asserter.assertNotNull(date, "End date");
-        parameters.put(END_DATE, date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        parameters.put(END_DATE, date.format(DateUtil.DATE_TIME_FORMATTER));
         return this;
     }
 
@@ -6,6 +6,8 @@ import okhttp3.OkHttpClient;
 import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 import software.reloadly.sdk.giftcard.dto.response.GiftcardDiscount;
 
 public class GiftcardDiscountsOperations extends BaseGiftcardOperation {
@@ -17,6 +19,14 @@ public class GiftcardDiscountsOperations extends BaseGiftcardOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public GiftcardDiscountsOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                                       AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public Request<Page<GiftcardDiscount>> list() {
         return createGetRequest(getBuilder(END_POINT).build().toString(),
                 new TypeReference<Page<GiftcardDiscount>>() {
@@ -24,6 +34,16 @@ public class GiftcardDiscountsOperations extends BaseGiftcardOperation {
         );
     }
 
+    /**
+     * Walks every page of the product discounts, fetching the pages lazily as the discounts are consumed.
+     *
+     * @return a paginator over the product discounts
+     */
+    public Paginator<GiftcardDiscount> listAll() {
+        return createPaginator(getBuilder(END_POINT), new TypeReference<Page<GiftcardDiscount>>() {
+        });
+    }
+
     public Request<GiftcardDiscount> getByProductId(Long productId) {
         Asserter.assertNotNull(productId, "Product id");
         Asserter.assertGreaterThanZero(productId, "Product id");
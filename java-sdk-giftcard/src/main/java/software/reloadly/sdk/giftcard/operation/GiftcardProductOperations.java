@@ -7,10 +7,13 @@ import okhttp3.OkHttpClient;
 import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 import software.reloadly.sdk.giftcard.dto.response.GiftcardProduct;
 import software.reloadly.sdk.giftcard.filter.GiftcardProductFilter;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public class GiftcardProductOperations extends BaseGiftcardOperation {
 
@@ -21,6 +24,14 @@ public class GiftcardProductOperations extends BaseGiftcardOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public GiftcardProductOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                                     AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public Request<Page<GiftcardProduct>> list() {
         return createGetRequest(getBuilder(END_POINT).build().toString(),
                 new TypeReference<Page<GiftcardProduct>>() {
@@ -35,6 +46,32 @@ public class GiftcardProductOperations extends BaseGiftcardOperation {
         );
     }
 
+    /**
+     * Streams the products of the requested page to the given consumer as they are decoded from the response,
+     * without holding the whole page in memory.
+     *
+     * @param filter   - The filter to apply, may be null
+     * @param consumer - Receives each product of the page
+     * @return a request executing to the number of products handed to the consumer
+     */
+    public Request<Long> list(GiftcardProductFilter filter, Consumer<? super GiftcardProduct> consumer) {
+        return createStreamingGetRequest(buildFilters(filter, END_POINT).build().toString(),
+                GiftcardProduct.class, consumer
+        );
+    }
+
+    /**
+     * Walks every page of the products, fetching the pages lazily as the products are consumed. The page and size of
+     * the given filter are ignored, use {@link Paginator#withPageSize(int)} instead.
+     *
+     * @param filter - The filter to apply, may be null
+     * @return a paginator over the products
+     */
+    public Paginator<GiftcardProduct> listAll(GiftcardProductFilter filter) {
+        return createPaginator(buildFilters(filter, END_POINT), new TypeReference<Page<GiftcardProduct>>() {
+        });
+    }
+
     public Request<List<GiftcardProduct>> listByCountryCode(CountryCode countryCode) {
         Asserter.assertNotNull(countryCode, "Country code");
         HttpUrl.Builder builder = getBuilder(PATH_SEGMENT_COUNTRIES)
@@ -52,6 +89,23 @@ public class GiftcardProductOperations extends BaseGiftcardOperation {
         });
     }
 
+    /**
+     * Streams the products of the given country to the given consumer as they are decoded from the response,
+     * without holding the whole list in memory.
+     *
+     * @param countryCode - The country to list the products of
+     * @param filter      - The filter to apply, may be null
+     * @param consumer    - Receives each product of the country
+     * @return a request executing to the number of products handed to the consumer
+     */
+    public Request<Long> listByCountryCode(CountryCode countryCode, GiftcardProductFilter filter,
+                                          Consumer<? super GiftcardProduct> consumer) {
+        Asserter.assertNotNull(countryCode, "Country code");
+        HttpUrl.Builder builder = buildFilters(filter, PATH_SEGMENT_COUNTRIES)
+                .addPathSegment(countryCode.getAlpha2()).addPathSegment(END_POINT);
+        return createStreamingGetRequest(builder.toString(), GiftcardProduct.class, consumer);
+    }
+
     public Request<GiftcardProduct> getById(Long productId) {
         validateProductId(productId);
         HttpUrl.Builder builder = getBuilder(END_POINT).addPathSegment(productId.toString());
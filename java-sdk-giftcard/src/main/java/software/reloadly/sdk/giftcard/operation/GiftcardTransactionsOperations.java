@@ -6,6 +6,8 @@ import okhttp3.OkHttpClient;
 import software.reloadly.sdk.core.dto.response.Page;
 import software.reloadly.sdk.core.internal.dto.request.interfaces.Request;
 import software.reloadly.sdk.core.internal.util.Asserter;
+import software.reloadly.sdk.core.internal.pagination.Paginator;
+import software.reloadly.sdk.core.internal.token.AccessTokenSupplier;
 import software.reloadly.sdk.giftcard.dto.response.GiftcardTransaction;
 import software.reloadly.sdk.giftcard.filter.GiftcardTransactionFilter;
 
@@ -17,6 +19,14 @@ public class GiftcardTransactionsOperations extends BaseGiftcardOperation {
         super(baseUrl, apiToken, client);
     }
 
+    /**
+     * @param accessTokenSupplier - Supplies the token of the pages requested after the operations were created
+     */
+    public GiftcardTransactionsOperations(OkHttpClient client, HttpUrl baseUrl, String apiToken,
+                                          AccessTokenSupplier accessTokenSupplier) {
+        super(baseUrl, apiToken, accessTokenSupplier, client);
+    }
+
     public Request<Page<GiftcardTransaction>> list() {
         return createGetRequest(getBuilder(END_POINT).build().toString(),
                 new TypeReference<Page<GiftcardTransaction>>() {
@@ -31,6 +41,18 @@ public class GiftcardTransactionsOperations extends BaseGiftcardOperation {
         );
     }
 
+    /**
+     * Walks every page of the transactions, fetching the pages lazily as the transactions are consumed. The page and size of
+     * the given filter are ignored, use {@link Paginator#withPageSize(int)} instead.
+     *
+     * @param filter - The filter to apply, may be null
+     * @return a paginator over the transactions
+     */
+    public Paginator<GiftcardTransaction> listAll(GiftcardTransactionFilter filter) {
+        return createPaginator(buildFilters(filter, END_POINT), new TypeReference<Page<GiftcardTransaction>>() {
+        });
+    }
+
     public Request<GiftcardTransaction> getById(Long transactionId) {
         Asserter.assertNotNull(transactionId, "Transaction id");
         Asserter.assertGreaterThanZero(transactionId, "Transaction id");
@@ -0,0 +1,103 @@
+package software.reloadly.sdk.giftcard.cache.unit;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.core.internal.constant.HttpHeader;
+import software.reloadly.sdk.core.internal.enums.Version;
+import software.reloadly.sdk.giftcard.cache.GiftcardDiscountTable;
+import software.reloadly.sdk.giftcard.client.GiftcardAPI;
+import software.reloadly.sdk.giftcard.dto.response.GiftcardDiscount;
+import software.reloadly.sdk.giftcard.util.GiftcardAPIMockServer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GiftcardDiscountTableTest {
+
+    private static final String DISCOUNT = "src/test/resources/discount/discount_response.json";
+    private static final String PAGED_DISCOUNTS = "src/test/resources/discount/discounts_paged_unfiltered_response.json";
+
+    private GiftcardAPIMockServer server;
+    private GiftcardDiscountTable table;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new GiftcardAPIMockServer();
+        GiftcardAPI giftcardAPI = GiftcardAPI.builder().accessToken(GiftcardAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = giftcardAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(giftcardAPI, HttpUrl.parse(server.getBaseUrl()));
+        table = GiftcardDiscountTable.builder().operationsProvider(giftcardAPI::discounts)
+                .refreshInterval(Duration.ZERO).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        table.close();
+        server.stop();
+    }
+
+    @Test
+    public void testDiscountsAreRetrievedOnce() throws Exception {
+        enqueueSinglePage("0.7");
+
+        GiftcardDiscount discount = table.getByProductId(2L);
+
+        assertThat(discount.getPercentage(), equalTo(0.7f));
+        assertThat(discount.getProduct().getName(), equalTo("Amazon UK"));
+        assertThat(table.getByProductId(1L).getPercentage(), equalTo(7.5f));
+        assertThat(table.list(), hasSize(300));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testOnlyChangedDiscountsAreReplaced() throws Exception {
+        enqueueSinglePage("0.7");
+        enqueueSinglePage("0.8");
+        GiftcardDiscount unchanged = table.getByProductId(1L);
+
+        assertThat(table.refresh(), equalTo(1));
+        assertThat(table.getByProductId(2L).getPercentage(), equalTo(0.8f));
+        assertThat(table.getByProductId(1L), sameInstance(unchanged));
+        assertThat(table.getRefreshedAt(), notNullValue());
+    }
+
+    @Test
+    public void testSingleProductIsRefreshed() throws Exception {
+        enqueueSinglePage("0.7");
+        table.list();
+        server.jsonResponse(DISCOUNT, 200);
+
+        GiftcardDiscount discount = table.refreshProduct(1L);
+
+        assertThat(table.getByProductId(discount.getProduct().getId()), equalTo(discount));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testRefreshProductRejectsInvalidIds() {
+        assertThrows(IllegalArgumentException.class, () -> table.refreshProduct(null));
+        assertThrows(IllegalArgumentException.class, () -> table.refreshProduct(0L));
+        assertThrows(IllegalArgumentException.class, () -> table.refreshProduct(-1L));
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    private void enqueueSinglePage(String amazonDiscount) throws IOException {
+        String body = new String(Files.readAllBytes(Paths.get(PAGED_DISCOUNTS)))
+                .replace("\"totalElements\": 13408", "\"totalElements\": 300")
+                .replace("\"totalPages\": 45", "\"totalPages\": 1")
+                .replace("\"discountPercentage\": 0.7\n", "\"discountPercentage\": " + amazonDiscount + "\n");
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .addHeader(HttpHeader.CONTENT_TYPE, Version.GIFTCARD_V1.getValue()).setBody(body));
+    }
+}
@@ -0,0 +1,129 @@
+package software.reloadly.sdk.giftcard.cache.unit;
+
+import com.neovisionaries.i18n.CountryCode;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.reloadly.sdk.giftcard.cache.GiftcardProductCatalog;
+import software.reloadly.sdk.giftcard.client.GiftcardAPI;
+import software.reloadly.sdk.giftcard.dto.response.GiftcardProduct;
+import software.reloadly.sdk.giftcard.filter.GiftcardProductFilter;
+import software.reloadly.sdk.giftcard.util.GiftcardAPIMockServer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GiftcardProductCatalogTest {
+
+    private static final String PRODUCT = "src/test/resources/product/product_by_id_response.json";
+    private static final String PAGED_PRODUCTS = "src/test/resources/product/products_paged_unfiltered_response.json";
+    private static final String PRODUCT_NOT_FOUND = "src/test/resources/error/product_not_found.json";
+
+    private GiftcardAPIMockServer server;
+    private GiftcardAPI giftcardAPI;
+    private GiftcardProductCatalog catalog;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new GiftcardAPIMockServer();
+        giftcardAPI = GiftcardAPI.builder().accessToken(GiftcardAPIMockServer.ACCESS_TOKEN).build();
+        Field baseUrlField = giftcardAPI.getClass().getDeclaredField("baseUrl");
+        baseUrlField.setAccessible(true);
+        baseUrlField.set(giftcardAPI, HttpUrl.parse(server.getBaseUrl()));
+        catalog = GiftcardProductCatalog.builder().operationsProvider(giftcardAPI::products)
+                .refreshInterval(Duration.ZERO).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        catalog.close();
+        server.stop();
+    }
+
+    @Test
+    public void testProductsAreRetrievedOnce() throws Exception {
+        server.jsonResponse(PAGED_PRODUCTS, 200);
+
+        GiftcardProduct product = catalog.getById(2L);
+
+        assertThat(product.getName(), equalTo("Amazon UK"));
+        assertThat(catalog.getById(100000L), nullValue());
+        assertThat(catalog.list(), hasSize(200));
+        assertThat(catalog.listByCountryCode(CountryCode.US), hasSize(7));
+        assertThat(catalog.listByCountryCode(CountryCode.AQ), empty());
+        assertThat(ids(catalog.listByBrandId(2L)), contains(2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+        assertThat(catalog.getRefreshedAt(), notNullValue());
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    public void testUnchangedProductsAreKept() throws Exception {
+        server.jsonResponse(PAGED_PRODUCTS, 200);
+        server.jsonResponse(PAGED_PRODUCTS, 200);
+        GiftcardProduct product = catalog.getById(2L);
+        List<GiftcardProduct> brandProducts = catalog.listByBrandId(2L);
+
+        assertThat(catalog.refresh(), equalTo(0));
+        assertThat(catalog.getById(2L), sameInstance(product));
+        assertThat(catalog.listByBrandId(2L), sameInstance(brandProducts));
+    }
+
+    @Test
+    public void testSingleProductIsRefreshed() throws Exception {
+        server.jsonResponse(PAGED_PRODUCTS, 200);
+        GiftcardProduct cached = catalog.getById(10L);
+        server.jsonResponse(PRODUCT, 200);
+
+        GiftcardProduct product = catalog.refreshProduct(10L);
+
+        assertThat(product, not(equalTo(cached)));
+        assertThat(catalog.getById(10L), sameInstance(product));
+        assertThat(catalog.listByCountryCode(CountryCode.AU), hasItem(sameInstance(product)));
+        assertThat(catalog.listByBrandId(3L), hasItem(sameInstance(product)));
+    }
+
+    @Test
+    public void testMissingProductIsRemoved() throws Exception {
+        server.jsonResponse(PAGED_PRODUCTS, 200);
+        catalog.getById(10L);
+        server.jsonResponse(PRODUCT_NOT_FOUND, 404);
+
+        assertThat(catalog.refreshProduct(10L), nullValue());
+        assertThat(catalog.getById(10L), nullValue());
+        assertThat(ids(catalog.listByBrandId(3L)), not(hasItem(10L)));
+        assertThat(catalog.list(), hasSize(199));
+    }
+
+    @Test
+    public void testProductNoLongerMatchingTheFilterIsRemoved() throws Exception {
+        catalog.close();
+        catalog = GiftcardProductCatalog.builder().operationsProvider(giftcardAPI::products)
+                .filter(new GiftcardProductFilter().includeFixed(false)).refreshInterval(Duration.ZERO).build();
+        server.jsonResponse(PAGED_PRODUCTS, 200);
+        catalog.getById(10L);
+        server.jsonResponse(PRODUCT, 200);
+
+        assertThat(catalog.refreshProduct(10L), nullValue());
+        assertThat(catalog.getById(10L), nullValue());
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> catalog.getById(null));
+        assertThrows(IllegalArgumentException.class, () -> catalog.listByCountryCode(null));
+        assertThrows(IllegalArgumentException.class, () -> GiftcardProductCatalog.builder().build());
+    }
+
+    private static List<Long> ids(List<GiftcardProduct> products) {
+        return products.stream().map(GiftcardProduct::getId).collect(Collectors.toList());
+    }
+}
@@ -34,6 +34,14 @@ public class GiftcardAPIMockServer {
         return server.takeRequest();
     }
 
+    public int getRequestCount() {
+        return server.getRequestCount();
+    }
+
+    public void enqueue(MockResponse response) {
+        server.enqueue(response);
+    }
+
     private String readTextFile(String path) throws IOException {
         return new String(Files.readAllBytes(Paths.get(path)));
     }